@@ -0,0 +1,113 @@
+package com.deigo.apiTarefas.benchmark;
+
+import com.deigo.apiTarefas.infrastructure.id.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * INSERT em lote no MySQL numa cópia da tabela {@code tarefas} ({@code CREATE TABLE ... LIKE}: mesma chave
+ * primária BINARY(16) e mesmos índices secundários), com IDs v4 aleatórios contra v7 ordenados por tempo.
+ * Cada trial parte de uma tabela nova já com {@code linhasIniciais} linhas, para a árvore da chave primária não
+ * caber em poucas páginas. No fim do trial imprime {@code DATA_LENGTH} (no InnoDB, o índice clusterizado da chave
+ * primária) e {@code INDEX_LENGTH} (secundários, que também guardam a chave primária) de
+ * {@code information_schema.TABLES}.
+ * <p>
+ * Precisa do MySQL do docker-compose ou de {@code -Djmh.mysql.url/-Djmh.mysql.usuario/-Djmh.mysql.senha}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class InsercaoUuidBenchmark {
+
+    private static final int TAMANHO_LOTE = 1000;
+    private static final byte[] USUARIO_ID = bytes(UUID.randomUUID());
+
+    @Param({"V4", "V7"})
+    public String gerador;
+
+    @Param({"200000"})
+    public int linhasIniciais;
+
+    private Connection conexao;
+    private PreparedStatement insert;
+    private Supplier<UUID> ids;
+    private String tabela;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        conexao = DriverManager.getConnection(
+                System.getProperty("jmh.mysql.url", "jdbc:mysql://localhost:3306/mydatabase?rewriteBatchedStatements=true"),
+                System.getProperty("jmh.mysql.usuario", "myuser"),
+                System.getProperty("jmh.mysql.senha", "secret"));
+        conexao.setAutoCommit(false);
+        ids = "V7".equals(gerador) ? UuidV7Generator::gerar : UUID::randomUUID;
+        tabela = "tarefas_jmh_" + gerador.toLowerCase();
+
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS " + tabela);
+            ddl.execute("CREATE TABLE " + tabela + " LIKE tarefas");
+        }
+        insert = conexao.prepareStatement("INSERT INTO " + tabela
+                + " (id, titulo, descricao, status, usuario_id, versao) VALUES (?, ?, ?, 'PENDENTE', ?, 0)");
+        for (int i = 0; i < linhasIniciais; i += TAMANHO_LOTE) {
+            inserirLote();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement consulta = conexao.createStatement()) {
+            // Sem ANALYZE, information_schema pode devolver estatísticas de antes das inserções
+            consulta.execute("ANALYZE TABLE " + tabela);
+            try (ResultSet tamanho = consulta.executeQuery("SELECT TABLE_ROWS, DATA_LENGTH, INDEX_LENGTH "
+                    + "FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + tabela + "'")) {
+                if (tamanho.next()) {
+                    System.out.printf("%n%s: ~%d linhas, chave primária (DATA_LENGTH) %.1f MiB, índices secundários (INDEX_LENGTH) %.1f MiB%n",
+                            gerador, tamanho.getLong(1), tamanho.getLong(2) / 1048576.0, tamanho.getLong(3) / 1048576.0);
+                }
+            }
+            consulta.execute("DROP TABLE " + tabela);
+        }
+        conexao.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TAMANHO_LOTE)
+    public int[] inserir() throws SQLException {
+        return inserirLote();
+    }
+
+    private int[] inserirLote() throws SQLException {
+        for (int i = 0; i < TAMANHO_LOTE; i++) {
+            insert.setBytes(1, bytes(ids.get()));
+            insert.setString(2, "Tarefa de benchmark");
+            insert.setString(3, "Inserida pelo InsercaoUuidBenchmark");
+            insert.setBytes(4, USUARIO_ID);
+            insert.addBatch();
+        }
+        int[] resultado = insert.executeBatch();
+        conexao.commit();
+        return resultado;
+    }
+
+    // Mesmo layout do tipo UUID do Hibernate em BINARY(16): os 16 bytes na ordem do toString
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,79 @@
+package com.deigo.apiTarefas.benchmark;
+
+import com.deigo.apiTarefas.infrastructure.Security.JwtDecoderComCache;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da autenticação por requisição: {@code verificar} é o decoder Nimbus sozinho (parse, HMAC-SHA256 e
+ * validadores), {@code verificarComCache} é o {@link JwtDecoderComCache} com o token já visto, e {@code emitir}
+ * é o trabalho do {@code POST /auth/login} depois do BCrypt. Todos devem ficar na casa dos microssegundos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtEncoder encoder;
+    private JwtDecoder nimbus;
+    private JwtDecoder comCache;
+    private JwtEncoderParameters parametros;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SecretKey chave = new SecretKeySpec("segredo-do-benchmark-com-mais-de-32-bytes".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        encoder = new NimbusJwtEncoder(new ImmutableSecret<>(chave));
+
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(chave).macAlgorithm(MacAlgorithm.HS256).build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer("api-tarefas"));
+        nimbus = decoder;
+        comCache = new JwtDecoderComCache(decoder, 10_000, null);
+
+        Instant agora = Instant.now();
+        parametros = JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), JwtClaimsSet.builder()
+                .issuer("api-tarefas")
+                .subject(UUID.randomUUID().toString())
+                .issuedAt(agora)
+                .expiresAt(agora.plus(Duration.ofHours(1)))
+                .build());
+        token = encoder.encode(parametros).getTokenValue();
+        comCache.decode(token);
+    }
+
+    @Benchmark
+    public Jwt verificar() {
+        return nimbus.decode(token);
+    }
+
+    @Benchmark
+    public Jwt verificarComCache() {
+        return comCache.decode(token);
+    }
+
+    @Benchmark
+    public Jwt emitir() {
+        return encoder.encode(parametros);
+    }
+}
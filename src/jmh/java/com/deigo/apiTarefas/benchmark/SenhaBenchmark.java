@@ -0,0 +1,91 @@
+package com.deigo.apiTarefas.benchmark;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.infrastructure.Security.SenhaProperties;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.service.SenhaService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do BCrypt por valor de {@code apitarefas.senha.custo} e o efeito do executor limitado: nos grupos,
+ * 8 threads fazem hash enquanto 4 serializam listas de tarefas (a leitura típica). Compare
+ * {@code leituraComExecutor} com {@code leituraSemExecutor}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class SenhaBenchmark {
+
+    @Param({"10", "12"})
+    private int custo;
+
+    private BCryptPasswordEncoder encoder;
+    private SenhaService senhaService;
+    private ObjectWriter writer;
+    private List<TarefaResumoDto> tarefas;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(custo);
+        senhaService = new SenhaService(encoder, new SenhaProperties(custo, 2, 64, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+
+        writer = new ObjectMapper().writer();
+        tarefas = new ArrayList<>(20);
+        UUID usuarioId = UUID.randomUUID();
+        for (int i = 0; i < 20; i++) {
+            tarefas.add(new TarefaResumoDto(UUID.randomUUID(), "Tarefa " + i, "Descrição da tarefa " + i, Status.PENDENTE, usuarioId, 0L));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        senhaService.encerrar();
+    }
+
+    @Benchmark
+    public String codificar() {
+        return encoder.encode("senha-do-benchmark");
+    }
+
+    @Benchmark
+    @Group("picoNoExecutor")
+    @GroupThreads(8)
+    public String cadastroNoExecutor() {
+        return senhaService.codificar("senha-do-benchmark");
+    }
+
+    @Benchmark
+    @Group("picoNoExecutor")
+    @GroupThreads(4)
+    public byte[] leituraComExecutor() throws JsonProcessingException {
+        return writer.writeValueAsBytes(tarefas);
+    }
+
+    @Benchmark
+    @Group("picoSemExecutor")
+    @GroupThreads(8)
+    public String cadastroDireto() {
+        return encoder.encode("senha-do-benchmark");
+    }
+
+    @Benchmark
+    @Group("picoSemExecutor")
+    @GroupThreads(4)
+    public byte[] leituraSemExecutor() throws JsonProcessingException {
+        return writer.writeValueAsBytes(tarefas);
+    }
+}
@@ -0,0 +1,75 @@
+package com.deigo.apiTarefas.benchmark;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.infrastructure.entitys.Tarefas;
+import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de serializar o grafo de entidades (Usuario com suas tarefas) contra as projeções em DTO
+ * que os endpoints devolvem.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializacaoBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int tarefasPorUsuario;
+
+    private ObjectWriter writer;
+    private Usuario usuario;
+    private List<TarefaResumoDto> resumos;
+
+    @Setup
+    public void setUp() {
+        writer = new ObjectMapper().writer();
+
+        usuario = Usuario.builder()
+                .id(UUID.randomUUID())
+                .nome("Usuario Benchmark")
+                .email("benchmark@teste.com")
+                .senha("senha123")
+                .tarefas(new ArrayList<>())
+                .build();
+
+        Status[] status = Status.values();
+        for (int i = 0; i < tarefasPorUsuario; i++) {
+            usuario.getTarefas().add(Tarefas.builder()
+                    .id(UUID.randomUUID())
+                    .titulo("Tarefa " + i)
+                    .descricao("Descrição da tarefa " + i)
+                    .status(status[i % status.length])
+                    .usuario(usuario)
+                    .build());
+        }
+
+        resumos = usuario.getTarefas().stream().map(TarefaResumoDto::de).toList();
+    }
+
+    @Benchmark
+    public byte[] entidadeUsuarioComTarefas() throws Exception {
+        return writer.writeValueAsBytes(usuario);
+    }
+
+    @Benchmark
+    public byte[] entidadesTarefas() throws Exception {
+        return writer.writeValueAsBytes(usuario.getTarefas());
+    }
+
+    @Benchmark
+    public byte[] resumosTarefas() throws Exception {
+        return writer.writeValueAsBytes(resumos);
+    }
+}
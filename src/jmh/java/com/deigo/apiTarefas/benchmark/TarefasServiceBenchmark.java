@@ -0,0 +1,117 @@
+package com.deigo.apiTarefas.benchmark;
+
+import com.deigo.apiTarefas.ApiTarefasApplication;
+import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.CriarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.repository.UsuarioRepository;
+import com.deigo.apiTarefas.service.ContadorTarefasService;
+import com.deigo.apiTarefas.service.TarefasService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ciclo criar/buscar/atualizar do {@link TarefasService} com o contexto Spring completo sobre H2 em memória
+ * e sem cache, para medir o caminho até o banco. Os números servem para comparar versões, não para
+ * prever a latência no MySQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TarefasServiceBenchmark {
+
+    private static final int TAREFAS_INICIAIS = 10_000;
+    private static final int TAMANHO_LOTE = 50;
+
+    private ConfigurableApplicationContext contexto;
+    private TarefasService tarefasService;
+    private UUID usuarioId;
+    private List<String> ids;
+    private List<CriarTarefaDto> lote;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Argumentos de linha de comando para sobrepor o datasource MySQL do application.properties
+        contexto = new SpringApplicationBuilder(ApiTarefasApplication.class).run(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.show-sql=false",
+                "--spring.cache.type=none",
+                "--apitarefas.jwt.segredo=segredo-do-benchmark-com-mais-de-32-bytes",
+                "--logging.level.root=WARN");
+        tarefasService = contexto.getBean(TarefasService.class);
+
+        // Como no cadastro: usuário e contadores na mesma transação, senão os deltas das tarefas não têm linha para somar
+        usuarioId = new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class)).execute(status -> {
+            Usuario usuario = contexto.getBean(UsuarioRepository.class).save(Usuario.builder()
+                    .nome("Usuario Benchmark")
+                    .email("benchmark@teste.com")
+                    .senha("senha123")
+                    .build());
+            contexto.getBean(ContadorTarefasService.class).inicializar(usuario.getId());
+            return usuario.getId();
+        });
+
+        lote = Collections.nCopies(TAMANHO_LOTE, new CriarTarefaDto("Tarefa", "Descrição", Status.PENDENTE, usuarioId));
+        ids = new ArrayList<>(TAREFAS_INICIAIS);
+        for (int i = 0; i < TAREFAS_INICIAIS / TAMANHO_LOTE; i++) {
+            tarefasService.criarTarefasEmLote(lote).forEach(resultado -> ids.add(resultado.id().toString()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        contexto.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int proximo;
+    }
+
+    @Benchmark
+    public Object criar() {
+        return tarefasService.criarTarefa(new CriarTarefaDto("Tarefa", "Descrição", Status.PENDENTE, usuarioId));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TAMANHO_LOTE)
+    public Object criarEmLote() {
+        return tarefasService.criarTarefasEmLote(lote);
+    }
+
+    @Benchmark
+    public Optional<TarefaResumoDto> buscar(Cursor cursor) {
+        return tarefasService.buscarTarefaPeloId(proximoId(cursor));
+    }
+
+    @Benchmark
+    public Object atualizar(Cursor cursor) {
+        Status status = cursor.proximo % 2 == 0 ? Status.EM_ANDAMENTO : Status.CONCLUIDA;
+        return tarefasService.atualizarTarefaPeloId(usuarioId, UUID.fromString(proximoId(cursor)), new AtualizarTarefaDto(null, null, status));
+    }
+
+    private String proximoId(Cursor cursor) {
+        cursor.proximo = (cursor.proximo + 1) % ids.size();
+        return ids.get(cursor.proximo);
+    }
+}
@@ -0,0 +1,43 @@
+package com.deigo.apiTarefas.benchmark;
+
+import com.deigo.apiTarefas.infrastructure.id.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse do ID recebido no path ({@code buscarTarefaPeloId}, chave do cache) e geração de IDs v4 contra v7 em memória.
+ * O efeito no banco (inserções por segundo e tamanho dos índices) fica no {@link InsercaoUuidBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidBenchmark {
+
+    private String id;
+
+    @Setup
+    public void setUp() {
+        id = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public UUID fromString() {
+        return UUID.fromString(id);
+    }
+
+    @Benchmark
+    public UUID gerarV4() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID gerarV7() {
+        return UuidV7Generator.gerar();
+    }
+}
@@ -0,0 +1,48 @@
+package com.deigo.apiTarefas.carga;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Parâmetros do teste de carga, lidos de propriedades de sistema ({@code -Dcarga.*}).
+ */
+record ConfiguracaoCarga(
+        String url,
+        int usuarios,
+        int tarefasPorUsuario,
+        int usuariosDescartaveis,
+        int concorrencia,
+        int aquecimentoSegundos,
+        int duracaoSegundos,
+        Map<Operacao, Integer> mix,
+        Path relatorio) {
+
+    static ConfiguracaoCarga doSistema() {
+        return new ConfiguracaoCarga(
+                System.getProperty("carga.url", ""),
+                Integer.getInteger("carga.usuarios", 20),
+                Integer.getInteger("carga.tarefasPorUsuario", 2000),
+                Integer.getInteger("carga.usuariosDescartaveis", 200),
+                Integer.getInteger("carga.concorrencia", 200),
+                Integer.getInteger("carga.aquecimentoSegundos", 10),
+                Integer.getInteger("carga.duracaoSegundos", 60),
+                lerMix(System.getProperty("carga.mix", "")),
+                Path.of(System.getProperty("carga.relatorio", "target/carga-relatorio.txt")));
+    }
+
+    // Formato: BUSCAR_TAREFA=50,LISTAR_TAREFAS=20; operações omitidas mantêm o peso padrão
+    private static Map<Operacao, Integer> lerMix(String valor) {
+        Map<Operacao, Integer> mix = new EnumMap<>(Operacao.class);
+        for (Operacao operacao : Operacao.values()) {
+            mix.put(operacao, operacao.pesoPadrao);
+        }
+        if (!valor.isBlank()) {
+            for (String item : valor.split(",")) {
+                String[] partes = item.trim().split("=");
+                mix.put(Operacao.valueOf(partes[0].trim()), Integer.parseInt(partes[1].trim()));
+            }
+        }
+        return mix;
+    }
+}
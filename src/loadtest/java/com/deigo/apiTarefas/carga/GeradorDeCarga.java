@@ -0,0 +1,319 @@
+package com.deigo.apiTarefas.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Semeia a massa de dados pela própria API e executa as operações do mix. Cada chamador de
+ * {@link #executarAte} é um cliente em loop fechado: só envia a próxima requisição depois da resposta.
+ * <p>
+ * Cada usuário semeado faz login uma vez em {@code POST /auth/login}; as operações sorteiam um usuário e agem
+ * só sobre as tarefas dele, com o token dele, como a API exige.
+ */
+class GeradorDeCarga {
+
+    // Primeiro usuário semeado; é promovido a administrador antes do login, para o token dele listar GET /usuarios
+    static final String EMAIL_ADMINISTRADOR = "carga-0@carga.test";
+
+    private static final int TAMANHO_LOTE_SEMEADURA = 1000;
+    private static final int TAMANHO_LOTE_CARGA = 50;
+    private static final String[] STATUS = {"PENDENTE", "EM_ANDAMENTO", "CONCLUIDA"};
+    private static final String SENHA = "senha123";
+
+    private final HttpClient cliente;
+    private final String base;
+    private final ConfiguracaoCarga configuracao;
+    private final Consumer<String> promoverAdministrador;
+    private final ObjectMapper json = new ObjectMapper();
+    private final AtomicLong sequencia = new AtomicLong();
+
+    private final Operacao[] operacoes;
+    private final int[] pesosAcumulados;
+
+    private final List<Sessao> usuarios = new ArrayList<>();
+    // Só as operações destrutivas consomem destas filas, para a massa semeada não encolher durante o teste
+    private final Queue<Descartavel> tarefasDescartaveis = new ConcurrentLinkedQueue<>();
+    private final Queue<Descartavel> usuariosDescartaveis = new ConcurrentLinkedQueue<>();
+
+    // Usuário logado e as tarefas semeadas para ele; a lista não muda depois da semeadura
+    private record Sessao(UUID id, String token, List<UUID> tarefas) {
+    }
+
+    // Recurso que alguma operação pode apagar, com o token do dono
+    private record Descartavel(UUID id, String token) {
+    }
+
+    GeradorDeCarga(HttpClient cliente, String base, ConfiguracaoCarga configuracao, Consumer<String> promoverAdministrador) {
+        this.cliente = cliente;
+        this.base = base;
+        this.configuracao = configuracao;
+        this.promoverAdministrador = promoverAdministrador;
+
+        List<Operacao> ativas = configuracao.mix().entrySet().stream()
+                .filter(entrada -> entrada.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .toList();
+        operacoes = ativas.toArray(Operacao[]::new);
+        pesosAcumulados = new int[operacoes.length];
+        int acumulado = 0;
+        for (int i = 0; i < operacoes.length; i++) {
+            acumulado += configuracao.mix().get(operacoes[i]);
+            pesosAcumulados[i] = acumulado;
+        }
+    }
+
+    void semear() throws IOException, InterruptedException {
+        for (int i = 0; i < configuracao.usuarios(); i++) {
+            String email = "carga-" + i + "@carga.test";
+            criarUsuario(email);
+            if (email.equals(EMAIL_ADMINISTRADOR)) {
+                promoverAdministrador.accept(email);
+            }
+            String token = logar(email);
+            List<UUID> tarefas = new ArrayList<>(configuracao.tarefasPorUsuario());
+            for (int criadas = 0; criadas < configuracao.tarefasPorUsuario(); criadas += TAMANHO_LOTE_SEMEADURA) {
+                int tamanho = Math.min(TAMANHO_LOTE_SEMEADURA, configuracao.tarefasPorUsuario() - criadas);
+                tarefas.addAll(criarLote(token, tamanho));
+            }
+            Collections.shuffle(tarefas);
+            usuarios.add(new Sessao(usuarioDoToken(token), token, List.copyOf(tarefas)));
+        }
+        for (int i = 0; i < configuracao.usuariosDescartaveis(); i++) {
+            String email = "descartavel-" + i + "@carga.test";
+            criarUsuario(email);
+            String token = logar(email);
+            usuariosDescartaveis.add(new Descartavel(usuarioDoToken(token), token));
+        }
+    }
+
+    void executarAte(long fimNanos, RelatorioCarga relatorio) {
+        while (System.nanoTime() < fimNanos) {
+            Operacao operacao = sortear();
+            if (!disponivel(operacao)) {
+                continue;
+            }
+
+            long inicio = System.nanoTime();
+            Boolean sucesso;
+            try {
+                sucesso = executar(operacao);
+            } catch (IOException e) {
+                sucesso = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (sucesso != null) {
+                relatorio.registrar(operacao, inicio, sucesso);
+            }
+        }
+    }
+
+    // null quando a operação não tinha dados para agir (fila de descartáveis esvaziada por outro cliente)
+    private Boolean executar(Operacao operacao) throws IOException, InterruptedException {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        Sessao sessao = usuarioAleatorio();
+        String token = sessao.token();
+        return switch (operacao) {
+            case CRIAR_TAREFA -> ok(enviar(post("/tarefas", novaTarefa(), token)));
+            case CRIAR_TAREFAS_EM_LOTE -> {
+                HttpResponse<String> resposta = enviar(post("/tarefas/batch", lote(TAMANHO_LOTE_CARGA), token));
+                if (ok(resposta)) {
+                    idsDoLote(resposta).forEach(id -> tarefasDescartaveis.add(new Descartavel(id, token)));
+                }
+                yield ok(resposta);
+            }
+            case BUSCAR_TAREFA -> ok(enviar(get("/tarefas/" + tarefaAleatoria(sessao), token)));
+            case ATUALIZAR_TAREFA -> ok(enviar(put("/tarefas/" + tarefaAleatoria(sessao),
+                    Map.of("status", STATUS[aleatorio.nextInt(STATUS.length)]), token)));
+            case ATUALIZAR_STATUS_EM_LOTE -> {
+                List<UUID> ids = new ArrayList<>();
+                for (int i = 0; i < 20; i++) {
+                    ids.add(tarefaAleatoria(sessao));
+                }
+                yield ok(enviar(patch("/tarefas/status",
+                        Map.of("novoStatus", STATUS[aleatorio.nextInt(STATUS.length)], "ids", ids), token)));
+            }
+            case LISTAR_TAREFAS -> ok(enviar(get(aleatorio.nextBoolean()
+                    ? "/tarefas?limit=20"
+                    : "/tarefas?limit=20&after=" + cursor(tarefaAleatoria(sessao)), token)));
+            case BUSCAR_POR_TEXTO -> ok(enviar(get("/tarefas/search?limit=20&q=" + termoDeBusca(), token)));
+            case EXPORTAR_TAREFAS -> {
+                HttpResponse<Void> resposta = cliente.send(get("/tarefas/export", token), HttpResponse.BodyHandlers.discarding());
+                yield resposta.statusCode() < 400;
+            }
+            case DELETAR_TAREFA -> deletar("/tarefas/", tarefasDescartaveis);
+            case CRIAR_USUARIO -> ok(enviar(post("/usuarios", novoUsuario("usuario-" + sequencia.incrementAndGet() + "@carga.test"), null)));
+            case LISTAR_USUARIOS -> ok(enviar(get("/usuarios?size=20&page=" + aleatorio.nextInt(Math.max(1, usuarios.size() / 20)),
+                    usuarios.getFirst().token())));
+            case ATUALIZAR_USUARIO -> ok(enviar(put("/usuarios/" + sessao.id(),
+                    Map.of("nome", "Usuario " + sequencia.incrementAndGet()), token)));
+            case DELETAR_USUARIO -> deletar("/usuarios/", usuariosDescartaveis);
+            case LISTAR_TAREFAS_DO_USUARIO -> ok(enviar(get("/usuarios/" + sessao.id() + "/tarefas", token)));
+            case RESUMO_TAREFAS_DO_USUARIO -> ok(enviar(get("/usuarios/" + sessao.id() + "/tarefas/resumo", token)));
+        };
+    }
+
+    private Boolean deletar(String caminho, Queue<Descartavel> descartaveis) throws IOException, InterruptedException {
+        Descartavel descartavel = descartaveis.poll();
+        return descartavel == null ? null : ok(enviar(delete(caminho + descartavel.id(), descartavel.token())));
+    }
+
+    private boolean disponivel(Operacao operacao) {
+        return switch (operacao) {
+            case DELETAR_TAREFA -> !tarefasDescartaveis.isEmpty();
+            case DELETAR_USUARIO -> !usuariosDescartaveis.isEmpty();
+            default -> true;
+        };
+    }
+
+    private Operacao sortear() {
+        int sorteio = ThreadLocalRandom.current().nextInt(pesosAcumulados[pesosAcumulados.length - 1]);
+        for (int i = 0; i < pesosAcumulados.length; i++) {
+            if (sorteio < pesosAcumulados[i]) {
+                return operacoes[i];
+            }
+        }
+        return operacoes[operacoes.length - 1];
+    }
+
+    private void criarUsuario(String email) throws IOException, InterruptedException {
+        exigirSucesso(enviar(post("/usuarios", novoUsuario(email), null)));
+    }
+
+    private String logar(String email) throws IOException, InterruptedException {
+        HttpResponse<String> resposta = exigirSucesso(enviar(post("/auth/login", Map.of("email", email, "senha", SENHA), null)));
+        return json.readTree(resposta.body()).path("accessToken").asText();
+    }
+
+    // O sub do token é o ID do usuário; evita listar /usuarios só para descobrir os IDs semeados
+    private UUID usuarioDoToken(String token) throws IOException {
+        byte[] payload = Base64.getUrlDecoder().decode(token.split("\\.")[1]);
+        return UUID.fromString(json.readTree(payload).path("sub").asText());
+    }
+
+    private List<UUID> criarLote(String token, int tamanho) throws IOException, InterruptedException {
+        return idsDoLote(exigirSucesso(enviar(post("/tarefas/batch", lote(tamanho), token))));
+    }
+
+    private List<UUID> idsDoLote(HttpResponse<String> resposta) throws IOException {
+        List<UUID> ids = new ArrayList<>();
+        for (JsonNode resultado : json.readTree(resposta.body())) {
+            if (resultado.hasNonNull("id")) {
+                ids.add(UUID.fromString(resultado.get("id").asText()));
+            }
+        }
+        return ids;
+    }
+
+    private List<Map<String, Object>> lote(int tamanho) {
+        List<Map<String, Object>> lote = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            lote.add(novaTarefa());
+        }
+        return lote;
+    }
+
+    // Sem usuarioId: a API cria a tarefa para o usuário do token
+    private Map<String, Object> novaTarefa() {
+        long n = sequencia.incrementAndGet();
+        return Map.of(
+                "titulo", "Tarefa de carga " + n,
+                "descricao", "Gerada pelo teste de carga, sequência " + n,
+                "status", STATUS[(int) (n % STATUS.length)]);
+    }
+
+    private Map<String, Object> novoUsuario(String email) {
+        return Map.of("nome", "Usuario de carga", "email", email, "senha", SENHA);
+    }
+
+    // Metade das buscas casa com todas as tarefas do usuário (palavra presente em todo título), metade com no máximo
+    // uma (número de sequência), para medir tanto a ordenação por relevância de muitas linhas quanto a busca seletiva
+    private String termoDeBusca() {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        return aleatorio.nextBoolean() ? "carga" : Long.toString(1 + aleatorio.nextLong(Math.max(1, sequencia.get())));
+    }
+
+    private Sessao usuarioAleatorio() {
+        return usuarios.get(ThreadLocalRandom.current().nextInt(usuarios.size()));
+    }
+
+    private static UUID tarefaAleatoria(Sessao sessao) {
+        return sessao.tarefas().get(ThreadLocalRandom.current().nextInt(sessao.tarefas().size()));
+    }
+
+    // Mesmo formato do cursor de TarefasService: os 16 bytes do UUID em Base64 URL sem padding
+    private static String cursor(UUID id) {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    private HttpResponse<String> enviar(HttpRequest requisicao) throws IOException, InterruptedException {
+        return cliente.send(requisicao, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static boolean ok(HttpResponse<?> resposta) {
+        return resposta.statusCode() < 400;
+    }
+
+    private static HttpResponse<String> exigirSucesso(HttpResponse<String> resposta) {
+        if (!ok(resposta)) {
+            throw new IllegalStateException("Falha ao semear dados: " + resposta.statusCode() + " " + resposta.uri() + " " + resposta.body());
+        }
+        return resposta;
+    }
+
+    private HttpRequest get(String caminho, String token) {
+        return requisicao(caminho, token).GET().build();
+    }
+
+    private HttpRequest delete(String caminho, String token) {
+        return requisicao(caminho, token).DELETE().build();
+    }
+
+    private HttpRequest post(String caminho, Object corpo, String token) throws IOException {
+        return comCorpo(caminho, "POST", corpo, token);
+    }
+
+    private HttpRequest put(String caminho, Object corpo, String token) throws IOException {
+        return comCorpo(caminho, "PUT", corpo, token);
+    }
+
+    private HttpRequest patch(String caminho, Object corpo, String token) throws IOException {
+        return comCorpo(caminho, "PATCH", corpo, token);
+    }
+
+    private HttpRequest comCorpo(String caminho, String metodo, Object corpo, String token) throws IOException {
+        return requisicao(caminho, token)
+                .header("Content-Type", "application/json")
+                .method(metodo, HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(corpo)))
+                .build();
+    }
+
+    // token null para as rotas públicas (cadastro e login)
+    private HttpRequest.Builder requisicao(String caminho, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(base + caminho)).timeout(Duration.ofSeconds(30));
+        return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+    }
+}
@@ -0,0 +1,30 @@
+package com.deigo.apiTarefas.carga;
+
+/**
+ * Endpoints exercitados pelo teste de carga e o peso padrão de cada um no mix.
+ */
+enum Operacao {
+    CRIAR_TAREFA("POST /tarefas", 8),
+    CRIAR_TAREFAS_EM_LOTE("POST /tarefas/batch", 1),
+    BUSCAR_TAREFA("GET /tarefas/{id}", 35),
+    ATUALIZAR_TAREFA("PUT /tarefas/{id}", 8),
+    ATUALIZAR_STATUS_EM_LOTE("PATCH /tarefas/status", 1),
+    LISTAR_TAREFAS("GET /tarefas", 20),
+    BUSCAR_POR_TEXTO("GET /tarefas/search", 5),
+    EXPORTAR_TAREFAS("GET /tarefas/export", 1),
+    DELETAR_TAREFA("DELETE /tarefas/{id}", 2),
+    CRIAR_USUARIO("POST /usuarios", 2),
+    LISTAR_USUARIOS("GET /usuarios", 8),
+    ATUALIZAR_USUARIO("PUT /usuarios/{id}", 2),
+    DELETAR_USUARIO("DELETE /usuarios/{id}", 1),
+    LISTAR_TAREFAS_DO_USUARIO("GET /usuarios/{id}/tarefas", 12),
+    RESUMO_TAREFAS_DO_USUARIO("GET /usuarios/{id}/tarefas/resumo", 6);
+
+    final String rota;
+    final int pesoPadrao;
+
+    Operacao(String rota, int pesoPadrao) {
+        this.rota = rota;
+        this.pesoPadrao = pesoPadrao;
+    }
+}
@@ -0,0 +1,82 @@
+package com.deigo.apiTarefas.carga;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latência (em microssegundos) e contagem de erros por operação.
+ */
+class RelatorioCarga {
+
+    private static final long LATENCIA_MAXIMA_US = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<Operacao, Histogram> histogramas = new EnumMap<>(Operacao.class);
+    private final Map<Operacao, LongAdder> erros = new EnumMap<>(Operacao.class);
+
+    RelatorioCarga() {
+        for (Operacao operacao : Operacao.values()) {
+            histogramas.put(operacao, new ConcurrentHistogram(LATENCIA_MAXIMA_US, 3));
+            erros.put(operacao, new LongAdder());
+        }
+    }
+
+    void registrar(Operacao operacao, long inicioNanos, boolean sucesso) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - inicioNanos);
+        histogramas.get(operacao).recordValue(Math.min(micros, LATENCIA_MAXIMA_US));
+        if (!sucesso) {
+            erros.get(operacao).increment();
+        }
+    }
+
+    void reiniciar() {
+        histogramas.values().forEach(Histogram::reset);
+        erros.values().forEach(LongAdder::reset);
+    }
+
+    String gerar(ConfiguracaoCarga configuracao, double segundos) {
+        StringBuilder texto = new StringBuilder()
+                .append("Teste de carga - ").append(Instant.now()).append('\n')
+                .append("alvo=").append(configuracao.url().isBlank() ? "embutido (H2)" : configuracao.url())
+                .append(" concorrencia=").append(configuracao.concorrencia())
+                .append(" duracao=").append(configuracao.duracaoSegundos()).append("s")
+                .append(" usuarios=").append(configuracao.usuarios())
+                .append(" tarefasPorUsuario=").append(configuracao.tarefasPorUsuario()).append("\n\n")
+                .append(String.format("%-30s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                        "operacao", "reqs", "erros", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+
+        long total = 0;
+        for (Operacao operacao : Operacao.values()) {
+            Histogram histograma = histogramas.get(operacao);
+            long quantidade = histograma.getTotalCount();
+            if (quantidade == 0) {
+                continue;
+            }
+            total += quantidade;
+            texto.append(String.format("%-30s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operacao.rota, quantidade, erros.get(operacao).sum(), quantidade / segundos,
+                    ms(histograma.getValueAtPercentile(50)), ms(histograma.getValueAtPercentile(90)),
+                    ms(histograma.getValueAtPercentile(99)), ms(histograma.getValueAtPercentile(99.9)),
+                    ms(histograma.getMaxValue())));
+        }
+        return texto.append(String.format("%ntotal: %d requisições, %.1f req/s%n", total, total / segundos)).toString();
+    }
+
+    void gravar(ConfiguracaoCarga configuracao, String texto) throws IOException {
+        if (configuracao.relatorio().getParent() != null) {
+            Files.createDirectories(configuracao.relatorio().getParent());
+        }
+        Files.writeString(configuracao.relatorio(), texto);
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,99 @@
+package com.deigo.apiTarefas.carga;
+
+import com.deigo.apiTarefas.ApiTarefasApplication;
+import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Teste de carga HTTP. Sem {@code -Dcarga.url}, sobe a aplicação em porta aleatória sobre H2 em memória
+ * e semeia os dados pela API. Cada cliente virtual roda numa thread virtual, e o relatório por endpoint
+ * vai para {@code carga.relatorio}.
+ */
+public class TesteDeCarga {
+
+    public static void main(String[] args) throws Exception {
+        ConfiguracaoCarga configuracao = ConfiguracaoCarga.doSistema();
+
+        ConfigurableApplicationContext contexto = null;
+        Consumer<String> promoverAdministrador = email -> {
+        };
+        String url = configuracao.url();
+        if (url.isBlank()) {
+            // Argumentos de linha de comando para sobrepor o datasource MySQL do application.properties;
+            // outras propriedades (ex.: -Dspring.profiles.active=virtual-threads) continuam valendo
+            contexto = new SpringApplicationBuilder(ApiTarefasApplication.class).run(
+                    "--server.port=0",
+                    "--management.server.port=0",
+                    "--spring.datasource.url=jdbc:h2:mem:carga;DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.jpa.show-sql=false",
+                    // Segredo descartável, só desta execução
+                    "--apitarefas.jwt.segredo=" + UUID.randomUUID() + UUID.randomUUID(),
+                    // Poucos usuários e um só IP geram toda a carga; com o limite ligado, o relatório mediria 429
+                    "--apitarefas.limite.habilitado=false");
+            url = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port");
+            ConfigurableApplicationContext aplicacao = contexto;
+            promoverAdministrador = email -> promover(aplicacao, email);
+        }
+
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient cliente = HttpClient.newBuilder()
+                     .executor(threads)
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .build()) {
+
+            GeradorDeCarga gerador = new GeradorDeCarga(cliente, url, configuracao, promoverAdministrador);
+            gerador.semear();
+
+            RelatorioCarga relatorio = new RelatorioCarga();
+            long fim = System.nanoTime()
+                    + TimeUnit.SECONDS.toNanos(configuracao.aquecimentoSegundos() + configuracao.duracaoSegundos());
+
+            List<Future<?>> clientes = new ArrayList<>(configuracao.concorrencia());
+            for (int i = 0; i < configuracao.concorrencia(); i++) {
+                clientes.add(threads.submit(() -> gerador.executarAte(fim, relatorio)));
+            }
+
+            // Descarta o aquecimento (JIT, caches, pool de conexões) antes de medir
+            Thread.sleep(Duration.ofSeconds(configuracao.aquecimentoSegundos()));
+            relatorio.reiniciar();
+            long inicioMedicao = System.nanoTime();
+
+            for (Future<?> clienteVirtual : clientes) {
+                clienteVirtual.get();
+            }
+
+            double segundos = (System.nanoTime() - inicioMedicao) / 1e9;
+            String texto = relatorio.gerar(configuracao, segundos);
+            relatorio.gravar(configuracao, texto);
+            System.out.println(texto);
+        } finally {
+            if (contexto != null) {
+                contexto.close();
+            }
+        }
+    }
+
+    // O mesmo UPDATE que um operador faria; o evict tira do cache de segundo nível a conta ainda sem a marca
+    private static void promover(ConfigurableApplicationContext contexto, String email) {
+        contexto.getBean(JdbcTemplate.class).update("update usuario set administrador = true where email = ?", email);
+        contexto.getBean(EntityManagerFactory.class).getCache().evict(Usuario.class);
+    }
+}
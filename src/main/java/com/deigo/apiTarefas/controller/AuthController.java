@@ -0,0 +1,26 @@
+package com.deigo.apiTarefas.controller;
+
+import com.deigo.apiTarefas.controller.dtoAuth.LoginDto;
+import com.deigo.apiTarefas.controller.dtoAuth.TokenDto;
+import com.deigo.apiTarefas.service.AuthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Profile("!reativo")
+@RequestMapping("/auth")
+@RequiredArgsConstructor
+public class AuthController {
+
+    private final AuthService authService;
+
+    @PostMapping("/login")
+    public ResponseEntity<TokenDto> login(@RequestBody LoginDto login) {
+        return ResponseEntity.ok(authService.login(login));
+    }
+}
@@ -0,0 +1,27 @@
+package com.deigo.apiTarefas.controller;
+
+import com.deigo.apiTarefas.controller.dtoAuth.LoginDto;
+import com.deigo.apiTarefas.controller.dtoAuth.TokenDto;
+import com.deigo.apiTarefas.service.AuthReativoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reativo")
+@RequestMapping("/auth")
+@RequiredArgsConstructor
+public class AuthReativoController {
+
+    private final AuthReativoService authService;
+
+    @PostMapping("/login")
+    public Mono<ResponseEntity<TokenDto>> login(@RequestBody LoginDto login) {
+        return authService.login(login).map(ResponseEntity::ok);
+    }
+}
@@ -1,55 +1,125 @@
 package com.deigo.apiTarefas.controller;
 
+import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarStatusEmLoteDto;
 import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarTarefaDto;
 import com.deigo.apiTarefas.controller.dtoTarefas.CriarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.PaginaTarefasDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ResultadoAtualizacaoEmLoteDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ResultadoLoteTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.infrastructure.Security.UsuarioLogado;
 import com.deigo.apiTarefas.infrastructure.entitys.Tarefas;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.etag.Etags;
 import com.deigo.apiTarefas.service.TarefasService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
 @RestController
+@Profile("!reativo")
 @RequestMapping("/tarefas")
 @RequiredArgsConstructor
 public class TarefasController {
 
     private final TarefasService tarefasService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
-    public ResponseEntity<Void> criarTarefa(@RequestBody CriarTarefaDto criarTarefaDto){
-        tarefasService.criarTarefa(criarTarefaDto);
+    public ResponseEntity<Void> criarTarefa(@UsuarioLogado UUID dono, @RequestBody CriarTarefaDto criarTarefaDto){
+        tarefasService.criarTarefa(criarTarefaDto.comUsuario(dono));
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<ResultadoLoteTarefaDto>> criarTarefasEmLote(@UsuarioLogado UUID dono,
+                                                                           @RequestBody List<CriarTarefaDto> tarefas){
+        // Itens nulos seguem nulos para o serviço rejeitá-los pelo índice
+        List<CriarTarefaDto> doDono = tarefas.stream()
+                .map(tarefa -> tarefa == null ? null : tarefa.comUsuario(dono))
+                .toList();
+        return ResponseEntity.ok(tarefasService.criarTarefasEmLote(doDono));
+    }
+
     @GetMapping("/{tarefasId}")
-    public ResponseEntity<Tarefas> buscarTarefaPeloId(@PathVariable("tarefasId") String tarefasId) {
-        var tarefas = tarefasService.buscarTarefaPeloId(tarefasId);
+    public ResponseEntity<TarefaResumoDto> buscarTarefaPeloId(@UsuarioLogado UUID dono, @PathVariable("tarefasId") String tarefasId) {
+        // O cache é por ID de tarefa; o dono é conferido aqui, e tarefa de outro usuário responde 404
+        var tarefas = tarefasService.buscarTarefaPeloId(tarefasId).filter(tarefa -> dono.equals(tarefa.usuarioId()));
 
+        // Com o ETag no ResponseEntity, o Spring responde 304 ao If-None-Match igual sem serializar o corpo
         if (tarefas.isPresent()) {
-            return ResponseEntity.ok(tarefas.get());
+            return ResponseEntity.ok().eTag(Etags.daTarefa(tarefas.get())).body(tarefas.get());
         } else {
             return ResponseEntity.notFound().build();
         }
     }
 
     @PutMapping("/{tarefaId}")
-    public ResponseEntity<Tarefas> atualizarTarefa (@PathVariable UUID tarefaId, @RequestBody AtualizarTarefaDto tarefas){
-        return ResponseEntity.ok(tarefasService.atualizarTarefaPeloId(tarefaId, tarefas));
+    public ResponseEntity<TarefaResumoDto> atualizarTarefa (@UsuarioLogado UUID dono, @PathVariable UUID tarefaId,
+                                                            @RequestBody AtualizarTarefaDto tarefas){
+        TarefaResumoDto atualizada = TarefaResumoDto.de(tarefasService.atualizarTarefaPeloId(dono, tarefaId, tarefas));
+        return ResponseEntity.ok().eTag(Etags.daTarefa(atualizada)).body(atualizada);
+    }
+
+    @PatchMapping("/status")
+    public ResponseEntity<ResultadoAtualizacaoEmLoteDto> atualizarStatusEmLote(@UsuarioLogado UUID dono,
+                                                                               @RequestBody AtualizarStatusEmLoteDto dto){
+        return ResponseEntity.ok(tarefasService.atualizarStatusEmLote(dono, dto));
     }
 
     @GetMapping
-    public ResponseEntity<List<Tarefas>> listarTarefas() {
-        return ResponseEntity.ok(tarefasService.listarTarefas());
+    public ResponseEntity<PaginaTarefasDto> listarTarefas(@UsuarioLogado UUID dono,
+                                                          @RequestParam(value = "after", required = false) String after,
+                                                          @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok(tarefasService.listarTarefas(dono, after, limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<TarefaResumoDto>> buscarTarefas(@UsuarioLogado UUID dono,
+                                                               @RequestParam("q") String q,
+                                                               @RequestParam(value = "status", required = false) Status status,
+                                                               @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok(tarefasService.buscarTarefas(dono, q, status, limit));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportarTarefas(@UsuarioLogado UUID dono) {
+        StreamingResponseBody corpo = saida -> {
+            try (SequenceWriter escritor = objectMapper.writer()
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(saida)) {
+                tarefasService.exportarTarefas(dono, tarefa -> {
+                    try {
+                        escritor.write(tarefa);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(corpo);
     }
 
     @DeleteMapping("/{tarefaId}")
-    public ResponseEntity<Void> deletarPeloId(@PathVariable("tarefaId") String tarefasId){
-        tarefasService.deletarPeloId(tarefasId);
+    public ResponseEntity<Void> deletarPeloId(@UsuarioLogado UUID dono, @PathVariable("tarefaId") String tarefasId){
+        tarefasService.deletarPeloId(dono, tarefasId);
         return  ResponseEntity.noContent().build();
     }
 }
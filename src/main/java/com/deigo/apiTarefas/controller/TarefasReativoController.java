@@ -0,0 +1,102 @@
+package com.deigo.apiTarefas.controller;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarStatusEmLoteDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.CriarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.PaginaTarefasDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ResultadoAtualizacaoEmLoteDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ResultadoLoteTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.infrastructure.Security.UsuarioLogado;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.etag.Etags;
+import com.deigo.apiTarefas.service.TarefasReativoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Mesmo contrato do {@link TarefasController}, no perfil reativo. Busca e exportação devolvem {@code Flux}: cada
+ * linha vai para a resposta quando o cliente aceita mais, e o driver só lê do banco o que foi pedido.
+ */
+@RestController
+@Profile("reativo")
+@RequestMapping("/tarefas")
+@RequiredArgsConstructor
+public class TarefasReativoController {
+
+    private final TarefasReativoService tarefasService;
+
+    @PostMapping
+    public Mono<ResponseEntity<Void>> criarTarefa(@UsuarioLogado UUID dono, @RequestBody CriarTarefaDto criarTarefaDto) {
+        return tarefasService.criarTarefa(criarTarefaDto.comUsuario(dono))
+                .thenReturn(ResponseEntity.ok().<Void>build());
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<ResultadoLoteTarefaDto>>> criarTarefasEmLote(@UsuarioLogado UUID dono,
+                                                                                 @RequestBody List<CriarTarefaDto> tarefas) {
+        // Itens nulos seguem nulos para o serviço rejeitá-los pelo índice
+        List<CriarTarefaDto> doDono = tarefas.stream()
+                .map(tarefa -> tarefa == null ? null : tarefa.comUsuario(dono))
+                .toList();
+        return tarefasService.criarTarefasEmLote(doDono).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{tarefasId}")
+    public Mono<ResponseEntity<TarefaResumoDto>> buscarTarefaPeloId(@UsuarioLogado UUID dono,
+                                                                   @PathVariable("tarefasId") String tarefasId) {
+        // Com o ETag no ResponseEntity, o WebFlux responde 304 ao If-None-Match igual sem serializar o corpo
+        return tarefasService.buscarTarefaPeloId(tarefasId)
+                .filter(tarefa -> dono.equals(tarefa.usuarioId()))
+                .map(tarefa -> ResponseEntity.ok().eTag(Etags.daTarefa(tarefa)).body(tarefa))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("/{tarefaId}")
+    public Mono<ResponseEntity<TarefaResumoDto>> atualizarTarefa(@UsuarioLogado UUID dono, @PathVariable UUID tarefaId,
+                                                                 @RequestBody AtualizarTarefaDto tarefas) {
+        return tarefasService.atualizarTarefaPeloId(dono, tarefaId, tarefas)
+                .map(TarefaResumoDto::de)
+                .map(atualizada -> ResponseEntity.ok().eTag(Etags.daTarefa(atualizada)).body(atualizada));
+    }
+
+    @PatchMapping("/status")
+    public Mono<ResponseEntity<ResultadoAtualizacaoEmLoteDto>> atualizarStatusEmLote(@UsuarioLogado UUID dono,
+                                                                                     @RequestBody AtualizarStatusEmLoteDto dto) {
+        return tarefasService.atualizarStatusEmLote(dono, dto).map(ResponseEntity::ok);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<PaginaTarefasDto>> listarTarefas(@UsuarioLogado UUID dono,
+                                                                @RequestParam(value = "after", required = false) String after,
+                                                                @RequestParam(value = "limit", required = false) Integer limit) {
+        return tarefasService.listarTarefas(dono, after, limit).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/search")
+    public Flux<TarefaResumoDto> buscarTarefas(@UsuarioLogado UUID dono,
+                                               @RequestParam("q") String q,
+                                               @RequestParam(value = "status", required = false) Status status,
+                                               @RequestParam(value = "limit", required = false) Integer limit) {
+        return tarefasService.buscarTarefas(dono, q, status, limit);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TarefaResumoDto> exportarTarefas(@UsuarioLogado UUID dono) {
+        return tarefasService.exportarTarefas(dono);
+    }
+
+    @DeleteMapping("/{tarefaId}")
+    public Mono<ResponseEntity<Void>> deletarPeloId(@UsuarioLogado UUID dono, @PathVariable("tarefaId") String tarefasId) {
+        return tarefasService.deletarPeloId(dono, tarefasId)
+                .thenReturn(ResponseEntity.noContent().<Void>build());
+    }
+}
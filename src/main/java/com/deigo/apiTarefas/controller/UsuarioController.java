@@ -1,23 +1,41 @@
 package com.deigo.apiTarefas.controller;
 
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
 import com.deigo.apiTarefas.controller.dtoUsuarios.AtualizarUsuariosDto;
 import com.deigo.apiTarefas.controller.dtoUsuarios.CriarUsuariosDto;
-import com.deigo.apiTarefas.infrastructure.entitys.Tarefas;
+import com.deigo.apiTarefas.controller.dtoUsuarios.ResumoTarefasUsuarioDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.UsuarioResumoDto;
+import com.deigo.apiTarefas.infrastructure.Security.UsuarioLogado;
 import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
+import com.deigo.apiTarefas.infrastructure.etag.Etags;
+import com.deigo.apiTarefas.infrastructure.exceptions.AcessoNegadoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.OrdenacaoInvalidaException;
 import com.deigo.apiTarefas.service.UsuarioService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
+@Profile("!reativo")
 @RequestMapping("/usuarios")
 @RequiredArgsConstructor
 
 public class UsuarioController {
 
+    // O sort vai direto para o ORDER BY do GROUP BY do resumo: só colunas agrupadas e indexáveis
+    private static final Set<String> ORDENACOES_USUARIOS = Set.of("id", "nome", "email");
+
     public final UsuarioService usuarioService;
 
     @PostMapping
@@ -27,24 +45,58 @@ public class UsuarioController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Usuario>> listarUsuarios() {
-        return ResponseEntity.ok(usuarioService.listarUsuarios());
+    public ResponseEntity<PagedModel<UsuarioResumoDto>> listarUsuarios(@PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        validarOrdenacao(pageable);
+        return ResponseEntity.ok(new PagedModel<>(usuarioService.listarUsuarios(pageable)));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Usuario> atualizarUsuarios (@PathVariable UUID id, @RequestBody AtualizarUsuariosDto usuario){
+    public ResponseEntity<Usuario> atualizarUsuarios (@UsuarioLogado UUID dono, @PathVariable UUID id,
+                                                      @RequestBody AtualizarUsuariosDto usuario){
+        exigirProprioUsuario(dono, id);
         return ResponseEntity.ok(usuarioService.atualizarUsuario(id, usuario));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deletarUsuario (@PathVariable UUID id){
+    public ResponseEntity<Void> deletarUsuario (@UsuarioLogado UUID dono, @PathVariable UUID id){
+        exigirProprioUsuario(dono, id);
         usuarioService.deletarUsuario(id);
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/{id}/tarefas")
-    public ResponseEntity<List<Tarefas>> listarTarefasDoUsuario (@PathVariable UUID id){
-        return ResponseEntity.ok(usuarioService.listarTarefasDoUsuario(id));
+    public ResponseEntity<List<TarefaResumoDto>> listarTarefasDoUsuario (@UsuarioLogado UUID dono, @PathVariable UUID id,
+                                                                         WebRequest request){
+        exigirProprioUsuario(dono, id);
+        // Com If-None-Match, compara só (id, versao) das tarefas antes de buscar e serializar a lista inteira
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(Etags.dasVersoes(usuarioService.listarVersoesDasTarefasDoUsuario(id)))) {
+            return null;
+        }
+
+        List<TarefaResumoDto> tarefas = usuarioService.listarTarefasDoUsuario(id);
+        return ResponseEntity.ok().eTag(Etags.dasTarefas(tarefas)).body(tarefas);
+    }
+
+    @GetMapping("/{id}/tarefas/resumo")
+    public ResponseEntity<ResumoTarefasUsuarioDto> resumoDasTarefasDoUsuario(@UsuarioLogado UUID dono, @PathVariable UUID id) {
+        exigirProprioUsuario(dono, id);
+        return ResponseEntity.ok(usuarioService.resumoDasTarefasDoUsuario(id));
+    }
+
+    // Compartilhados com o UsuarioReativoController (perfil reativo)
+    static void validarOrdenacao(Pageable pageable) {
+        for (Sort.Order ordem : pageable.getSort()) {
+            if (!ORDENACOES_USUARIOS.contains(ordem.getProperty())) {
+                throw new OrdenacaoInvalidaException(ordem.getProperty());
+            }
+        }
+    }
+
+    static void exigirProprioUsuario(UUID dono, UUID id) {
+        if (!id.equals(dono)) {
+            throw new AcessoNegadoException("Acesso permitido só ao próprio usuário");
+        }
     }
 
 }
@@ -0,0 +1,78 @@
+package com.deigo.apiTarefas.controller;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.AtualizarUsuariosDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.CriarUsuariosDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.ResumoTarefasUsuarioDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.UsuarioResumoDto;
+import com.deigo.apiTarefas.infrastructure.Security.UsuarioLogado;
+import com.deigo.apiTarefas.infrastructure.entitys.UsuarioR2dbc;
+import com.deigo.apiTarefas.infrastructure.etag.Etags;
+import com.deigo.apiTarefas.service.UsuarioReativoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static com.deigo.apiTarefas.controller.UsuarioController.exigirProprioUsuario;
+import static com.deigo.apiTarefas.controller.UsuarioController.validarOrdenacao;
+
+// Mesmo contrato do UsuarioController, no perfil reativo
+@RestController
+@Profile("reativo")
+@RequestMapping("/usuarios")
+@RequiredArgsConstructor
+public class UsuarioReativoController {
+
+    private final UsuarioReativoService usuarioService;
+
+    @PostMapping
+    public Mono<ResponseEntity<Void>> criarUsuario(@RequestBody CriarUsuariosDto usuario) {
+        return usuarioService.criarUsuario(usuario).thenReturn(ResponseEntity.ok().<Void>build());
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<PagedModel<UsuarioResumoDto>>> listarUsuarios(@PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        validarOrdenacao(pageable);
+        return usuarioService.listarUsuarios(pageable).map(pagina -> ResponseEntity.ok(new PagedModel<>(pagina)));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<UsuarioR2dbc>> atualizarUsuarios(@UsuarioLogado UUID dono, @PathVariable UUID id,
+                                                                @RequestBody AtualizarUsuariosDto usuario) {
+        exigirProprioUsuario(dono, id);
+        return usuarioService.atualizarUsuario(id, usuario).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deletarUsuario(@UsuarioLogado UUID dono, @PathVariable UUID id) {
+        exigirProprioUsuario(dono, id);
+        return usuarioService.deletarUsuario(id).thenReturn(ResponseEntity.noContent().<Void>build());
+    }
+
+    // O ETag sai só de (id, versao) e a lista vai em streaming depois; num 304 ela nem é lida. As versões são lidas
+    // antes da lista, então uma escrita entre as duas consultas deixa o ETag mais velho que o corpo, nunca o
+    // contrário: no pior caso a próxima requisição recebe 200 em vez de 304
+    @GetMapping("/{id}/tarefas")
+    public Mono<ResponseEntity<Flux<TarefaResumoDto>>> listarTarefasDoUsuario(@UsuarioLogado UUID dono, @PathVariable UUID id) {
+        exigirProprioUsuario(dono, id);
+        return usuarioService.listarVersoesDasTarefasDoUsuario(id)
+                .collectList()
+                .map(versoes -> ResponseEntity.ok()
+                        .eTag(Etags.dasVersoes(versoes))
+                        .body(usuarioService.listarTarefasDoUsuario(id)));
+    }
+
+    @GetMapping("/{id}/tarefas/resumo")
+    public Mono<ResponseEntity<ResumoTarefasUsuarioDto>> resumoDasTarefasDoUsuario(@UsuarioLogado UUID dono, @PathVariable UUID id) {
+        exigirProprioUsuario(dono, id);
+        return usuarioService.resumoDasTarefasDoUsuario(id).map(ResponseEntity::ok);
+    }
+}
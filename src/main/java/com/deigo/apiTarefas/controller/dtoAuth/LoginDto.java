@@ -0,0 +1,4 @@
+package com.deigo.apiTarefas.controller.dtoAuth;
+
+public record LoginDto(String email, String senha) {
+}
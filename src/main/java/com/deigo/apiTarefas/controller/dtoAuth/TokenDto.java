@@ -0,0 +1,4 @@
+package com.deigo.apiTarefas.controller.dtoAuth;
+
+public record TokenDto(String accessToken, String tokenType, long expiresIn) {
+}
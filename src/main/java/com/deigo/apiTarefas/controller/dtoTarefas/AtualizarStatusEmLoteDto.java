@@ -0,0 +1,13 @@
+package com.deigo.apiTarefas.controller.dtoTarefas;
+
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Muda o status de várias tarefas de uma vez: pelas {@code ids} informadas ou por todas as tarefas de
+ * {@code usuarioId}, opcionalmente só as que estão em {@code statusAtual}.
+ */
+public record AtualizarStatusEmLoteDto(Status novoStatus, List<UUID> ids, UUID usuarioId, Status statusAtual) {
+}
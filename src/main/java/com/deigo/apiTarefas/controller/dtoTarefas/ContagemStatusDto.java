@@ -0,0 +1,8 @@
+package com.deigo.apiTarefas.controller.dtoTarefas;
+
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+
+import java.util.UUID;
+
+public record ContagemStatusDto(UUID usuarioId, Status status, Long quantidade) {
+}
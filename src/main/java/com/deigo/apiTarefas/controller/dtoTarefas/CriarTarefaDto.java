@@ -5,4 +5,9 @@ import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
 import java.util.UUID;
 
 public record CriarTarefaDto(String titulo, String descricao, Status status, UUID usuarioId) {
+
+    // A tarefa é sempre do usuário do token, independente do usuarioId enviado no corpo
+    public CriarTarefaDto comUsuario(UUID usuarioId) {
+        return new CriarTarefaDto(titulo, descricao, status, usuarioId);
+    }
 }
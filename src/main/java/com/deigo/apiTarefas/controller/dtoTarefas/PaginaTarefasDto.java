@@ -0,0 +1,9 @@
+package com.deigo.apiTarefas.controller.dtoTarefas;
+
+import java.util.List;
+
+/**
+ * Página de tarefas da listagem por cursor. {@code next} é nulo na última página.
+ */
+public record PaginaTarefasDto(List<TarefaResumoDto> itens, String next) {
+}
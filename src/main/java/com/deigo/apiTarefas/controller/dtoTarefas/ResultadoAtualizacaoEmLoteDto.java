@@ -0,0 +1,4 @@
+package com.deigo.apiTarefas.controller.dtoTarefas;
+
+public record ResultadoAtualizacaoEmLoteDto(int atualizadas) {
+}
@@ -0,0 +1,18 @@
+package com.deigo.apiTarefas.controller.dtoTarefas;
+
+import java.util.UUID;
+
+/**
+ * Resultado de um item de {@code POST /tarefas/batch}: {@code indice} aponta a posição no corpo enviado,
+ * {@code id} vem preenchido quando a tarefa foi criada e {@code erro} quando foi rejeitada.
+ */
+public record ResultadoLoteTarefaDto(int indice, UUID id, String erro) {
+
+    public static ResultadoLoteTarefaDto criada(int indice, UUID id) {
+        return new ResultadoLoteTarefaDto(indice, id, null);
+    }
+
+    public static ResultadoLoteTarefaDto rejeitada(int indice, String erro) {
+        return new ResultadoLoteTarefaDto(indice, null, erro);
+    }
+}
@@ -0,0 +1,7 @@
+package com.deigo.apiTarefas.controller.dtoTarefas;
+
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+
+// Status de uma tarefa travada (FOR UPDATE) antes de uma transição em massa no perfil reativo
+public record StatusTarefaDto(Status status) {
+}
@@ -0,0 +1,24 @@
+package com.deigo.apiTarefas.controller.dtoTarefas;
+
+import com.deigo.apiTarefas.infrastructure.entitys.Tarefas;
+import com.deigo.apiTarefas.infrastructure.entitys.TarefasR2dbc;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.UUID;
+
+// versao não vai no corpo: o cliente a recebe pelo ETag
+public record TarefaResumoDto(UUID id, String titulo, String descricao, Status status, UUID usuarioId,
+                              @JsonIgnore Long versao) {
+
+    public static TarefaResumoDto de(Tarefas tarefa) {
+        UUID usuarioId = tarefa.getUsuario() != null ? tarefa.getUsuario().getId() : null;
+        return new TarefaResumoDto(tarefa.getId(), tarefa.getTitulo(), tarefa.getDescricao(), tarefa.getStatus(), usuarioId,
+                tarefa.getVersao());
+    }
+
+    public static TarefaResumoDto de(TarefasR2dbc tarefa) {
+        return new TarefaResumoDto(tarefa.getId(), tarefa.getTitulo(), tarefa.getDescricao(), tarefa.getStatus(),
+                tarefa.getUsuarioId(), tarefa.getVersao());
+    }
+}
@@ -0,0 +1,6 @@
+package com.deigo.apiTarefas.controller.dtoTarefas;
+
+import java.util.UUID;
+
+public record VersaoTarefaDto(UUID id, Long versao) {
+}
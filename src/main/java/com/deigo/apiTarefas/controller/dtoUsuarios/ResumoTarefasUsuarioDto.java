@@ -0,0 +1,6 @@
+package com.deigo.apiTarefas.controller.dtoUsuarios;
+
+import java.util.UUID;
+
+public record ResumoTarefasUsuarioDto(UUID usuarioId, long pendentes, long emAndamento, long concluidas, long total) {
+}
@@ -0,0 +1,6 @@
+package com.deigo.apiTarefas.controller.dtoUsuarios;
+
+import java.util.UUID;
+
+public record UsuarioResumoDto(UUID id, String nome, String email, Long pendentes, Long emAndamento, Long concluidas) {
+}
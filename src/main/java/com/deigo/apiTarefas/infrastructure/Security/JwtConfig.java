@@ -0,0 +1,53 @@
+package com.deigo.apiTarefas.infrastructure.Security;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+
+@Configuration
+@EnableConfigurationProperties(JwtProperties.class)
+public class JwtConfig {
+
+    // HS256 exige chave de pelo menos 256 bits
+    private static final int TAMANHO_MINIMO_SEGREDO = 32;
+
+    private final SecretKey chave;
+
+    public JwtConfig(JwtProperties properties) {
+        byte[] segredo = properties.segredo() == null ? new byte[0] : properties.segredo().getBytes(StandardCharsets.UTF_8);
+        // Sem segredo a aplicação não sobe: uma chave padrão estaria no repositório, para qualquer um assinar tokens.
+        // Só os perfis dev e test definem a deles, em application-{perfil}.properties
+        if (segredo.length < TAMANHO_MINIMO_SEGREDO) {
+            throw new IllegalStateException("apitarefas.jwt.segredo (JWT_SECRET) precisa ter pelo menos "
+                    + TAMANHO_MINIMO_SEGREDO + " bytes; fora dos perfis dev e test não há valor padrão");
+        }
+        this.chave = new SecretKeySpec(segredo, "HmacSHA256");
+    }
+
+    @Bean
+    public JwtEncoder jwtEncoder() {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(chave));
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(JwtProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        NimbusJwtDecoder nimbus = NimbusJwtDecoder.withSecretKey(chave)
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        nimbus.setJwtValidator(JwtValidators.createDefaultWithIssuer(properties.emissor()));
+        return new JwtDecoderComCache(nimbus, properties.cacheMaximo(), meterRegistry.getIfAvailable());
+    }
+}
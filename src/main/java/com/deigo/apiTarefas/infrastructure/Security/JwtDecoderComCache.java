@@ -0,0 +1,71 @@
+package com.deigo.apiTarefas.infrastructure.Security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Guarda, pelo texto exato do token, os JWTs que já passaram pela verificação de assinatura e pelos validadores,
+ * para que clientes que repetem o mesmo token não paguem o HMAC e o parse a cada requisição. Só entra no cache
+ * o que o decoder verificou, e cada entrada expira no {@code exp} do próprio token.
+ * <p>
+ * Métricas em {@code cache.*{cache=jwt.verificados}}.
+ */
+public class JwtDecoderComCache implements JwtDecoder {
+
+    private final JwtDecoder delegado;
+    private final Cache<String, Jwt> verificados;
+
+    public JwtDecoderComCache(JwtDecoder delegado, long maximo, MeterRegistry registry) {
+        this.delegado = delegado;
+        this.verificados = Caffeine.newBuilder()
+                .maximumSize(maximo)
+                .expireAfter(new AteExpirar())
+                .recordStats()
+                .build();
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, verificados, "jwt.verificados");
+        }
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        Jwt jwt = verificados.getIfPresent(token);
+        // A expiração do Caffeine não é exata; o exp é conferido de novo a cada acerto
+        if (jwt != null && jwt.getExpiresAt().isAfter(Instant.now())) {
+            return jwt;
+        }
+
+        jwt = delegado.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            verificados.put(token, jwt);
+        }
+        return jwt;
+    }
+
+    private static final class AteExpirar implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String token, Jwt jwt, long agora) {
+            return Math.max(0, Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Jwt jwt, long agora, long duracaoAtual) {
+            return expireAfterCreate(token, jwt, agora);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Jwt jwt, long agora, long duracaoAtual) {
+            return duracaoAtual;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.deigo.apiTarefas.infrastructure.Security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Tokens de acesso ({@code apitarefas.jwt.*}): segredo HS256, emissor ({@code iss}), validade e
+ * quantos tokens já verificados ficam em cache.
+ */
+@ConfigurationProperties("apitarefas.jwt")
+public record JwtProperties(
+        String segredo,
+        @DefaultValue("api-tarefas") String emissor,
+        @DefaultValue("1h") Duration validade,
+        @DefaultValue("10000") long cacheMaximo) {
+}
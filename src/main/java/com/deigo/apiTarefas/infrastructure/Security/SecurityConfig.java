@@ -1,33 +1,53 @@
 package com.deigo.apiTarefas.infrastructure.Security;
 
+import com.deigo.apiTarefas.infrastructure.limite.LimitadorDeRequisicoes;
+import com.deigo.apiTarefas.infrastructure.limite.LimiteRequisicoesFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+/**
+ * Autenticação por JWT bearer (emitido em {@code POST /auth/login}) sem sessão: nenhuma requisição cria
+ * {@code HttpSession} nem recebe cookie, e cada uma é autenticada só pelo header {@code Authorization}.
+ * <p>
+ * Com o limite de requisições ligado, o filtro dele roda logo depois do bearer, já sabendo quem é o usuário.
+ */
 @Configuration
+@Profile("!reativo")
 @EnableWebSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   ObjectProvider<LimitadorDeRequisicoes> limitador) throws Exception {
+        limitador.ifAvailable(l -> http.addFilterAfter(new LimiteRequisicoesFilter(l), BearerTokenAuthenticationFilter.class));
         return http
                 .csrf(csrf -> csrf.disable())
+                .sessionManagement(sessao -> sessao.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.POST, "/usuarios").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/tarefas").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/auth/login").permitAll()
+                        // Lista emails de todos os usuários: só tokens com escopo admin (contas com usuario.administrador)
+                        .requestMatchers(HttpMethod.GET, "/usuarios").hasAuthority("SCOPE_admin")
                         .requestMatchers("/v3/api-docs/**").permitAll()
                         .requestMatchers("/swagger-ui/**").permitAll()
                         .requestMatchers("/swagger-ui.html").permitAll()
-                        .anyRequest().permitAll()
+                        // Actuator fica em management.server.port; lá, só health e o scrape do Prometheus dispensam token
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).hasAuthority("SCOPE_admin")
+                        .requestMatchers("/error").permitAll()
+                        .anyRequest().authenticated()
                 )
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()))
                 .build();
     }
 }
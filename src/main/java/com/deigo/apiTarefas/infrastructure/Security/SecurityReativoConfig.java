@@ -0,0 +1,60 @@
+package com.deigo.apiTarefas.infrastructure.Security;
+
+import com.deigo.apiTarefas.infrastructure.limite.LimitadorDeRequisicoes;
+import com.deigo.apiTarefas.infrastructure.limite.LimiteRequisicoesWebFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.security.reactive.EndpointRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Mesmas regras do {@link SecurityConfig} para o perfil reativo: JWT bearer sem sessão (o contexto de segurança
+ * não é guardado entre requisições) e o limite de requisições logo depois da autenticação.
+ * <p>
+ * Sem springdoc no WebFlux, as rotas do Swagger não existem neste perfil.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@Profile("reativo")
+public class SecurityReativoConfig {
+
+    // Reaproveita o JwtDecoder com cache do JwtConfig: validar HS256 e consultar o cache é só CPU, sem I/O,
+    // então roda direto no event loop
+    @Bean
+    public ReactiveJwtDecoder reactiveJwtDecoder(JwtDecoder jwtDecoder) {
+        return token -> Mono.fromCallable(() -> jwtDecoder.decode(token));
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         ObjectProvider<LimitadorDeRequisicoes> limitador) {
+        limitador.ifAvailable(l -> http.addFilterAfter(new LimiteRequisicoesWebFilter(l), SecurityWebFiltersOrder.AUTHENTICATION));
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(auth -> auth
+                        .pathMatchers(HttpMethod.POST, "/usuarios").permitAll()
+                        .pathMatchers(HttpMethod.POST, "/auth/login").permitAll()
+                        // Lista emails de todos os usuários: só tokens com escopo admin (contas com usuario.administrador)
+                        .pathMatchers(HttpMethod.GET, "/usuarios").hasAuthority("SCOPE_admin")
+                        .matchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                        .matchers(EndpointRequest.toAnyEndpoint()).hasAuthority("SCOPE_admin")
+                        .anyExchange().authenticated()
+                )
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()))
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.deigo.apiTarefas.infrastructure.Security;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Configuration
+@EnableConfigurationProperties(SenhaProperties.class)
+public class SenhaConfig {
+
+    // Use sempre pelo SenhaService, que roda o hash no executor limitado e não na thread da requisição
+    @Bean
+    public PasswordEncoder passwordEncoder(SenhaProperties properties) {
+        return new BCryptPasswordEncoder(properties.custo());
+    }
+}
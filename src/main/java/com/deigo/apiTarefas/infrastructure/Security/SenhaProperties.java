@@ -0,0 +1,18 @@
+package com.deigo.apiTarefas.infrastructure.Security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Hash de senhas ({@code apitarefas.senha.*}). Cada ponto de {@code custo} dobra o tempo de CPU do BCrypt;
+ * {@code threads} e {@code fila} limitam quantos hashes rodam e esperam ao mesmo tempo.
+ */
+@ConfigurationProperties("apitarefas.senha")
+public record SenhaProperties(
+        @DefaultValue("12") int custo,
+        @DefaultValue("2") int threads,
+        @DefaultValue("64") int fila,
+        @DefaultValue("5s") Duration espera) {
+}
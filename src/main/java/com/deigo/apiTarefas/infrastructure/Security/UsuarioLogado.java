@@ -0,0 +1,20 @@
+package com.deigo.apiTarefas.infrastructure.Security;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injeta no parâmetro do controller o ID ({@code UUID}) do usuário dono do token: o {@code sub} do JWT
+ * emitido por {@code POST /auth/login}.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@AuthenticationPrincipal(expression = "T(java.util.UUID).fromString(subject)")
+public @interface UsuarioLogado {
+}
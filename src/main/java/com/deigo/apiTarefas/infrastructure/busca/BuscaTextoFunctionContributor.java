@@ -0,0 +1,30 @@
+package com.deigo.apiTarefas.infrastructure.busca;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registra a função HQL {@code relevancia_texto(titulo, descricao, termo)}. No MySQL ela vira
+ * {@code MATCH ... AGAINST} sobre o índice FULLTEXT de tarefas (migration V4), com a relevância do InnoDB.
+ * Nos outros bancos (H2 nos testes) é um fallback por substring, sem ranking: 1 quando o termo aparece, 0 quando não.
+ * <p>
+ * Registrada via {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ */
+public class BuscaTextoFunctionContributor implements FunctionContributor {
+
+    public static final String RELEVANCIA = "relevancia_texto";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functions) {
+        BasicType<Double> tipo = functions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE);
+
+        String padrao = functions.getDialect() instanceof MySQLDialect
+                ? "match(?1, ?2) against (?3 in natural language mode)"
+                : "case when locate(lower(?3), lower(concat(coalesce(?1, ''), ' ', coalesce(?2, '')))) > 0 then 1.0 else 0.0 end";
+
+        functions.getFunctionRegistry().registerPattern(RELEVANCIA, padrao, tipo);
+    }
+}
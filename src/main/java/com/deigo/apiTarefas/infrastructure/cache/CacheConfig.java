@@ -0,0 +1,25 @@
+package com.deigo.apiTarefas.infrastructure.cache;
+
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches locais (Caffeine). Tamanho, TTL e estatísticas ficam em {@code spring.cache.caffeine.spec};
+ * as métricas de hit, miss e eviction saem em {@code /actuator/metrics/cache.*}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String TAREFAS = "tarefas";
+
+    // Dentro de uma transação, put e evict só valem depois do commit: um @CacheEvict que rodasse antes deixaria
+    // uma leitura concorrente recolocar no cache a versão que a transação ainda está substituindo
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> cacheTransacional() {
+        return cacheManager -> cacheManager.setTransactionAware(true);
+    }
+}
@@ -0,0 +1,65 @@
+package com.deigo.apiTarefas.infrastructure.contadores;
+
+import com.deigo.apiTarefas.infrastructure.repository.UsuarioRepository;
+import com.deigo.apiTarefas.service.ContadorTarefasService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Corrige periodicamente a deriva dos contadores de tarefas (escritas fora do TarefasService, SQL manual,
+ * corridas entre a contagem e o UPDATE em massa). Percorre os usuários em lotes, cada lote na sua transação,
+ * para não travar a tabela de contadores inteira de uma vez.
+ */
+@Slf4j
+@Configuration
+@Profile("!reativo")
+@EnableScheduling
+@ConditionalOnProperty(name = "apitarefas.contadores.reconciliacao.habilitado", havingValue = "true", matchIfMissing = true)
+public class ReconciliacaoContadores {
+
+    private static final int LOTE_USUARIOS = 500;
+
+    private final UsuarioRepository usuarioRepository;
+    private final ContadorTarefasService contadorTarefasService;
+
+    public ReconciliacaoContadores(UsuarioRepository usuarioRepository, ContadorTarefasService contadorTarefasService) {
+        this.usuarioRepository = usuarioRepository;
+        this.contadorTarefasService = contadorTarefasService;
+    }
+
+    @Scheduled(initialDelayString = "${apitarefas.contadores.reconciliacao.intervalo:PT15M}",
+            fixedDelayString = "${apitarefas.contadores.reconciliacao.intervalo:PT15M}")
+    public void reconciliar() {
+        UUID after = null;
+        int corrigidos = 0;
+        List<UUID> lote;
+
+        do {
+            lote = usuarioRepository.findIdsApos(after, Limit.of(LOTE_USUARIOS));
+            if (lote.isEmpty()) {
+                break;
+            }
+            try {
+                corrigidos += contadorTarefasService.reconciliar(lote);
+            } catch (RuntimeException e) {
+                // Ex.: usuário apagado no meio do lote. O lote volta na próxima execução
+                log.warn("Falha ao reconciliar contadores do lote iniciado em {}", lote.getFirst(), e);
+            }
+            after = lote.getLast();
+        } while (lote.size() == LOTE_USUARIOS);
+
+        if (corrigidos > 0) {
+            log.warn("Reconciliação corrigiu {} contadores de tarefas", corrigidos);
+        } else {
+            log.debug("Contadores de tarefas sem divergência");
+        }
+    }
+}
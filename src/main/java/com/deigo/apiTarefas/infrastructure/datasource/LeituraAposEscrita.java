@@ -0,0 +1,55 @@
+package com.deigo.apiTarefas.infrastructure.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * Lembra, por uma janela curta, quais clientes escreveram no primário, para que as leituras seguintes
+ * deles não caiam numa réplica que ainda não recebeu a escrita.
+ */
+public class LeituraAposEscrita {
+
+    private static final long MAXIMO_CLIENTES = 100_000;
+
+    private final Cache<String, Boolean> escritasRecentes;
+
+    public LeituraAposEscrita(Duration janela) {
+        this.escritasRecentes = Caffeine.newBuilder()
+                .expireAfterWrite(janela)
+                .maximumSize(MAXIMO_CLIENTES)
+                .build();
+    }
+
+    void registrarEscrita() {
+        String cliente = clienteAtual();
+        if (cliente != null) {
+            escritasRecentes.put(cliente, Boolean.TRUE);
+        }
+    }
+
+    boolean escreveuRecentemente() {
+        String cliente = clienteAtual();
+        return cliente != null && escritasRecentes.getIfPresent(cliente) != null;
+    }
+
+    // Fora de uma requisição HTTP (jobs, o corpo assíncrono do /export) não há cliente para acompanhar.
+    // Com token, a chave é o usuário: várias instâncias atrás do mesmo NAT não se confundem, e o mesmo usuário
+    // vindo de outro IP continua lendo do primário
+    private static String clienteAtual() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos) {
+            Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+            if (autenticacao != null && autenticacao.isAuthenticated() && !(autenticacao instanceof AnonymousAuthenticationToken)) {
+                return "usuario:" + autenticacao.getName();
+            }
+            return atributos.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.deigo.apiTarefas.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Substitui o DataSource do Boot pelo roteamento primário/réplicas quando
+ * {@code apitarefas.replicas.habilitado=true}. Todos os pools recebem as configurações de
+ * {@code spring.datasource.hikari.*}.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicasProperties.class)
+@ConditionalOnProperty(name = "apitarefas.replicas.habilitado", havingValue = "true")
+public class ReplicasDataSourceConfig {
+
+    // Os pools não são beans (só o roteamento é), então o contexto não os fecharia sozinho
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties primario, ReplicasProperties replicas, Environment environment,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<Object, Object> alvos = new HashMap<>();
+        HikariDataSource poolPrimario = criarPool(environment, RoteamentoDataSource.PRIMARIO,
+                primario.determineUrl(), primario.determineUsername(), primario.determinePassword(),
+                primario.determineDriverClassName());
+        alvos.put(RoteamentoDataSource.PRIMARIO, poolPrimario);
+
+        List<String> chavesReplicas = new ArrayList<>();
+        for (int i = 0; i < replicas.fontes().size(); i++) {
+            ReplicasProperties.Fonte fonte = replicas.fontes().get(i);
+            String chave = "replica-" + i;
+            HikariDataSource pool = criarPool(environment, chave, fonte.url(),
+                    fonte.username() != null ? fonte.username() : primario.determineUsername(),
+                    fonte.password() != null ? fonte.password() : primario.determinePassword(),
+                    primario.determineDriverClassName());
+            pool.setReadOnly(true);
+            // O pool primário é instrumentado pelo Actuator; as réplicas não são beans, então registramos aqui
+            meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            alvos.put(chave, pool);
+            chavesReplicas.add(chave);
+        }
+
+        RoteamentoDataSource roteamento = new RoteamentoDataSource(chavesReplicas,
+                new LeituraAposEscrita(replicas.janelaLeituraAposEscrita()));
+        roteamento.setTargetDataSources(alvos);
+        roteamento.setDefaultTargetDataSource(poolPrimario);
+        roteamento.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(roteamento);
+    }
+
+    private HikariDataSource criarPool(Environment environment, String nome, String url, String username,
+                                       String password, String driverClassName) {
+        HikariDataSource pool = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .driverClassName(driverClassName)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(nome);
+        pools.add(pool);
+        return pool;
+    }
+
+    // Destruído depois do DataSource e de quem depende dele (EntityManagerFactory), que já devolveram as conexões
+    @PreDestroy
+    public void fecharPools() {
+        pools.forEach(HikariDataSource::close);
+        pools.clear();
+    }
+}
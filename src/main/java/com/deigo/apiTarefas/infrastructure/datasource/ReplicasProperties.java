@@ -0,0 +1,21 @@
+package com.deigo.apiTarefas.infrastructure.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Réplicas de leitura ({@code apitarefas.replicas.*}). Usuário e senha omitidos herdam os do
+ * {@code spring.datasource}.
+ */
+@ConfigurationProperties("apitarefas.replicas")
+public record ReplicasProperties(
+        boolean habilitado,
+        @DefaultValue("5s") Duration janelaLeituraAposEscrita,
+        @DefaultValue List<Fonte> fontes) {
+
+    public record Fonte(String url, String username, String password) {
+    }
+}
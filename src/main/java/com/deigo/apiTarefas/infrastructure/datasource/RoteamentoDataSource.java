@@ -0,0 +1,56 @@
+package com.deigo.apiTarefas.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transações {@code readOnly} vão para as réplicas em round-robin; o resto fica no primário. Precisa estar
+ * atrás de um {@code LazyConnectionDataSourceProxy}: a flag de somente leitura só é publicada depois
+ * que o gerenciador de transação pede a conexão.
+ */
+public class RoteamentoDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARIO = "primario";
+
+    private final List<String> replicas;
+    private final LeituraAposEscrita leituraAposEscrita;
+    private final AtomicInteger proxima = new AtomicInteger();
+
+    public RoteamentoDataSource(List<String> replicas, LeituraAposEscrita leituraAposEscrita) {
+        this.replicas = List.copyOf(replicas);
+        this.leituraAposEscrita = leituraAposEscrita;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                registrarEscritaAposCommit();
+            }
+            return PRIMARIO;
+        }
+        if (replicas.isEmpty() || leituraAposEscrita.escreveuRecentemente()) {
+            return PRIMARIO;
+        }
+        return replicas.get(Math.floorMod(proxima.getAndIncrement(), replicas.size()));
+    }
+
+    // A conexão é pedida no início da escrita; a janela conta do commit, que é quando a réplica começa a atrasar.
+    // Escrita desfeita não prende as leituras do cliente no primário
+    private void registrarEscritaAposCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            leituraAposEscrita.registrarEscrita();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                leituraAposEscrita.registrarEscrita();
+            }
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package com.deigo.apiTarefas.infrastructure.entitys;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Quantidade de tarefas de um usuário em um status, mantida por deltas na mesma transação que altera as tarefas
+ * (ContadorTarefasService). Não vai para o cache de segundo nível: é atualizada por UPDATE em JPQL a cada escrita.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "contador_tarefas")
+@Entity
+
+public class ContadorTarefas {
+
+    @EmbeddedId
+    private ContadorTarefasId id;
+
+    @Column(name = "quantidade")
+    private long quantidade;
+}
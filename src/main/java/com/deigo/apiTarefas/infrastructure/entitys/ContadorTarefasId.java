@@ -0,0 +1,50 @@
+package com.deigo.apiTarefas.infrastructure.entitys;
+
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.UUID;
+
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class ContadorTarefasId implements Serializable, Comparable<ContadorTarefasId> {
+
+    // Ordem fixa de travamento das linhas: transações que mexem em vários contadores não entram em deadlock.
+    // É a ordem da chave primária no banco (a mesma do FOR UPDATE em travarDosUsuarios): o BINARY(16) compara
+    // bytes sem sinal, não os longs com sinal do UUID.compareTo, e o status é VARCHAR, comparado pelo nome
+    private static final Comparator<ContadorTarefasId> ORDEM = Comparator
+            .comparing(ContadorTarefasId::getUsuarioId, ContadorTarefasId::compararComoBinario)
+            .thenComparing(id -> id.getStatus().name());
+
+    @Column(name = "usuario_id")
+    private UUID usuarioId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "status", length = 20)
+    private Status status;
+
+    @Override
+    public int compareTo(ContadorTarefasId outro) {
+        return ORDEM.compare(this, outro);
+    }
+
+    private static int compararComoBinario(UUID a, UUID b) {
+        int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return msb != 0 ? msb : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
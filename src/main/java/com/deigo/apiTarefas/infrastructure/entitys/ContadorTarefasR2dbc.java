@@ -0,0 +1,30 @@
+package com.deigo.apiTarefas.infrastructure.entitys;
+
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import lombok.*;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.util.UUID;
+
+/**
+ * Mesma tabela de {@link ContadorTarefas}, mapeada para o Spring Data R2DBC (perfil reativo). Sem {@code @Id}: a
+ * chave é composta e o repositório só tem consultas e UPDATEs escritos à mão.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("contador_tarefas")
+
+public class ContadorTarefasR2dbc {
+
+    @Column("usuario_id")
+    private UUID usuarioId;
+
+    @Column("status")
+    private Status status;
+
+    @Column("quantidade")
+    private long quantidade;
+}
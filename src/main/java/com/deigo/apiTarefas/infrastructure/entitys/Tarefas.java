@@ -1,9 +1,14 @@
 package com.deigo.apiTarefas.infrastructure.entitys;
 
 import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.id.UuidV7;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.util.UUID;
 
@@ -14,11 +19,13 @@ import java.util.UUID;
 @Builder
 @Table(name = "tarefas")
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 
 public class Tarefas {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(name = "titulo")
@@ -28,9 +35,14 @@ public class Tarefas {
     private String descricao;
 
     @Enumerated(EnumType.STRING)
-    @Column(name = "status")
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "status", length = 20)
     private Status status;
 
+    @Version
+    @Column(name = "versao")
+    private Long versao;
+
     @ManyToOne
     @JoinColumn(name = "usuarioId")
     @JsonIgnoreProperties({"tarefas"})
@@ -0,0 +1,44 @@
+package com.deigo.apiTarefas.infrastructure.entitys;
+
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.util.UUID;
+
+/**
+ * Mesma tabela de {@link Tarefas}, mapeada para o Spring Data R2DBC (perfil reativo). Sem relacionamento: o usuário
+ * é só a coluna usuario_id. O id (UUID v7) é atribuído pelo serviço antes do INSERT; versao nula marca a entidade
+ * como nova.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table("tarefas")
+
+public class TarefasR2dbc {
+
+    @Id
+    private UUID id;
+
+    @Column("titulo")
+    private String titulo;
+
+    @Column("descricao")
+    private String descricao;
+
+    @Column("status")
+    private Status status;
+
+    @Column("usuario_id")
+    private UUID usuarioId;
+
+    @Version
+    @Column("versao")
+    private Long versao;
+}
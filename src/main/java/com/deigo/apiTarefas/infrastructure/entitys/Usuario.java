@@ -1,8 +1,12 @@
 package com.deigo.apiTarefas.infrastructure.entitys;
 
+import com.deigo.apiTarefas.infrastructure.id.UuidV7;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -18,11 +22,13 @@ import java.util.UUID;
 @Builder
 @Table(name = "usuario")
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 
 public class Usuario {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(name = "nome")
@@ -31,10 +37,23 @@ public class Usuario {
     @Column(name = "email", unique = true)
     private String email;
 
+    // Hash BCrypt (SenhaService), ou texto puro em contas antigas até o próximo login; nunca sai nas respostas
+    @JsonIgnore
     @Column(name = "senha")
     private String senha;
 
+    // Escopo admin no login. Concedido só por fora da API (UPDATE no banco) sobre uma conta que já existe:
+    // nem o cadastro nem a atualização de usuário escrevem esta coluna
+    @JsonIgnore
+    @Column(name = "administrador")
+    private boolean administrador;
+
+    @Version
+    @Column(name = "versao")
+    private Long versao;
+
     @OneToMany(mappedBy = "usuario", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JsonIgnoreProperties("usuarioId")
     private List<Tarefas> tarefas = new ArrayList<>();
 }
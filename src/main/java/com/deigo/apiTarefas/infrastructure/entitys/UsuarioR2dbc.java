@@ -0,0 +1,46 @@
+package com.deigo.apiTarefas.infrastructure.entitys;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.util.UUID;
+
+/**
+ * Mesma tabela de {@link Usuario}, mapeada para o Spring Data R2DBC (perfil reativo). Sem a coleção de tarefas:
+ * elas são lidas por consulta própria.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table("usuario")
+
+public class UsuarioR2dbc {
+
+    @Id
+    private UUID id;
+
+    @Column("nome")
+    private String nome;
+
+    @Column("email")
+    private String email;
+
+    @JsonIgnore
+    @Column("senha")
+    private String senha;
+
+    // Só lido no login; nem o cadastro nem a atualização pela API alteram esta coluna
+    @JsonIgnore
+    @Column("administrador")
+    private boolean administrador;
+
+    @Version
+    @Column("versao")
+    private Long versao;
+}
@@ -0,0 +1,50 @@
+package com.deigo.apiTarefas.infrastructure.etag;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.VersaoTarefaDto;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * ETags fortes derivados da coluna {@code versao}: mudam sempre que alguma tarefa representada muda,
+ * sem precisar serializar o corpo para descobrir isso.
+ */
+public final class Etags {
+
+    private Etags() {
+    }
+
+    public static String daTarefa(TarefaResumoDto tarefa) {
+        return "\"" + tarefa.id() + "-" + tarefa.versao() + "\"";
+    }
+
+    public static String dasTarefas(List<TarefaResumoDto> tarefas) {
+        return dasVersoes(tarefas.stream().map(tarefa -> new VersaoTarefaDto(tarefa.id(), tarefa.versao())).toList());
+    }
+
+    // Digest de (id, versao) na ordem da consulta; as duas consultas que alimentam isto ordenam por id
+    public static String dasVersoes(List<VersaoTarefaDto> versoes) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(24);
+        for (VersaoTarefaDto versao : versoes) {
+            buffer.clear();
+            buffer.putLong(versao.id().getMostSignificantBits());
+            buffer.putLong(versao.id().getLeastSignificantBits());
+            buffer.putLong(versao.versao() != null ? versao.versao() : -1);
+            digest.update(buffer.array());
+        }
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.deigo.apiTarefas.infrastructure.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class AcessoNegadoException extends RuntimeException {
+
+    public AcessoNegadoException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -0,0 +1,12 @@
+package com.deigo.apiTarefas.infrastructure.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BuscaInvalidaException extends RuntimeException {
+
+    public BuscaInvalidaException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -0,0 +1,12 @@
+package com.deigo.apiTarefas.infrastructure.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNAUTHORIZED)
+public class CredenciaisInvalidasException extends RuntimeException {
+
+    public CredenciaisInvalidasException() {
+        super("Email ou senha inválidos");
+    }
+}
@@ -0,0 +1,12 @@
+package com.deigo.apiTarefas.infrastructure.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class EmailJaCadastradoException extends RuntimeException {
+
+    public EmailJaCadastradoException() {
+        super("Email já existe");
+    }
+}
@@ -0,0 +1,12 @@
+package com.deigo.apiTarefas.infrastructure.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class UsuarioNaoEncontradoException extends RuntimeException {
+
+    public UsuarioNaoEncontradoException(String mensagem) {
+        super(mensagem);
+    }
+}
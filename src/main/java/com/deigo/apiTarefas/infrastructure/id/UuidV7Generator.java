@@ -0,0 +1,40 @@
+package com.deigo.apiTarefas.infrastructure.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Layout: 48 bits de epoch em ms, versão 7, 12 bits de sequência (método 1 da RFC 9562) e 62 bits
+ * aleatórios. A sequência garante ordem crescente dentro do mesmo milissegundo; se ela estourar,
+ * o timestamp avança um ms em vez de repetir valor.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final AtomicLong ULTIMO = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return gerar();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    public static UUID gerar() {
+        long agora = System.currentTimeMillis() << 12;
+        long estado = ULTIMO.updateAndGet(anterior -> Math.max(agora, anterior + 1));
+
+        long msb = (estado >>> 12) << 16 | 0x7000L | (estado & 0xFFFL);
+        long lsb = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
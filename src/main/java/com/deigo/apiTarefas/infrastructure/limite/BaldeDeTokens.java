@@ -0,0 +1,42 @@
+package com.deigo.apiTarefas.infrastructure.limite;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Balde de tokens sem lock, na forma de GCRA: em vez de guardar tokens e o instante da última reposição, guarda
+ * um único {@code long}, o instante teórico em que a próxima requisição estaria "em dia". Cada requisição aceita
+ * empurra esse instante um intervalo para frente; se ele passaria de {@code capacidade} intervalos à frente de
+ * agora, o balde está vazio. Um compareAndSet por requisição, sem {@code synchronized} nem estado a reconciliar.
+ */
+public final class BaldeDeTokens {
+
+    private static final double NANOS_POR_SEGUNDO = 1_000_000_000d;
+
+    private final long intervaloNanos;
+    private final long toleranciaNanos;
+    private final AtomicLong emDiaEm = new AtomicLong(Long.MIN_VALUE);
+
+    public BaldeDeTokens(int capacidade, double porSegundo) {
+        this.intervaloNanos = Math.max(1, (long) (NANOS_POR_SEGUNDO / porSegundo));
+        this.toleranciaNanos = capacidade * intervaloNanos;
+    }
+
+    /**
+     * Consome um token no instante {@code agoraNanos} (escala de {@link System#nanoTime()}).
+     *
+     * @return 0 quando a requisição pode seguir; senão, em quantos nanos haverá um token
+     */
+    public long consumir(long agoraNanos) {
+        while (true) {
+            long atual = emDiaEm.get();
+            long proximo = Math.max(atual, agoraNanos) + intervaloNanos;
+            long excesso = proximo - agoraNanos - toleranciaNanos;
+            if (excesso > 0) {
+                return excesso;
+            }
+            if (emDiaEm.compareAndSet(atual, proximo)) {
+                return 0;
+            }
+        }
+    }
+}
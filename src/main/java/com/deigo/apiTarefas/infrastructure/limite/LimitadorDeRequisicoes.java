@@ -0,0 +1,110 @@
+package com.deigo.apiTarefas.infrastructure.limite;
+
+import com.deigo.apiTarefas.infrastructure.limite.LimiteRequisicoesProperties.Limite;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Decide se uma requisição passa pelos baldes do cliente (da rota ou o padrão) e pelo global.
+ * <p>
+ * Os baldes por cliente ficam num cache Caffeine limitado a {@code maximoClientes}, que descarta primeiro as
+ * chaves sem acesso há mais de {@code ociosidade}: a memória não cresce com a quantidade de IPs ou usuários
+ * vistos, e um cliente que volta depois de ocioso encontra o balde cheio, como encontraria de qualquer forma.
+ * Métricas em {@code cache.*{cache=limite.baldes}} e {@code apitarefas.limite.rejeitadas{limite}}.
+ */
+public class LimitadorDeRequisicoes {
+
+    private static final String LIMITE_CLIENTE = "cliente";
+    private static final String LIMITE_GLOBAL = "global";
+
+    private final Cache<String, BaldeDeTokens> baldes;
+    private final BaldeDeTokens global;
+    private final Limite porCliente;
+    private final List<RegraDeRota> rotas;
+    private final LongSupplier relogio;
+    private final MeterRegistry registry;
+
+    private record RegraDeRota(String metodo, PathPattern padrao, Limite limite) {
+
+        boolean casa(String metodo, PathContainer caminho) {
+            return (this.metodo == null || this.metodo.isBlank() || this.metodo.equalsIgnoreCase(metodo))
+                    && padrao.matches(caminho);
+        }
+    }
+
+    public LimitadorDeRequisicoes(LimiteRequisicoesProperties properties, MeterRegistry registry) {
+        this(properties, registry, System::nanoTime);
+    }
+
+    public LimitadorDeRequisicoes(LimiteRequisicoesProperties properties, MeterRegistry registry, LongSupplier relogio) {
+        this.baldes = Caffeine.newBuilder()
+                .maximumSize(properties.maximoClientes())
+                .expireAfterAccess(properties.ociosidade())
+                .recordStats()
+                .build();
+        this.global = properties.global().ativo()
+                ? new BaldeDeTokens(properties.global().capacidade(), properties.global().porSegundo())
+                : null;
+        this.porCliente = properties.porCliente();
+        this.rotas = properties.rotas().stream()
+                .map(rota -> new RegraDeRota(rota.metodo(), PathPatternParser.defaultInstance.parse(rota.padrao()), rota.limite()))
+                .toList();
+        this.relogio = relogio;
+        this.registry = registry;
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, baldes, "limite.baldes");
+        }
+    }
+
+    /**
+     * Consome um token do balde do cliente e um do global.
+     *
+     * @param cliente chave do cliente, como {@code usuario:<id>} ou {@code ip:<endereço>}
+     * @return {@link Duration#ZERO} quando a requisição pode seguir; senão, quanto esperar antes de tentar de novo
+     */
+    public Duration verificar(String metodo, String caminho, String cliente) {
+        PathContainer caminhoAnalisado = PathContainer.parsePath(caminho);
+        RegraDeRota regra = rotas.stream().filter(rota -> rota.casa(metodo, caminhoAnalisado)).findFirst().orElse(null);
+        Limite limite = regra == null ? porCliente : regra.limite();
+        String nomeLimite = regra == null ? LIMITE_CLIENTE : regra.padrao().getPatternString();
+        long agora = relogio.getAsLong();
+
+        // Cliente antes do global: quem já estourou o próprio limite não gasta a cota de todos
+        if (limite.ativo()) {
+            BaldeDeTokens balde = baldes.get(nomeLimite + "|" + cliente,
+                    chave -> new BaldeDeTokens(limite.capacidade(), limite.porSegundo()));
+            long espera = balde.consumir(agora);
+            if (espera > 0) {
+                return rejeitar(nomeLimite, espera);
+            }
+        }
+        if (global != null) {
+            long espera = global.consumir(agora);
+            if (espera > 0) {
+                return rejeitar(LIMITE_GLOBAL, espera);
+            }
+        }
+        return Duration.ZERO;
+    }
+
+    private Duration rejeitar(String limite, long esperaNanos) {
+        if (registry != null) {
+            Counter.builder("apitarefas.limite.rejeitadas")
+                    .description("Requisições recusadas com 429 pelo limite de requisições")
+                    .tag("limite", limite)
+                    .register(registry)
+                    .increment();
+        }
+        return Duration.ofNanos(esperaNanos);
+    }
+}
@@ -0,0 +1,25 @@
+package com.deigo.apiTarefas.infrastructure.limite;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Liga o limite de requisições quando {@code apitarefas.limite.habilitado} não é {@code false}. O filtro em si é
+ * montado pelo {@code SecurityConfig} (ou pelo {@code SecurityReativoConfig}, no perfil reativo), que só o adiciona
+ * se este bean existir.
+ */
+@Configuration
+@EnableConfigurationProperties(LimiteRequisicoesProperties.class)
+@ConditionalOnProperty(name = "apitarefas.limite.habilitado", havingValue = "true", matchIfMissing = true)
+public class LimiteRequisicoesConfig {
+
+    @Bean
+    public LimitadorDeRequisicoes limitadorDeRequisicoes(LimiteRequisicoesProperties properties,
+                                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        return new LimitadorDeRequisicoes(properties, meterRegistry.getIfAvailable());
+    }
+}
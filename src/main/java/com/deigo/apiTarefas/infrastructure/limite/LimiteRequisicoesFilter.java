@@ -0,0 +1,63 @@
+package com.deigo.apiTarefas.infrastructure.limite;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Responde 429 com {@code Retry-After} quando o {@link LimitadorDeRequisicoes} recusa a requisição.
+ * <p>
+ * Não é um {@code @Component}: entra na cadeia do {@code SecurityConfig} logo depois da autenticação do bearer,
+ * para conhecer o usuário do token. Sem token (cadastro, login, requisições que vão dar 401), a chave é o IP.
+ */
+public class LimiteRequisicoesFilter extends OncePerRequestFilter {
+
+    private final LimitadorDeRequisicoes limitador;
+
+    public LimiteRequisicoesFilter(LimitadorDeRequisicoes limitador) {
+        this.limitador = limitador;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Health checks e o scrape do Prometheus não podem ser barrados pelo próprio limite
+        return caminho(request).startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Duration espera = limitador.verificar(request.getMethod(), caminho(request), cliente(request));
+        if (espera.isZero()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // Retry-After só aceita segundos inteiros; arredonda para cima para o cliente não voltar cedo demais
+        long segundos = Math.max(1, (espera.toMillis() + 999) / 1000);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(segundos));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Limite de requisições excedido");
+    }
+
+    private static String caminho(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static String cliente(HttpServletRequest request) {
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacao != null && autenticacao.isAuthenticated() && !(autenticacao instanceof AnonymousAuthenticationToken)) {
+            return "usuario:" + autenticacao.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
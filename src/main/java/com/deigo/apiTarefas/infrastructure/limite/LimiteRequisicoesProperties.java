@@ -0,0 +1,38 @@
+package com.deigo.apiTarefas.infrastructure.limite;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Limite de requisições ({@code apitarefas.limite.*}). Cada limite é um balde de tokens: {@code capacidade} é a
+ * rajada aceita de uma vez e {@code porSegundo} a reposição contínua; capacidade 0 desliga aquele limite.
+ * A primeira regra de {@code rotas} que casar com a requisição substitui o {@code porCliente}; o {@code global}
+ * vale para todas.
+ */
+@ConfigurationProperties("apitarefas.limite")
+public record LimiteRequisicoesProperties(
+        @DefaultValue("true") boolean habilitado,
+        @DefaultValue Limite global,
+        @DefaultValue Limite porCliente,
+        @DefaultValue List<Rota> rotas,
+        @DefaultValue("100000") long maximoClientes,
+        @DefaultValue("10m") Duration ociosidade) {
+
+    public record Limite(@DefaultValue("0") int capacidade, @DefaultValue("0") double porSegundo) {
+
+        public boolean ativo() {
+            return capacidade > 0 && porSegundo > 0;
+        }
+    }
+
+    // metodo vazio vale para qualquer método; padrao no formato de PathPattern, como nos @RequestMapping
+    public record Rota(String metodo, String padrao, int capacidade, double porSegundo) {
+
+        public Limite limite() {
+            return new Limite(capacidade, porSegundo);
+        }
+    }
+}
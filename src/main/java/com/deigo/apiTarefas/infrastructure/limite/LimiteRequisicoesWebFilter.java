@@ -0,0 +1,70 @@
+package com.deigo.apiTarefas.infrastructure.limite;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+/**
+ * Versão WebFlux do {@link LimiteRequisicoesFilter}, para o perfil reativo: mesmo limitador, mesmas chaves de
+ * cliente e mesma resposta 429 com {@code Retry-After}.
+ * <p>
+ * Também não é um bean: o {@code SecurityReativoConfig} o coloca depois da autenticação do bearer.
+ */
+public class LimiteRequisicoesWebFilter implements WebFilter {
+
+    private final LimitadorDeRequisicoes limitador;
+
+    public LimiteRequisicoesWebFilter(LimitadorDeRequisicoes limitador) {
+        this.limitador = limitador;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String caminho = request.getPath().pathWithinApplication().value();
+        // Health checks e o scrape do Prometheus não podem ser barrados pelo próprio limite
+        if (caminho.startsWith("/actuator/")) {
+            return chain.filter(exchange);
+        }
+
+        return cliente(request).flatMap(cliente -> {
+            Duration espera = limitador.verificar(request.getMethod().name(), caminho, cliente);
+            if (espera.isZero()) {
+                return chain.filter(exchange);
+            }
+
+            // Retry-After só aceita segundos inteiros; arredonda para cima para o cliente não voltar cedo demais
+            long segundos = Math.max(1, (espera.toMillis() + 999) / 1000);
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(segundos));
+            return response.setComplete();
+        });
+    }
+
+    private static Mono<String> cliente(ServerHttpRequest request) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(autenticacao -> autenticacao.isAuthenticated() && !(autenticacao instanceof AnonymousAuthenticationToken))
+                .map(Authentication::getName)
+                .map(nome -> "usuario:" + nome)
+                .defaultIfEmpty("ip:" + endereco(request));
+    }
+
+    private static String endereco(ServerHttpRequest request) {
+        InetSocketAddress remoto = request.getRemoteAddress();
+        return remoto != null && remoto.getAddress() != null ? remoto.getAddress().getHostAddress() : "desconhecido";
+    }
+}
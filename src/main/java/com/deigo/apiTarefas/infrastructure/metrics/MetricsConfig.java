@@ -0,0 +1,21 @@
+package com.deigo.apiTarefas.infrastructure.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Ativa o {@code @Timed} nos services. Os controllers já são medidos pelo {@code http.server.requests}
+ * do Actuator, o Hikari pelos gauges {@code hikaricp.*} e o Hibernate por {@code hibernate.*}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    public static final String SERVICE = "apitarefas.service";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
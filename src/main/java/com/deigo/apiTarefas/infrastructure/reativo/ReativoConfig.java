@@ -0,0 +1,79 @@
+package com.deigo.apiTarefas.infrastructure.reativo;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.dialect.MySqlDialect;
+import org.springframework.data.r2dbc.dialect.R2dbcDialect;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Infraestrutura do perfil {@code reativo}: servidor Netty e conversões do R2DBC.
+ * <p>
+ * Com spring-boot-starter-web e -webflux no classpath, a auto-configuração escolheria o Tomcat também para o
+ * stack reativo; o bean de Netty garante o event loop com poucas threads. No MySQL os UUIDs ficam em BINARY(16),
+ * no mesmo layout do Hibernate (bits mais significativos primeiro), e o driver R2DBC não os converte sozinho.
+ */
+@Configuration
+@Profile("reativo")
+public class ReativoConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public R2dbcDialect r2dbcDialect(ConnectionFactory connectionFactory) {
+        return DialectResolver.getDialect(connectionFactory);
+    }
+
+    @Bean
+    public R2dbcCustomConversions r2dbcCustomConversions(R2dbcDialect dialect) {
+        List<Converter<?, ?>> conversoes = dialect instanceof MySqlDialect
+                ? List.of(new UuidParaBytes(), new BytesParaUuid(), new ByteBufferParaUuid())
+                : List.of();
+        return R2dbcCustomConversions.of(dialect, conversoes);
+    }
+
+    @WritingConverter
+    static class UuidParaBytes implements Converter<UUID, byte[]> {
+
+        @Override
+        public byte[] convert(UUID id) {
+            return ByteBuffer.allocate(16)
+                    .putLong(id.getMostSignificantBits())
+                    .putLong(id.getLeastSignificantBits())
+                    .array();
+        }
+    }
+
+    @ReadingConverter
+    static class BytesParaUuid implements Converter<byte[], UUID> {
+
+        @Override
+        public UUID convert(byte[] bytes) {
+            return new ByteBufferParaUuid().convert(ByteBuffer.wrap(bytes));
+        }
+    }
+
+    @ReadingConverter
+    static class ByteBufferParaUuid implements Converter<ByteBuffer, UUID> {
+
+        @Override
+        public UUID convert(ByteBuffer buffer) {
+            ByteBuffer leitura = buffer.duplicate();
+            return new UUID(leitura.getLong(), leitura.getLong());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.deigo.apiTarefas.infrastructure.reativo;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+// O suporte web do Spring Data (Pageable nos controllers, com @PageableDefault) só se registra sozinho no MVC
+@Configuration
+@Profile("reativo")
+public class ReativoWebConfig implements WebFluxConfigurer {
+
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(new ReactivePageableHandlerMethodArgumentResolver());
+    }
+}
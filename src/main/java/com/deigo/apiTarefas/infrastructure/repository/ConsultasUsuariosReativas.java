@@ -0,0 +1,12 @@
+package com.deigo.apiTarefas.infrastructure.repository;
+
+import com.deigo.apiTarefas.controller.dtoUsuarios.UsuarioResumoDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+// Fragmento do UsuarioReativoRepository: @Query do R2DBC não aplica Pageable, então a página é montada à mão
+public interface ConsultasUsuariosReativas {
+
+    Mono<Page<UsuarioResumoDto>> findResumos(Pageable pageable);
+}
@@ -0,0 +1,65 @@
+package com.deigo.apiTarefas.infrastructure.repository;
+
+import com.deigo.apiTarefas.controller.dtoUsuarios.UsuarioResumoDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Mesmo GROUP BY do {@code UsuarioRepository.findResumos}, em SQL nativo. O ORDER BY é montado só com as colunas
+ * de {@link #COLUNAS}; propriedades fora dela já foram recusadas pelo controller e aqui são ignoradas.
+ */
+class ConsultasUsuariosReativasImpl implements ConsultasUsuariosReativas {
+
+    private static final Map<String, String> COLUNAS = Map.of("id", "u.id", "nome", "u.nome", "email", "u.email");
+
+    private static final String SELECT = "select u.id, u.nome, u.email, " +
+            "sum(case when t.status = 'PENDENTE' then 1 else 0 end) as pendentes, " +
+            "sum(case when t.status = 'EM_ANDAMENTO' then 1 else 0 end) as em_andamento, " +
+            "sum(case when t.status = 'CONCLUIDA' then 1 else 0 end) as concluidas " +
+            "from usuario u left join tarefas t on t.usuario_id = u.id " +
+            "group by u.id, u.nome, u.email ";
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter converter;
+
+    ConsultasUsuariosReativasImpl(DatabaseClient databaseClient, R2dbcConverter converter) {
+        this.databaseClient = databaseClient;
+        this.converter = converter;
+    }
+
+    @Override
+    public Mono<Page<UsuarioResumoDto>> findResumos(Pageable pageable) {
+        // O converter aplica as mesmas conversões dos repositórios (UUID em BINARY(16) no MySQL, SUM em DECIMAL)
+        Mono<List<UsuarioResumoDto>> conteudo = databaseClient.sql(SELECT + ordenacao(pageable.getSort())
+                        + " limit :limite offset :offset")
+                .bind("limite", pageable.getPageSize())
+                .bind("offset", pageable.getOffset())
+                .map((row, metadata) -> converter.read(UsuarioResumoDto.class, row, metadata))
+                .all()
+                .collectList();
+
+        Mono<Long> total = databaseClient.sql("select count(*) as total from usuario")
+                .map(row -> row.get("total", Long.class))
+                .one();
+
+        return Mono.zip(conteudo, total)
+                .<Page<UsuarioResumoDto>>map(pagina -> new PageImpl<>(pagina.getT1(), pageable, pagina.getT2()));
+    }
+
+    private static String ordenacao(Sort sort) {
+        String colunas = sort.stream()
+                .filter(ordem -> COLUNAS.containsKey(ordem.getProperty()))
+                .map(ordem -> COLUNAS.get(ordem.getProperty()) + (ordem.isAscending() ? " asc" : " desc"))
+                .collect(Collectors.joining(", "));
+        return "order by " + (colunas.isEmpty() ? "u.id" : colunas);
+    }
+}
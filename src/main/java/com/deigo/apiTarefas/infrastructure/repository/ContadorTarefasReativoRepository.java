@@ -0,0 +1,30 @@
+package com.deigo.apiTarefas.infrastructure.repository;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.ContagemStatusDto;
+import com.deigo.apiTarefas.infrastructure.entitys.ContadorTarefasR2dbc;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+// Contraparte R2DBC do ContadorTarefasRepository (perfil reativo); a reconciliação continua só no stack servlet
+@Repository
+public interface ContadorTarefasReativoRepository extends org.springframework.data.repository.Repository<ContadorTarefasR2dbc, UUID> {
+
+    @Modifying
+    @Query("insert into contador_tarefas (usuario_id, status, quantidade) values (:usuarioId, :status, 0)")
+    Mono<Integer> inicializar(@Param("usuarioId") UUID usuarioId, @Param("status") Status status);
+
+    // Incremento relativo no próprio UPDATE: escritas concorrentes no mesmo contador não se sobrescrevem
+    @Modifying
+    @Query("update contador_tarefas set quantidade = quantidade + :delta where usuario_id = :usuarioId and status = :status")
+    Mono<Integer> somar(@Param("usuarioId") UUID usuarioId, @Param("status") Status status, @Param("delta") long delta);
+
+    @Query("select usuario_id, status, quantidade from contador_tarefas where usuario_id = :usuarioId")
+    Flux<ContagemStatusDto> findByUsuarioId(@Param("usuarioId") UUID usuarioId);
+}
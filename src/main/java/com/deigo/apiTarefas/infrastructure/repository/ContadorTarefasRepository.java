@@ -0,0 +1,33 @@
+package com.deigo.apiTarefas.infrastructure.repository;
+
+import com.deigo.apiTarefas.infrastructure.entitys.ContadorTarefas;
+import com.deigo.apiTarefas.infrastructure.entitys.ContadorTarefasId;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ContadorTarefasRepository extends JpaRepository<ContadorTarefas, ContadorTarefasId> {
+
+    List<ContadorTarefas> findByIdUsuarioId(UUID usuarioId);
+
+    // Incremento relativo no próprio UPDATE: escritas concorrentes no mesmo contador não se sobrescrevem
+    @Modifying
+    @Query("update ContadorTarefas c set c.quantidade = c.quantidade + :delta " +
+            "where c.id.usuarioId = :usuarioId and c.id.status = :status")
+    int somar(@Param("usuarioId") UUID usuarioId, @Param("status") Status status, @Param("delta") long delta);
+
+    // Trava os contadores durante a reconciliação; deltas concorrentes esperam e são aplicados sobre o valor corrigido
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from ContadorTarefas c where c.id.usuarioId in :usuarioIds order by c.id.usuarioId, c.id.status")
+    List<ContadorTarefas> travarDosUsuarios(@Param("usuarioIds") Collection<UUID> usuarioIds);
+}
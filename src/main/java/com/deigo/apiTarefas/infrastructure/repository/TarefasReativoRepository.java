@@ -0,0 +1,104 @@
+package com.deigo.apiTarefas.infrastructure.repository;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.StatusTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.VersaoTarefaDto;
+import com.deigo.apiTarefas.infrastructure.entitys.TarefasR2dbc;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Contraparte R2DBC do {@link TarefasRepository} (perfil reativo), com as mesmas consultas em SQL nativo. Os
+ * {@code Flux} são lidos do driver sob demanda: o banco só entrega linhas à medida que o cliente HTTP consome.
+ */
+@Repository
+public interface TarefasReativoRepository extends R2dbcRepository<TarefasR2dbc, UUID> {
+
+    @Query("select id, titulo, descricao, status, usuario_id, versao from tarefas where id = :id")
+    Mono<TarefaResumoDto> findResumoById(@Param("id") UUID id);
+
+    @Query("select id, titulo, descricao, status, usuario_id, versao from tarefas " +
+            "where usuario_id = :usuarioId order by id")
+    Flux<TarefaResumoDto> findResumosByUsuarioId(@Param("usuarioId") UUID usuarioId);
+
+    // Só (id, versao), para responder If-None-Match sem ler título e descrição
+    @Query("select id, versao from tarefas where usuario_id = :usuarioId order by id")
+    Flux<VersaoTarefaDto> findVersoesByUsuarioId(@Param("usuarioId") UUID usuarioId);
+
+    // Paginação por keyset no índice (usuario_id, id), como no TarefasRepository
+    @Query("select id, titulo, descricao, status, usuario_id, versao from tarefas " +
+            "where usuario_id = :usuarioId order by id limit :limite")
+    Flux<TarefaResumoDto> findResumosDoUsuario(@Param("usuarioId") UUID usuarioId, @Param("limite") int limite);
+
+    @Query("select id, titulo, descricao, status, usuario_id, versao from tarefas " +
+            "where usuario_id = :usuarioId and id > :after order by id limit :limite")
+    Flux<TarefaResumoDto> findResumosDoUsuarioApos(@Param("usuarioId") UUID usuarioId, @Param("after") UUID after,
+                                                   @Param("limite") int limite);
+
+    // Exportação: sem ORDER BY nem LIMIT, lida em streaming enquanto o cliente consome
+    @Query("select id, titulo, descricao, status, usuario_id, versao from tarefas where usuario_id = :usuarioId")
+    Flux<TarefaResumoDto> streamByUsuarioId(@Param("usuarioId") UUID usuarioId);
+
+    // MATCH ... AGAINST sobre o índice FULLTEXT da V4 do MySQL; mesma ordenação do relevancia_texto do JPA
+    @Query("select id, titulo, descricao, status, usuario_id, versao from tarefas " +
+            "where match(titulo, descricao) against (:termo in natural language mode) > 0 " +
+            "and usuario_id = :usuarioId and (:status is null or status = :status) " +
+            "order by match(titulo, descricao) against (:termo in natural language mode) desc, id limit :limite")
+    Flux<TarefaResumoDto> buscarPorTextoNoIndice(@Param("termo") String termo,
+                                                 @Param("usuarioId") UUID usuarioId,
+                                                 @Param("status") Status status,
+                                                 @Param("limite") int limite);
+
+    // Fallback por substring dos outros bancos (H2), sem ranking, como o BuscaTextoFunctionContributor
+    @Query("select id, titulo, descricao, status, usuario_id, versao from tarefas " +
+            "where locate(lower(:termo), lower(concat(coalesce(titulo, ''), ' ', coalesce(descricao, '')))) > 0 " +
+            "and usuario_id = :usuarioId and (:status is null or status = :status) " +
+            "order by id limit :limite")
+    Flux<TarefaResumoDto> buscarPorTrecho(@Param("termo") String termo,
+                                          @Param("usuarioId") UUID usuarioId,
+                                          @Param("status") Status status,
+                                          @Param("limite") int limite);
+
+    // FOR UPDATE antes do UPDATE em massa, pelo mesmo motivo do TarefasRepository: o UPDATE move exatamente as
+    // linhas contadas aqui
+    @Query("select status from tarefas where usuario_id = :usuarioId and id in (:ids) " +
+            "and (status is null or status <> :novoStatus) for update")
+    Flux<StatusTarefaDto> travarTransicaoPorIds(@Param("usuarioId") UUID usuarioId,
+                                                @Param("ids") Collection<UUID> ids,
+                                                @Param("novoStatus") Status novoStatus);
+
+    @Query("select status from tarefas where usuario_id = :usuarioId " +
+            "and (:statusAtual is null or status = :statusAtual) and (status is null or status <> :novoStatus) for update")
+    Flux<StatusTarefaDto> travarTransicaoDoUsuario(@Param("usuarioId") UUID usuarioId,
+                                                   @Param("statusAtual") Status statusAtual,
+                                                   @Param("novoStatus") Status novoStatus);
+
+    @Modifying
+    @Query("update tarefas set status = :novoStatus, versao = versao + 1 " +
+            "where usuario_id = :usuarioId and id in (:ids) and (status is null or status <> :novoStatus)")
+    Mono<Integer> atualizarStatusPorIds(@Param("usuarioId") UUID usuarioId,
+                                        @Param("ids") Collection<UUID> ids,
+                                        @Param("novoStatus") Status novoStatus);
+
+    @Modifying
+    @Query("update tarefas set status = :novoStatus, versao = versao + 1 " +
+            "where usuario_id = :usuarioId and (:statusAtual is null or status = :statusAtual) " +
+            "and (status is null or status <> :novoStatus)")
+    Mono<Integer> atualizarStatusDoUsuario(@Param("usuarioId") UUID usuarioId,
+                                           @Param("statusAtual") Status statusAtual,
+                                           @Param("novoStatus") Status novoStatus);
+
+    // A FK de tarefas não tem ON DELETE CASCADE: no perfil reativo, sem o cascade do JPA, o serviço apaga antes
+    @Modifying
+    @Query("delete from tarefas where usuario_id = :usuarioId")
+    Mono<Integer> deleteByUsuarioId(@Param("usuarioId") UUID usuarioId);
+}
@@ -1,12 +1,27 @@
 package com.deigo.apiTarefas.infrastructure.repository;
 
+import com.deigo.apiTarefas.controller.dtoTarefas.ContagemStatusDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.VersaoTarefaDto;
 import com.deigo.apiTarefas.infrastructure.entitys.Tarefas;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TarefasRepository extends JpaRepository<Tarefas, UUID> {
@@ -18,4 +33,88 @@ public interface TarefasRepository extends JpaRepository<Tarefas, UUID> {
     void deleteById(UUID id);
 
     List<Tarefas> findByUsuarioId(UUID usuarioId);
+
+    // Leituras da API projetam só as colunas devolvidas: sem carregar Usuario nem guardar snapshot de entidade
+    @Query("select new com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto(t.id, t.titulo, t.descricao, t.status, t.usuario.id, t.versao) " +
+            "from Tarefas t where t.id = :id")
+    Optional<TarefaResumoDto> findResumoById(@Param("id") UUID id);
+
+    @Query("select new com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto(t.id, t.titulo, t.descricao, t.status, t.usuario.id, t.versao) " +
+            "from Tarefas t where t.usuario.id = :usuarioId order by t.id")
+    List<TarefaResumoDto> findResumosByUsuarioId(@Param("usuarioId") UUID usuarioId);
+
+    // Só (id, versao), para responder If-None-Match sem ler título e descrição
+    @Query("select new com.deigo.apiTarefas.controller.dtoTarefas.VersaoTarefaDto(t.id, t.versao) " +
+            "from Tarefas t where t.usuario.id = :usuarioId order by t.id")
+    List<VersaoTarefaDto> findVersoesByUsuarioId(@Param("usuarioId") UUID usuarioId);
+
+    // Paginação por keyset dentro das tarefas do usuário: percorre o índice (usuario_id, id), então o custo
+    // de cada página não depende do offset
+    @Query("select new com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto(t.id, t.titulo, t.descricao, t.status, t.usuario.id, t.versao) " +
+            "from Tarefas t where t.usuario.id = :usuarioId order by t.id")
+    List<TarefaResumoDto> findResumosDoUsuario(@Param("usuarioId") UUID usuarioId, Limit limit);
+
+    @Query("select new com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto(t.id, t.titulo, t.descricao, t.status, t.usuario.id, t.versao) " +
+            "from Tarefas t where t.usuario.id = :usuarioId and t.id > :after order by t.id")
+    List<TarefaResumoDto> findResumosDoUsuarioApos(@Param("usuarioId") UUID usuarioId, @Param("after") UUID after, Limit limit);
+
+    // relevancia_texto: MATCH ... AGAINST no MySQL (BuscaTextoFunctionContributor); desempate por id para paginação estável
+    @Query("select new com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto(t.id, t.titulo, t.descricao, t.status, t.usuario.id, t.versao) " +
+            "from Tarefas t where relevancia_texto(t.titulo, t.descricao, :termo) > 0 " +
+            "and t.usuario.id = :usuarioId and (:status is null or t.status = :status) " +
+            "order by relevancia_texto(t.titulo, t.descricao, :termo) desc, t.id")
+    List<TarefaResumoDto> buscarPorTexto(@Param("termo") String termo,
+                                         @Param("usuarioId") UUID usuarioId,
+                                         @Param("status") Status status,
+                                         Limit limit);
+
+    // Leitura somente-avanço para exportação: precisa ser consumida dentro de uma transação
+    @Query("select t from Tarefas t join fetch t.usuario u where u.id = :usuarioId")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<Tarefas> streamByUsuarioId(@Param("usuarioId") UUID usuarioId);
+
+    // Status atual de cada tarefa que a transição em massa vai mover, com o mesmo filtro dos UPDATEs abaixo.
+    // FOR UPDATE: leitura corrente e linhas travadas até o commit, então o UPDATE move exatamente as linhas contadas
+    // (uma leitura comum veria o snapshot da transação no REPEATABLE READ). Sem GROUP BY, que o H2 não aceita com
+    // FOR UPDATE; a contagem por status fica no service
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.status from Tarefas t " +
+            "where t.usuario.id = :usuarioId and t.id in :ids and (t.status is null or t.status <> :novoStatus)")
+    List<Status> travarTransicaoPorIds(@Param("usuarioId") UUID usuarioId,
+                                       @Param("ids") Collection<UUID> ids,
+                                       @Param("novoStatus") Status novoStatus);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.status from Tarefas t where t.usuario.id = :usuarioId " +
+            "and (:statusAtual is null or t.status = :statusAtual) and (t.status is null or t.status <> :novoStatus)")
+    List<Status> travarTransicaoDoUsuario(@Param("usuarioId") UUID usuarioId,
+                                          @Param("statusAtual") Status statusAtual,
+                                          @Param("novoStatus") Status novoStatus);
+
+    // Contagem real usada na reconciliação dos contadores (índice usuario_id, status)
+    @Query("select new com.deigo.apiTarefas.controller.dtoTarefas.ContagemStatusDto(t.usuario.id, t.status, count(t)) " +
+            "from Tarefas t where t.usuario.id in :usuarioIds and t.status is not null " +
+            "group by t.usuario.id, t.status")
+    List<ContagemStatusDto> contarPorStatusDosUsuarios(@Param("usuarioIds") Collection<UUID> usuarioIds);
+
+    // Transições em massa: um único UPDATE, sem carregar entidades. Linhas que já estão no novo status não contam.
+    // O UPDATE em JPQL não passa pelo @Version, então a versão é incrementada explicitamente
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Tarefas t set t.status = :novoStatus, t.versao = t.versao + 1 " +
+            "where t.usuario.id = :usuarioId and t.id in :ids and (t.status is null or t.status <> :novoStatus)")
+    int atualizarStatusPorIds(@Param("usuarioId") UUID usuarioId,
+                              @Param("ids") Collection<UUID> ids,
+                              @Param("novoStatus") Status novoStatus);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Tarefas t set t.status = :novoStatus, t.versao = t.versao + 1 " +
+            "where t.usuario.id = :usuarioId and (:statusAtual is null or t.status = :statusAtual) " +
+            "and (t.status is null or t.status <> :novoStatus)")
+    int atualizarStatusDoUsuario(@Param("usuarioId") UUID usuarioId,
+                                 @Param("statusAtual") Status statusAtual,
+                                 @Param("novoStatus") Status novoStatus);
 }
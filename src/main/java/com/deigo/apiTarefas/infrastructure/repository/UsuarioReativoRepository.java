@@ -0,0 +1,24 @@
+package com.deigo.apiTarefas.infrastructure.repository;
+
+import com.deigo.apiTarefas.infrastructure.entitys.UsuarioR2dbc;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+// Contraparte R2DBC do UsuarioRepository (perfil reativo); o resumo paginado fica em ConsultasUsuariosReativas
+@Repository
+public interface UsuarioReativoRepository extends R2dbcRepository<UsuarioR2dbc, UUID>, ConsultasUsuariosReativas {
+
+    Mono<UsuarioR2dbc> findByEmail(String email);
+
+    // Só troca se a senha ainda for a lida no login, para não desfazer uma troca feita nesse meio tempo
+    @Modifying
+    @Query("update usuario set senha = :novoHash, versao = versao + 1 where id = :id and senha = :senhaAtual")
+    Mono<Integer> atualizarSenha(@Param("id") UUID id, @Param("senhaAtual") String senhaAtual,
+                                 @Param("novoHash") String novoHash);
+}
@@ -1,10 +1,21 @@
 package com.deigo.apiTarefas.infrastructure.repository;
 
+import com.deigo.apiTarefas.controller.dtoUsuarios.UsuarioResumoDto;
 import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -16,5 +27,28 @@ public interface UsuarioRepository extends JpaRepository<Usuario, UUID> {
 
     void deleteById(UUID id);
 
-    Optional<Object> findByEmail(String email);
+    Optional<Usuario> findByEmail(String email);
+
+    // Só troca se a senha ainda for a lida no login, para não desfazer uma troca feita nesse meio tempo
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Usuario u set u.senha = :novoHash, u.versao = u.versao + 1 where u.id = :id and u.senha = :senhaAtual")
+    int atualizarSenha(@Param("id") UUID id, @Param("senhaAtual") String senhaAtual, @Param("novoHash") String novoHash);
+
+    @Query("select u.id from Usuario u where u.id in :ids")
+    Set<UUID> findIdsExistentes(@Param("ids") Collection<UUID> ids);
+
+    // Keyset sobre a chave primária, para percorrer todos os usuários em lotes
+    @Query("select u.id from Usuario u where (:after is null or u.id > :after) order by u.id")
+    List<UUID> findIdsApos(@Param("after") UUID after, Limit limit);
+
+    // Contagem por status em um único GROUP BY, sem percorrer Usuario.tarefas
+    @Query(value = "select new com.deigo.apiTarefas.controller.dtoUsuarios.UsuarioResumoDto(u.id, u.nome, u.email, " +
+            "sum(case when t.status = com.deigo.apiTarefas.infrastructure.enumTarefas.Status.PENDENTE then 1 else 0 end), " +
+            "sum(case when t.status = com.deigo.apiTarefas.infrastructure.enumTarefas.Status.EM_ANDAMENTO then 1 else 0 end), " +
+            "sum(case when t.status = com.deigo.apiTarefas.infrastructure.enumTarefas.Status.CONCLUIDA then 1 else 0 end)) " +
+            "from Usuario u left join u.tarefas t " +
+            "group by u.id, u.nome, u.email",
+            countQuery = "select count(u) from Usuario u")
+    Page<UsuarioResumoDto> findResumos(Pageable pageable);
 }
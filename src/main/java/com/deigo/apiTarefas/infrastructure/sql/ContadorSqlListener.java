@@ -0,0 +1,26 @@
+package com.deigo.apiTarefas.infrastructure.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Soma cada execução JDBC nas {@link EstatisticasSql} da thread. Um batch conta como uma execução,
+ * que é uma ida ao banco.
+ */
+class ContadorSqlListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        EstatisticasSql estatisticas = EstatisticasSql.atual();
+        if (estatisticas != null) {
+            estatisticas.registrar(queryInfoList.stream().map(QueryInfo::getQuery).toList(), execInfo.getElapsedTime());
+        }
+    }
+}
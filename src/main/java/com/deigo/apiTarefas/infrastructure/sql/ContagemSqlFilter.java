@@ -0,0 +1,175 @@
+package com.deigo.apiTarefas.infrastructure.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Devolve a contagem de statements e o tempo de banco da requisição nos headers {@code X-Sql-Count} e
+ * {@code X-Sql-Time-Ms}, e loga em WARN, com os SQLs executados, as requisições acima dos limites.
+ * <p>
+ * Os headers saem no primeiro byte do corpo, então não incluem consultas feitas depois que a resposta
+ * começou a ser escrita (ex.: o streaming do /export); o WARN sempre considera o total da requisição.
+ */
+@Slf4j
+@Component
+@Profile("!reativo")
+public class ContagemSqlFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_CONSULTAS = "X-Sql-Count";
+    public static final String HEADER_TEMPO = "X-Sql-Time-Ms";
+
+    private final int limiteConsultas;
+    private final long limiteTempoMs;
+
+    public ContagemSqlFilter(@Value("${apitarefas.sql.limite-consultas:20}") int limiteConsultas,
+                             @Value("${apitarefas.sql.limite-tempo-ms:500}") long limiteTempoMs) {
+        this.limiteConsultas = limiteConsultas;
+        this.limiteTempoMs = limiteTempoMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EstatisticasSql estatisticas = EstatisticasSql.iniciar();
+        RespostaComContagemSql resposta = new RespostaComContagemSql(response, estatisticas);
+        try {
+            chain.doFilter(request, resposta);
+        } finally {
+            resposta.escreverCabecalhos();
+            EstatisticasSql.encerrar();
+
+            if (estatisticas.consultas() > limiteConsultas || estatisticas.tempoMs() > limiteTempoMs) {
+                log.warn("{} {} executou {} statements em {} ms (limites: {} statements, {} ms):\n{}",
+                        request.getMethod(), request.getRequestURI(), estatisticas.consultas(), estatisticas.tempoMs(),
+                        limiteConsultas, limiteTempoMs, formatar(estatisticas.execucoesPorSql()));
+            }
+        }
+    }
+
+    private static String formatar(Map<String, Integer> execucoesPorSql) {
+        return execucoesPorSql.entrySet().stream()
+                .map(entrada -> "  " + entrada.getValue() + "x " + entrada.getKey())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static class RespostaComContagemSql extends HttpServletResponseWrapper {
+
+        private final EstatisticasSql estatisticas;
+        private boolean cabecalhosEscritos;
+        private ServletOutputStream saida;
+
+        RespostaComContagemSql(HttpServletResponse response, EstatisticasSql estatisticas) {
+            super(response);
+            this.estatisticas = estatisticas;
+        }
+
+        void escreverCabecalhos() {
+            if (cabecalhosEscritos) {
+                return;
+            }
+            cabecalhosEscritos = true;
+            if (!isCommitted()) {
+                setHeader(HEADER_CONSULTAS, Integer.toString(estatisticas.consultas()));
+                setHeader(HEADER_TEMPO, Long.toString(estatisticas.tempoMs()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (saida == null) {
+                saida = new SaidaComContagemSql(super.getOutputStream());
+            }
+            return saida;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            escreverCabecalhos();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            escreverCabecalhos();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            escreverCabecalhos();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            escreverCabecalhos();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            escreverCabecalhos();
+            super.sendRedirect(location);
+        }
+
+        // Serializadores como o Jackson só escrevem no stream ao final (ou quando o buffer enche),
+        // então lazy loads disparados durante a serialização ainda entram na contagem
+        private class SaidaComContagemSql extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            SaidaComContagemSql(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                escreverCabecalhos();
+                delegate.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                escreverCabecalhos();
+                delegate.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                escreverCabecalhos();
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                escreverCabecalhos();
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.deigo.apiTarefas.infrastructure.sql;
+
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Envolve o DataSource com o datasource-proxy: conta statements por requisição e, com o logger
+ * {@code com.deigo.apiTarefas.sql} em DEBUG, loga cada SQL no lugar do antigo show-sql.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    static final String LOGGER_SQL = "com.deigo.apiTarefas.sql";
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new ContadorSqlListener())
+                            .logQueryBySlf4j(SLF4JLogLevel.DEBUG, LOGGER_SQL)
+                            .multiline()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
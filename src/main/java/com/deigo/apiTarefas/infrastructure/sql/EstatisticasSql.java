@@ -0,0 +1,56 @@
+package com.deigo.apiTarefas.infrastructure.sql;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statements e tempo de banco acumulados na requisição corrente. Guarda quantas vezes cada SQL distinto
+ * rodou, o que deixa um N+1 evidente no log ({@code select ... where usuario_id=? x200}).
+ */
+public final class EstatisticasSql {
+
+    private static final int MAXIMO_SQL_DISTINTOS = 50;
+    private static final ThreadLocal<EstatisticasSql> ATUAL = new ThreadLocal<>();
+
+    private int consultas;
+    private long tempoMs;
+    private final Map<String, Integer> execucoesPorSql = new LinkedHashMap<>();
+
+    static EstatisticasSql iniciar() {
+        EstatisticasSql estatisticas = new EstatisticasSql();
+        ATUAL.set(estatisticas);
+        return estatisticas;
+    }
+
+    static EstatisticasSql atual() {
+        return ATUAL.get();
+    }
+
+    static void encerrar() {
+        ATUAL.remove();
+    }
+
+    synchronized void registrar(List<String> sqls, long ms) {
+        consultas++;
+        tempoMs += ms;
+        for (String sql : sqls) {
+            if (execucoesPorSql.size() < MAXIMO_SQL_DISTINTOS || execucoesPorSql.containsKey(sql)) {
+                execucoesPorSql.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    public synchronized int consultas() {
+        return consultas;
+    }
+
+    public synchronized long tempoMs() {
+        return tempoMs;
+    }
+
+    public synchronized Map<String, Integer> execucoesPorSql() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(execucoesPorSql));
+    }
+}
@@ -0,0 +1,75 @@
+package com.deigo.apiTarefas.service;
+
+import com.deigo.apiTarefas.controller.dtoAuth.LoginDto;
+import com.deigo.apiTarefas.controller.dtoAuth.TokenDto;
+import com.deigo.apiTarefas.infrastructure.Security.JwtProperties;
+import com.deigo.apiTarefas.infrastructure.entitys.UsuarioR2dbc;
+import com.deigo.apiTarefas.infrastructure.exceptions.CredenciaisInvalidasException;
+import com.deigo.apiTarefas.infrastructure.repository.UsuarioReativoRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * Contraparte reativa do {@link AuthService} (perfil reativo): mesmo hash fictício para email inexistente e mesmo
+ * token, emitido por {@link AuthService#emitirToken}. Verificação e recodificação da senha rodam no
+ * {@code boundedElastic}.
+ */
+@Service
+@Profile("reativo")
+public class AuthReativoService {
+
+    private final UsuarioReativoRepository usuarioRepository;
+    private final SenhaService senhaService;
+    private final JwtEncoder jwtEncoder;
+    private final JwtProperties jwtProperties;
+    private final String hashFicticio;
+
+    public AuthReativoService(UsuarioReativoRepository usuarioRepository, SenhaService senhaService,
+                              JwtEncoder jwtEncoder, JwtProperties jwtProperties) {
+        this.usuarioRepository = usuarioRepository;
+        this.senhaService = senhaService;
+        this.jwtEncoder = jwtEncoder;
+        this.jwtProperties = jwtProperties;
+        this.hashFicticio = senhaService.codificar(UUID.randomUUID().toString());
+    }
+
+    public Mono<TokenDto> login(LoginDto dto) {
+        if (dto.email() == null || dto.senha() == null) {
+            return Mono.error(new CredenciaisInvalidasException());
+        }
+
+        return usuarioRepository.findByEmail(dto.email())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(usuario -> bloqueante(() -> senhaService.confere(dto.senha(),
+                                usuario.map(UsuarioR2dbc::getSenha).orElse(hashFicticio)))
+                        .flatMap(senhaConfere -> {
+                            if (usuario.isEmpty() || !senhaConfere) {
+                                return Mono.<TokenDto>error(new CredenciaisInvalidasException());
+                            }
+                            return recodificarSeLegada(usuario.get(), dto.senha())
+                                    .then(Mono.fromCallable(() -> AuthService.emitirToken(jwtEncoder, jwtProperties,
+                                            usuario.get().getId(), usuario.get().isAdministrador())));
+                        }));
+    }
+
+    // Único momento em que a senha em claro é conhecida: senhas legadas em texto puro viram BCrypt aqui
+    private Mono<Integer> recodificarSeLegada(UsuarioR2dbc usuario, String senha) {
+        if (!senhaService.precisaRecodificar(usuario.getSenha())) {
+            return Mono.just(0);
+        }
+        return bloqueante(() -> senhaService.codificar(senha))
+                .flatMap(hash -> usuarioRepository.atualizarSenha(usuario.getId(), usuario.getSenha(), hash));
+    }
+
+    private static <T> Mono<T> bloqueante(Callable<T> chamada) {
+        return Mono.fromCallable(chamada).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,84 @@
+package com.deigo.apiTarefas.service;
+
+import com.deigo.apiTarefas.controller.dtoAuth.LoginDto;
+import com.deigo.apiTarefas.controller.dtoAuth.TokenDto;
+import com.deigo.apiTarefas.infrastructure.Security.JwtProperties;
+import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
+import com.deigo.apiTarefas.infrastructure.exceptions.CredenciaisInvalidasException;
+import com.deigo.apiTarefas.infrastructure.metrics.MetricsConfig;
+import com.deigo.apiTarefas.infrastructure.repository.UsuarioRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@Profile("!reativo")
+@Timed(MetricsConfig.SERVICE)
+public class AuthService {
+
+    static final String ESCOPO_ADMIN = "admin";
+
+    private final UsuarioRepository usuarioRepository;
+    private final SenhaService senhaService;
+    private final JwtEncoder jwtEncoder;
+    private final JwtProperties jwtProperties;
+    // Hash de uma senha aleatória, no custo configurado: email inexistente custa o mesmo BCrypt que senha errada,
+    // e o tempo de resposta não revela quais emails estão cadastrados
+    private final String hashFicticio;
+
+    public AuthService(UsuarioRepository usuarioRepository, SenhaService senhaService, JwtEncoder jwtEncoder,
+                       JwtProperties jwtProperties) {
+        this.usuarioRepository = usuarioRepository;
+        this.senhaService = senhaService;
+        this.jwtEncoder = jwtEncoder;
+        this.jwtProperties = jwtProperties;
+        this.hashFicticio = senhaService.codificar(UUID.randomUUID().toString());
+    }
+
+    public TokenDto login(LoginDto dto) {
+        if (dto.email() == null || dto.senha() == null) {
+            throw new CredenciaisInvalidasException();
+        }
+
+        Optional<Usuario> usuario = usuarioRepository.findByEmail(dto.email());
+        boolean senhaConfere = senhaService.confere(dto.senha(), usuario.map(Usuario::getSenha).orElse(hashFicticio));
+        if (usuario.isEmpty() || !senhaConfere) {
+            throw new CredenciaisInvalidasException();
+        }
+
+        // Único momento em que a senha em claro é conhecida: senhas legadas em texto puro viram BCrypt aqui
+        if (senhaService.precisaRecodificar(usuario.get().getSenha())) {
+            usuarioRepository.atualizarSenha(usuario.get().getId(), usuario.get().getSenha(),
+                    senhaService.codificar(dto.senha()));
+        }
+
+        return emitirToken(jwtEncoder, jwtProperties, usuario.get().getId(), usuario.get().isAdministrador());
+    }
+
+    // Também usado pelo AuthReativoService: os dois perfis emitem exatamente o mesmo token
+    static TokenDto emitirToken(JwtEncoder jwtEncoder, JwtProperties jwtProperties, UUID usuarioId, boolean administrador) {
+        Instant agora = Instant.now();
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
+                .issuer(jwtProperties.emissor())
+                .subject(usuarioId.toString())
+                .issuedAt(agora)
+                .expiresAt(agora.plus(jwtProperties.validade()));
+        // O resource server converte "scope" em authorities SCOPE_*; só SCOPE_admin lista todos os usuários
+        if (administrador) {
+            claims.claim("scope", ESCOPO_ADMIN);
+        }
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+
+        String token = jwtEncoder.encode(JwtEncoderParameters.from(header, claims.build())).getTokenValue();
+        return new TokenDto(token, "Bearer", jwtProperties.validade().toSeconds());
+    }
+}
@@ -0,0 +1,108 @@
+package com.deigo.apiTarefas.service;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.ContagemStatusDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.ResumoTarefasUsuarioDto;
+import com.deigo.apiTarefas.infrastructure.entitys.ContadorTarefasId;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.exceptions.UsuarioNaoEncontradoException;
+import com.deigo.apiTarefas.infrastructure.repository.ContadorTarefasReativoRepository;
+import com.deigo.apiTarefas.infrastructure.repository.UsuarioReativoRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Contraparte reativa do {@link ContadorTarefasService} (perfil reativo): os mesmos deltas, na transação R2DBC de
+ * quem altera as tarefas. A reconciliação periódica continua só no stack servlet.
+ */
+@Service
+@Profile("reativo")
+public class ContadorTarefasReativoService {
+
+    private final ContadorTarefasReativoRepository contadorRepository;
+    private final UsuarioReativoRepository usuarioRepository;
+
+    public ContadorTarefasReativoService(ContadorTarefasReativoRepository contadorRepository,
+                                         UsuarioReativoRepository usuarioRepository) {
+        this.contadorRepository = contadorRepository;
+        this.usuarioRepository = usuarioRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Mono<Void> inicializar(UUID usuarioId) {
+        return Flux.fromArray(Status.values())
+                .concatMap(status -> contadorRepository.inicializar(usuarioId, status))
+                .then();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Mono<Void> registrarTransicao(UUID usuarioId, Status anterior, Status novo) {
+        if (usuarioId == null || anterior == novo) {
+            return Mono.empty();
+        }
+
+        Map<ContadorTarefasId, Long> deltas = new HashMap<>();
+        if (anterior != null) {
+            deltas.merge(new ContadorTarefasId(usuarioId, anterior), -1L, Long::sum);
+        }
+        if (novo != null) {
+            deltas.merge(new ContadorTarefasId(usuarioId, novo), 1L, Long::sum);
+        }
+        return aplicar(deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Mono<Void> registrarTransicoes(List<ContagemStatusDto> anteriores, Status novo) {
+        Map<ContadorTarefasId, Long> deltas = new HashMap<>();
+        for (ContagemStatusDto contagem : anteriores) {
+            if (contagem.usuarioId() == null) {
+                continue;
+            }
+            if (contagem.status() != null) {
+                deltas.merge(new ContadorTarefasId(contagem.usuarioId(), contagem.status()), -contagem.quantidade(), Long::sum);
+            }
+            deltas.merge(new ContadorTarefasId(contagem.usuarioId(), novo), contagem.quantidade(), Long::sum);
+        }
+        return aplicar(deltas);
+    }
+
+    // concatMap: um UPDATE por vez, na ordem da chave, pelo mesmo motivo do ContadorTarefasService
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Mono<Void> aplicar(Map<ContadorTarefasId, Long> deltas) {
+        return Flux.fromIterable(new TreeMap<>(deltas).entrySet())
+                .filter(delta -> delta.getValue() != 0)
+                .concatMap(delta -> contadorRepository.somar(delta.getKey().getUsuarioId(), delta.getKey().getStatus(),
+                        delta.getValue()))
+                .then();
+    }
+
+    public Mono<ResumoTarefasUsuarioDto> resumoDoUsuario(UUID usuarioId) {
+        return contadorRepository.findByUsuarioId(usuarioId)
+                .collectList()
+                .flatMap(contadores -> contadores.isEmpty()
+                        ? usuarioRepository.existsById(usuarioId).flatMap(existe -> existe
+                                ? Mono.just(contadores)
+                                : Mono.<List<ContagemStatusDto>>error(new UsuarioNaoEncontradoException("Usuario não encontrado com ID")))
+                        : Mono.just(contadores))
+                .map(contadores -> {
+                    Map<Status, Long> porStatus = new EnumMap<>(Status.class);
+                    contadores.forEach(c -> porStatus.put(c.status(), c.quantidade()));
+
+                    long pendentes = porStatus.getOrDefault(Status.PENDENTE, 0L);
+                    long emAndamento = porStatus.getOrDefault(Status.EM_ANDAMENTO, 0L);
+                    long concluidas = porStatus.getOrDefault(Status.CONCLUIDA, 0L);
+                    return new ResumoTarefasUsuarioDto(usuarioId, pendentes, emAndamento, concluidas,
+                            pendentes + emAndamento + concluidas);
+                });
+    }
+}
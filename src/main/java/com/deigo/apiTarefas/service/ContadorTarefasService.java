@@ -0,0 +1,150 @@
+package com.deigo.apiTarefas.service;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.ContagemStatusDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.ResumoTarefasUsuarioDto;
+import com.deigo.apiTarefas.infrastructure.entitys.ContadorTarefas;
+import com.deigo.apiTarefas.infrastructure.entitys.ContadorTarefasId;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.exceptions.UsuarioNaoEncontradoException;
+import com.deigo.apiTarefas.infrastructure.metrics.MetricsConfig;
+import com.deigo.apiTarefas.infrastructure.repository.ContadorTarefasRepository;
+import com.deigo.apiTarefas.infrastructure.repository.TarefasRepository;
+import com.deigo.apiTarefas.infrastructure.repository.UsuarioRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Contadores de tarefas por (usuário, status). Os deltas entram na transação de quem altera as tarefas, então
+ * contador e tarefa são gravados ou desfeitos juntos; a leitura do resumo é uma busca pela chave primária.
+ */
+@Service
+@Profile("!reativo")
+@Timed(MetricsConfig.SERVICE)
+public class ContadorTarefasService {
+
+    private final ContadorTarefasRepository contadorRepository;
+    private final TarefasRepository tarefasRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final EntityManager entityManager;
+
+    public ContadorTarefasService(ContadorTarefasRepository contadorRepository, TarefasRepository tarefasRepository,
+                                  UsuarioRepository usuarioRepository, EntityManager entityManager) {
+        this.contadorRepository = contadorRepository;
+        this.tarefasRepository = tarefasRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.entityManager = entityManager;
+    }
+
+    // Uma linha por status já na criação do usuário: os deltas depois são só UPDATE, sem corrida de INSERT
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void inicializar(UUID usuarioId) {
+        for (Status status : Status.values()) {
+            entityManager.persist(new ContadorTarefas(new ContadorTarefasId(usuarioId, status), 0));
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarTransicao(UUID usuarioId, Status anterior, Status novo) {
+        if (usuarioId == null || anterior == novo) {
+            return;
+        }
+
+        Map<ContadorTarefasId, Long> deltas = new HashMap<>();
+        if (anterior != null) {
+            deltas.merge(new ContadorTarefasId(usuarioId, anterior), -1L, Long::sum);
+        }
+        if (novo != null) {
+            deltas.merge(new ContadorTarefasId(usuarioId, novo), 1L, Long::sum);
+        }
+        aplicar(deltas);
+    }
+
+    // Deltas de uma transição em massa a partir da contagem feita antes do UPDATE
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarTransicoes(List<ContagemStatusDto> anteriores, Status novo) {
+        Map<ContadorTarefasId, Long> deltas = new HashMap<>();
+        for (ContagemStatusDto contagem : anteriores) {
+            if (contagem.usuarioId() == null) {
+                continue;
+            }
+            if (contagem.status() != null) {
+                deltas.merge(new ContadorTarefasId(contagem.usuarioId(), contagem.status()), -contagem.quantidade(), Long::sum);
+            }
+            deltas.merge(new ContadorTarefasId(contagem.usuarioId(), novo), contagem.quantidade(), Long::sum);
+        }
+        aplicar(deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void aplicar(Map<ContadorTarefasId, Long> deltas) {
+        // Sempre na mesma ordem de chave, para duas transações não travarem os mesmos contadores em ordem inversa
+        new TreeMap<>(deltas).forEach((chave, delta) -> {
+            if (delta != 0) {
+                contadorRepository.somar(chave.getUsuarioId(), chave.getStatus(), delta);
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public ResumoTarefasUsuarioDto resumoDoUsuario(UUID usuarioId) {
+        List<ContadorTarefas> contadores = contadorRepository.findByIdUsuarioId(usuarioId);
+        if (contadores.isEmpty() && !usuarioRepository.existsById(usuarioId)) {
+            throw new UsuarioNaoEncontradoException("Usuario não encontrado com ID");
+        }
+
+        Map<Status, Long> porStatus = new EnumMap<>(Status.class);
+        contadores.forEach(c -> porStatus.put(c.getId().getStatus(), c.getQuantidade()));
+
+        long pendentes = porStatus.getOrDefault(Status.PENDENTE, 0L);
+        long emAndamento = porStatus.getOrDefault(Status.EM_ANDAMENTO, 0L);
+        long concluidas = porStatus.getOrDefault(Status.CONCLUIDA, 0L);
+        return new ResumoTarefasUsuarioDto(usuarioId, pendentes, emAndamento, concluidas, pendentes + emAndamento + concluidas);
+    }
+
+    /**
+     * Recalcula os contadores de um lote de usuários a partir da tabela de tarefas e corrige os que divergem,
+     * criando as linhas que faltarem. Devolve quantos contadores foram corrigidos.
+     */
+    @Transactional
+    public int reconciliar(List<UUID> usuarioIds) {
+        if (usuarioIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<ContadorTarefasId, ContadorTarefas> atuais = new HashMap<>();
+        contadorRepository.travarDosUsuarios(usuarioIds).forEach(c -> atuais.put(c.getId(), c));
+
+        Map<ContadorTarefasId, Long> reais = new HashMap<>();
+        tarefasRepository.contarPorStatusDosUsuarios(usuarioIds)
+                .forEach(c -> reais.put(new ContadorTarefasId(c.usuarioId(), c.status()), c.quantidade()));
+
+        int corrigidos = 0;
+        for (UUID usuarioId : usuarioIds) {
+            for (Status status : Status.values()) {
+                ContadorTarefasId chave = new ContadorTarefasId(usuarioId, status);
+                long real = reais.getOrDefault(chave, 0L);
+                ContadorTarefas contador = atuais.get(chave);
+
+                if (contador == null) {
+                    entityManager.persist(new ContadorTarefas(chave, real));
+                    corrigidos++;
+                } else if (contador.getQuantidade() != real) {
+                    contador.setQuantidade(real);
+                    corrigidos++;
+                }
+            }
+        }
+        return corrigidos;
+    }
+}
@@ -0,0 +1,34 @@
+package com.deigo.apiTarefas.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Nomes das constraints do schema (db/migration) que viram erros de negócio. Bancos legados, que entraram pelo
+ * baseline com os nomes gerados pelo Hibernate, recebem estes nomes na V7 do MySQL. Qualquer outra violação
+ * (coluna longa demais, NOT NULL) continua como {@link DataIntegrityViolationException}.
+ */
+final class Restricoes {
+
+    static final String EMAIL_UNICO = "uk_usuario_email";
+    static final String TAREFA_USUARIO = "fk_tarefas_usuario";
+
+    private Restricoes() {
+    }
+
+    // O dialeto extrai o nome com prefixos que variam por banco (MySQL "usuario.uk_...", H2 "PUBLIC.UK_..._INDEX_5"),
+    // então a comparação é por trecho e sem caixa; sem nome extraído, vale a mensagem da causa
+    static boolean violou(DataIntegrityViolationException e, String restricao) {
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            String texto = causa instanceof ConstraintViolationException violacao && violacao.getConstraintName() != null
+                    ? violacao.getConstraintName()
+                    : causa.getMessage();
+            if (texto != null && texto.toLowerCase(Locale.ROOT).contains(restricao)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
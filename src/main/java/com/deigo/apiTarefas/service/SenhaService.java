@@ -0,0 +1,117 @@
+package com.deigo.apiTarefas.service;
+
+import com.deigo.apiTarefas.infrastructure.Security.SenhaProperties;
+import com.deigo.apiTarefas.infrastructure.exceptions.ServicoSobrecarregadoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * Hash e verificação de senha em um pool próprio, com threads e fila fixas. Um pico de cadastros disputa só
+ * essas threads: quando a fila enche, a requisição recebe 503 em vez de tomar CPU das leituras.
+ * <p>
+ * O pool não é registrado como bean {@code Executor}, para o Spring não usá-lo em {@code @Async} ou agendamentos.
+ * Métricas em {@code executor.*{name=hash-senha}} (fila, ativas, tempo de espera e de execução).
+ * <p>
+ * Usuários cadastrados antes do BCrypt ainda têm a senha em texto puro: {@link #confere} reconhece esse formato e
+ * compara em tempo constante, e {@link #precisaRecodificar} avisa o login para gravar o hash no lugar.
+ */
+@Service
+public class SenhaService {
+
+    static final String NOME_EXECUTOR = "hash-senha";
+
+    private static final Pattern HASH_BCRYPT = Pattern.compile("^\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final Duration espera;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Counter rejeitadas;
+
+    public SenhaService(PasswordEncoder passwordEncoder, SenhaProperties properties, MeterRegistry registry) {
+        this.passwordEncoder = passwordEncoder;
+        this.espera = properties.espera();
+
+        // Threads de plataforma: o BCrypt é CPU pura, threads virtuais não ajudariam e disputariam os carriers
+        this.pool = new ThreadPoolExecutor(properties.threads(), properties.threads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.fila()),
+                Thread.ofPlatform().name(NOME_EXECUTOR + "-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(registry, pool, NOME_EXECUTOR);
+        this.rejeitadas = Counter.builder("apitarefas.senha.rejeitadas")
+                .description("Hashes de senha recusados com a fila do executor cheia")
+                .register(registry);
+    }
+
+    public String codificar(String senha) {
+        return executar(() -> passwordEncoder.encode(senha));
+    }
+
+    public boolean confere(String senha, String hash) {
+        if (hash == null) {
+            return false;
+        }
+        if (ehLegada(hash)) {
+            return MessageDigest.isEqual(senha.getBytes(StandardCharsets.UTF_8), hash.getBytes(StandardCharsets.UTF_8));
+        }
+        return executar(() -> passwordEncoder.matches(senha, hash));
+    }
+
+    // Texto puro de antes do BCrypt, ou BCrypt com custo menor que apitarefas.senha.custo
+    public boolean precisaRecodificar(String hash) {
+        return hash != null && (ehLegada(hash) || passwordEncoder.upgradeEncoding(hash));
+    }
+
+    private static boolean ehLegada(String hash) {
+        return !HASH_BCRYPT.matcher(hash).matches();
+    }
+
+    private <T> T executar(Callable<T> tarefa) {
+        Future<T> futuro;
+        try {
+            futuro = executor.submit(tarefa);
+        } catch (RejectedExecutionException e) {
+            rejeitadas.increment();
+            throw new ServicoSobrecarregadoException("Muitas requisições de senha em andamento, tente novamente");
+        }
+
+        try {
+            return futuro.get(espera.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            throw new ServicoSobrecarregadoException("Tempo esgotado aguardando o hash da senha");
+        } catch (InterruptedException e) {
+            futuro.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServicoSobrecarregadoException("Hash da senha interrompido");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        pool.shutdown();
+    }
+}
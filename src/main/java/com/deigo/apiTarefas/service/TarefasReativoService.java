@@ -0,0 +1,227 @@
+package com.deigo.apiTarefas.service;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarStatusEmLoteDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.CriarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.PaginaTarefasDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ResultadoAtualizacaoEmLoteDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ResultadoLoteTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.StatusTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.infrastructure.entitys.ContadorTarefasId;
+import com.deigo.apiTarefas.infrastructure.entitys.TarefasR2dbc;
+import com.deigo.apiTarefas.infrastructure.entitys.UsuarioR2dbc;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.exceptions.LoteInvalidoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.TarefaNaoEncontradaException;
+import com.deigo.apiTarefas.infrastructure.exceptions.UsuarioNaoEncontradoException;
+import com.deigo.apiTarefas.infrastructure.id.UuidV7Generator;
+import com.deigo.apiTarefas.infrastructure.repository.TarefasReativoRepository;
+import com.deigo.apiTarefas.infrastructure.repository.UsuarioReativoRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.r2dbc.dialect.MySqlDialect;
+import org.springframework.data.r2dbc.dialect.R2dbcDialect;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.deigo.apiTarefas.service.TarefasService.TAMANHO_MAXIMO_LOTE;
+import static com.deigo.apiTarefas.service.TarefasService.codificarCursor;
+import static com.deigo.apiTarefas.service.TarefasService.contarPorStatus;
+import static com.deigo.apiTarefas.service.TarefasService.decodificarCursor;
+import static com.deigo.apiTarefas.service.TarefasService.limite;
+import static com.deigo.apiTarefas.service.TarefasService.validarLote;
+import static com.deigo.apiTarefas.service.TarefasService.validarTermo;
+
+/**
+ * Contraparte reativa do {@link TarefasService} (perfil reativo), com as mesmas validações e os mesmos contadores.
+ * Não usa o cache de tarefas: sem bloqueio, uma leitura pela chave primária já não ocupa thread enquanto espera.
+ */
+@Service
+@Profile("reativo")
+public class TarefasReativoService {
+
+    private final TarefasReativoRepository tRepository;
+    private final UsuarioReativoRepository usuarioRepository;
+    private final ContadorTarefasReativoService contadorTarefasService;
+    // MATCH ... AGAINST só existe no MySQL (índice FULLTEXT da V4); nos outros bancos, busca por substring
+    private final boolean buscaNoIndice;
+
+    public TarefasReativoService(TarefasReativoRepository tRepository, UsuarioReativoRepository usuarioRepository,
+                                 ContadorTarefasReativoService contadorTarefasService, R2dbcDialect dialect) {
+        this.tRepository = tRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.contadorTarefasService = contadorTarefasService;
+        this.buscaNoIndice = dialect instanceof MySqlDialect;
+    }
+
+    @Transactional
+    public Mono<TarefasR2dbc> criarTarefa(CriarTarefaDto dto) {
+        if (dto.usuarioId() == null) {
+            return Mono.error(new UsuarioNaoEncontradoException("Usuario não encontrado com ID"));
+        }
+
+        TarefasR2dbc novaTarefa = TarefasR2dbc.builder()
+                .id(UuidV7Generator.gerar())
+                .titulo(dto.titulo())
+                .descricao(dto.descricao())
+                .status(dto.status())
+                .usuarioId(dto.usuarioId())
+                .build();
+
+        // A existência do usuário é garantida pela FK no INSERT, sem SELECT antes
+        return tRepository.save(novaTarefa)
+                .onErrorMap(DataIntegrityViolationException.class, e -> Restricoes.violou(e, Restricoes.TAREFA_USUARIO)
+                        ? new UsuarioNaoEncontradoException("Usuario não encontrado com ID")
+                        : e)
+                .flatMap(salva -> contadorTarefasService.registrarTransicao(dto.usuarioId(), null, dto.status())
+                        .thenReturn(salva));
+    }
+
+    @Transactional
+    public Mono<List<ResultadoLoteTarefaDto>> criarTarefasEmLote(List<CriarTarefaDto> dtos) {
+        if (dtos.size() > TAMANHO_MAXIMO_LOTE) {
+            return Mono.error(new LoteInvalidoException("Lote excede o limite de " + TAMANHO_MAXIMO_LOTE + " tarefas"));
+        }
+
+        Set<UUID> idsUsuarios = dtos.stream()
+                .filter(Objects::nonNull)
+                .map(CriarTarefaDto::usuarioId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Mono<Set<UUID>> usuariosExistentes = idsUsuarios.isEmpty()
+                ? Mono.just(Set.of())
+                : usuarioRepository.findAllById(idsUsuarios).map(UsuarioR2dbc::getId).collect(Collectors.toSet());
+
+        return usuariosExistentes.flatMap(existentes -> {
+            List<ResultadoLoteTarefaDto> resultados = new ArrayList<>(dtos.size());
+            List<TarefasR2dbc> novas = new ArrayList<>();
+            Map<ContadorTarefasId, Long> deltas = new HashMap<>();
+
+            for (int i = 0; i < dtos.size(); i++) {
+                CriarTarefaDto dto = dtos.get(i);
+                if (dto == null || !existentes.contains(dto.usuarioId())) {
+                    resultados.add(ResultadoLoteTarefaDto.rejeitada(i, "Usuario não encontrado com ID"));
+                    continue;
+                }
+
+                TarefasR2dbc novaTarefa = TarefasR2dbc.builder()
+                        .id(UuidV7Generator.gerar())
+                        .titulo(dto.titulo())
+                        .descricao(dto.descricao())
+                        .status(dto.status())
+                        .usuarioId(dto.usuarioId())
+                        .build();
+                novas.add(novaTarefa);
+                resultados.add(ResultadoLoteTarefaDto.criada(i, novaTarefa.getId()));
+                if (dto.status() != null) {
+                    deltas.merge(new ContadorTarefasId(dto.usuarioId(), dto.status()), 1L, Long::sum);
+                }
+            }
+
+            // Um UPDATE por (usuário, status) do lote, não um por tarefa
+            return tRepository.saveAll(novas)
+                    .then(contadorTarefasService.aplicar(deltas))
+                    .thenReturn(resultados);
+        });
+    }
+
+    public Mono<TarefaResumoDto> buscarTarefaPeloId(String tarefasId) {
+        return tRepository.findResumoById(UUID.fromString(tarefasId));
+    }
+
+    public Mono<PaginaTarefasDto> listarTarefas(UUID dono, String after, Integer limit) {
+        return Mono.defer(() -> {
+            int limite = limite(limit);
+
+            // Busca um item a mais para saber se existe próxima página sem precisar de count
+            Flux<TarefaResumoDto> tarefas = after == null || after.isBlank()
+                    ? tRepository.findResumosDoUsuario(dono, limite + 1)
+                    : tRepository.findResumosDoUsuarioApos(dono, decodificarCursor(after), limite + 1);
+
+            return tarefas.collectList().map(lista -> {
+                if (lista.size() <= limite) {
+                    return new PaginaTarefasDto(lista, null);
+                }
+                List<TarefaResumoDto> pagina = lista.subList(0, limite);
+                return new PaginaTarefasDto(pagina, codificarCursor(pagina.getLast().id()));
+            });
+        });
+    }
+
+    public Flux<TarefaResumoDto> buscarTarefas(UUID dono, String termo, Status status, Integer limit) {
+        return Flux.defer(() -> buscaNoIndice
+                ? tRepository.buscarPorTextoNoIndice(validarTermo(termo), dono, status, limite(limit))
+                : tRepository.buscarPorTrecho(validarTermo(termo), dono, status, limite(limit)));
+    }
+
+    // Sem transação: uma única consulta, consumida linha a linha na velocidade do cliente
+    public Flux<TarefaResumoDto> exportarTarefas(UUID dono) {
+        return tRepository.streamByUsuarioId(dono);
+    }
+
+    @Transactional
+    public Mono<TarefasR2dbc> atualizarTarefaPeloId(UUID dono, UUID tarefasId, AtualizarTarefaDto dto) {
+        // Tarefa de outro usuário responde como inexistente, sem confirmar que o ID existe
+        return tRepository.findById(tarefasId)
+                .filter(tarefa -> dono.equals(tarefa.getUsuarioId()))
+                .switchIfEmpty(Mono.error(() -> new TarefaNaoEncontradaException("Tarefa não encontrada")))
+                .flatMap(tarefa -> {
+                    if (dto.titulo() != null) {
+                        tarefa.setTitulo(dto.titulo());
+                    }
+                    if (dto.descricao() != null) {
+                        tarefa.setDescricao(dto.descricao());
+                    }
+                    Status statusAnterior = tarefa.getStatus();
+                    if (dto.status() != null) {
+                        tarefa.setStatus(dto.status());
+                    }
+
+                    return tRepository.save(tarefa)
+                            .flatMap(salva -> contadorTarefasService.registrarTransicao(dono, statusAnterior, salva.getStatus())
+                                    .thenReturn(salva));
+                });
+    }
+
+    @Transactional
+    public Mono<ResultadoAtualizacaoEmLoteDto> atualizarStatusEmLote(UUID dono, AtualizarStatusEmLoteDto dto) {
+        return Mono.defer(() -> {
+            boolean porIds = validarLote(dono, dto);
+
+            // Trava e conta antes do UPDATE, como no TarefasService. Status nulo é possível, então a lista sai
+            // do Stream (que aceita null) e não de um map do Reactor
+            Flux<StatusTarefaDto> travadas = porIds
+                    ? tRepository.travarTransicaoPorIds(dono, dto.ids(), dto.novoStatus())
+                    : tRepository.travarTransicaoDoUsuario(dto.usuarioId(), dto.statusAtual(), dto.novoStatus());
+
+            return travadas.collectList()
+                    .map(lista -> lista.stream().map(StatusTarefaDto::status).toList())
+                    .flatMap(anteriores -> (porIds
+                            ? tRepository.atualizarStatusPorIds(dono, dto.ids(), dto.novoStatus())
+                            : tRepository.atualizarStatusDoUsuario(dto.usuarioId(), dto.statusAtual(), dto.novoStatus()))
+                            .flatMap(atualizadas -> contadorTarefasService
+                                    .registrarTransicoes(contarPorStatus(dono, anteriores), dto.novoStatus())
+                                    .thenReturn(new ResultadoAtualizacaoEmLoteDto(atualizadas))));
+        });
+    }
+
+    @Transactional
+    public Mono<Void> deletarPeloId(UUID dono, String tarefaId) {
+        return tRepository.findById(UUID.fromString(tarefaId))
+                .filter(tarefa -> dono.equals(tarefa.getUsuarioId()))
+                .flatMap(tarefa -> tRepository.delete(tarefa)
+                        .then(contadorTarefasService.registrarTransicao(dono, tarefa.getStatus(), null)));
+    }
+}
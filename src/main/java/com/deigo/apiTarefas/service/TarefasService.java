@@ -1,32 +1,87 @@
 package com.deigo.apiTarefas.service;
 
+import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarStatusEmLoteDto;
 import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ContagemStatusDto;
 import com.deigo.apiTarefas.controller.dtoTarefas.CriarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.PaginaTarefasDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ResultadoAtualizacaoEmLoteDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ResultadoLoteTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
 import com.deigo.apiTarefas.infrastructure.entitys.Tarefas;
+import com.deigo.apiTarefas.infrastructure.cache.CacheConfig;
+import com.deigo.apiTarefas.infrastructure.entitys.ContadorTarefasId;
 import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.exceptions.AcessoNegadoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.BuscaInvalidaException;
+import com.deigo.apiTarefas.infrastructure.exceptions.CursorInvalidoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.LoteInvalidoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.TarefaNaoEncontradaException;
+import com.deigo.apiTarefas.infrastructure.exceptions.UsuarioNaoEncontradoException;
+import com.deigo.apiTarefas.infrastructure.metrics.MetricsConfig;
 import com.deigo.apiTarefas.infrastructure.repository.TarefasRepository;
 import com.deigo.apiTarefas.infrastructure.repository.UsuarioRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Profile("!reativo")
+@Timed(MetricsConfig.SERVICE)
 public class TarefasService {
 
+    // Limites e validações compartilhados com o TarefasReativoService (perfil reativo)
+    static final int LIMITE_PADRAO = 20;
+    static final int LIMITE_MAXIMO = 100;
+    static final int TAMANHO_MAXIMO_TERMO = 200;
+    private static final int LOTE_EXPORTACAO = 1000;
+    static final int TAMANHO_MAXIMO_LOTE = 5000;
+    // Mesmo valor de hibernate.jdbc.batch_size: cada flush vira um único batch de INSERT
+    private static final int LOTE_INSERCAO = 50;
+
     private final TarefasRepository tRepository;
     private final UsuarioRepository usuarioRepository;
+    private final EntityManager entityManager;
+    private final ContadorTarefasService contadorTarefasService;
 
-    public TarefasService(TarefasRepository tRepository, UsuarioRepository usuarioRepository) {
+    public TarefasService(TarefasRepository tRepository, UsuarioRepository usuarioRepository, EntityManager entityManager,
+                          ContadorTarefasService contadorTarefasService) {
         this.tRepository = tRepository;
         this.usuarioRepository = usuarioRepository;
+        this.entityManager = entityManager;
+        this.contadorTarefasService = contadorTarefasService;
     }
 
+    @Transactional
     public Tarefas criarTarefa(CriarTarefaDto dto){
+        if (dto.usuarioId() == null) {
+            throw new UsuarioNaoEncontradoException("Usuario não encontrado com ID");
+        }
 
-        Usuario usuario = usuarioRepository.findById((dto.usuarioId()))
-                .orElseThrow(() -> new RuntimeException("Usuario não encontrado com ID"));
+        // Referência sem SELECT: a existência do usuário é garantida pela FK no INSERT
+        Usuario usuario = usuarioRepository.getReferenceById(dto.usuarioId());
 
         Tarefas novaTarefa = Tarefas.builder()
                 .titulo(dto.titulo())
@@ -35,20 +90,123 @@ public class TarefasService {
                 .usuario(usuario)
                 .build();
 
-         return tRepository.saveAndFlush(novaTarefa);
+        Tarefas salva;
+        try {
+            salva = tRepository.saveAndFlush(novaTarefa);
+        } catch (DataIntegrityViolationException e) {
+            if (Restricoes.violou(e, Restricoes.TAREFA_USUARIO)) {
+                throw new UsuarioNaoEncontradoException("Usuario não encontrado com ID");
+            }
+            throw e;
+        }
+
+        contadorTarefasService.registrarTransicao(dto.usuarioId(), null, dto.status());
+        return salva;
     }
 
-    public Optional<Tarefas> buscarTarefaPeloId(String tarefasId) {
-        return tRepository.findById((UUID.fromString(tarefasId)));
+    @Transactional
+    public List<ResultadoLoteTarefaDto> criarTarefasEmLote(List<CriarTarefaDto> dtos) {
+        if (dtos.size() > TAMANHO_MAXIMO_LOTE) {
+            throw new LoteInvalidoException("Lote excede o limite de " + TAMANHO_MAXIMO_LOTE + " tarefas");
+        }
+
+        Set<UUID> idsUsuarios = dtos.stream()
+                .filter(Objects::nonNull)
+                .map(CriarTarefaDto::usuarioId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<UUID> usuariosExistentes = idsUsuarios.isEmpty() ? Set.of() : usuarioRepository.findIdsExistentes(idsUsuarios);
+
+        List<ResultadoLoteTarefaDto> resultados = new ArrayList<>(dtos.size());
+        Map<ContadorTarefasId, Long> deltas = new HashMap<>();
+        int pendentes = 0;
+
+        for (int i = 0; i < dtos.size(); i++) {
+            CriarTarefaDto dto = dtos.get(i);
+            if (dto == null || !usuariosExistentes.contains(dto.usuarioId())) {
+                resultados.add(ResultadoLoteTarefaDto.rejeitada(i, "Usuario não encontrado com ID"));
+                continue;
+            }
+
+            Tarefas novaTarefa = Tarefas.builder()
+                    .titulo(dto.titulo())
+                    .descricao(dto.descricao())
+                    .status(dto.status())
+                    .usuario(usuarioRepository.getReferenceById(dto.usuarioId()))
+                    .build();
+
+            resultados.add(ResultadoLoteTarefaDto.criada(i, tRepository.save(novaTarefa).getId()));
+            if (dto.status() != null) {
+                deltas.merge(new ContadorTarefasId(dto.usuarioId(), dto.status()), 1L, Long::sum);
+            }
+
+            if (++pendentes % LOTE_INSERCAO == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        // Um UPDATE por (usuário, status) do lote, não um por tarefa
+        contadorTarefasService.aplicar(deltas);
+        return resultados;
     }
 
-    public List<Tarefas> listarTarefas() {
-        return tRepository.findAll();
+    // A chave é o UUID, não a String, para que variações de caixa do ID caiam na mesma entrada
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TAREFAS, key = "T(java.util.UUID).fromString(#tarefasId)", unless = "#result == null")
+    public Optional<TarefaResumoDto> buscarTarefaPeloId(String tarefasId) {
+        return tRepository.findResumoById((UUID.fromString(tarefasId)));
     }
 
-    public Tarefas atualizarTarefaPeloId(UUID tarefasId, AtualizarTarefaDto dto){
-        Tarefas tarefasEntity = tRepository.findById(tarefasId).orElseThrow(() ->
-                new RuntimeException("Tarefa não encontrada"));
+    @Transactional(readOnly = true)
+    public PaginaTarefasDto listarTarefas(UUID dono, String after, Integer limit) {
+        int limite = limite(limit);
+
+        // Busca um item a mais para saber se existe próxima página sem precisar de count
+        List<TarefaResumoDto> tarefas = after == null || after.isBlank()
+                ? tRepository.findResumosDoUsuario(dono, Limit.of(limite + 1))
+                : tRepository.findResumosDoUsuarioApos(dono, decodificarCursor(after), Limit.of(limite + 1));
+
+        if (tarefas.size() <= limite) {
+            return new PaginaTarefasDto(tarefas, null);
+        }
+
+        List<TarefaResumoDto> pagina = tarefas.subList(0, limite);
+        return new PaginaTarefasDto(pagina, codificarCursor(pagina.getLast().id()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<TarefaResumoDto> buscarTarefas(UUID dono, String termo, Status status, Integer limit) {
+        return tRepository.buscarPorTexto(validarTermo(termo), dono, status, Limit.of(limite(limit)));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportarTarefas(UUID dono, Consumer<TarefaResumoDto> consumidor) {
+        try (Stream<Tarefas> tarefas = tRepository.streamByUsuarioId(dono)) {
+            Iterator<Tarefas> iterator = tarefas.iterator();
+            int lidas = 0;
+
+            while (iterator.hasNext()) {
+                consumidor.accept(TarefaResumoDto.de(iterator.next()));
+
+                // Solta as entidades já escritas para o contexto de persistência não crescer com a tabela
+                if (++lidas % LOTE_EXPORTACAO == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    // Leitura e escrita na mesma transação: fora dela o findById seria somente leitura e poderia ir para uma réplica
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TAREFAS, key = "#tarefasId")
+    public Tarefas atualizarTarefaPeloId(UUID dono, UUID tarefasId, AtualizarTarefaDto dto){
+        // Tarefa de outro usuário responde como inexistente, sem confirmar que o ID existe
+        Tarefas tarefasEntity = tRepository.findById(tarefasId)
+                .filter(tarefa -> pertenceA(tarefa, dono))
+                .orElseThrow(() -> new TarefaNaoEncontradaException("Tarefa não encontrada"));
 
         if (dto.titulo() != null) {
                 tarefasEntity.setTitulo(dto.titulo());
@@ -56,20 +214,113 @@ public class TarefasService {
         if (dto.descricao() != null) {
             tarefasEntity.setDescricao(dto.descricao());
         }
+        Status statusAnterior = tarefasEntity.getStatus();
         if(dto.status() != null) {
             tarefasEntity.setStatus(dto.status());
         }
 
-        return tRepository.saveAndFlush(tarefasEntity);
+        Tarefas salva = tRepository.saveAndFlush(tarefasEntity);
+        contadorTarefasService.registrarTransicao(dono, statusAnterior, tarefasEntity.getStatus());
+        return salva;
     }
 
-    public void deletarPeloId(String tarefaId) {
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TAREFAS, allEntries = true)
+    public ResultadoAtualizacaoEmLoteDto atualizarStatusEmLote(UUID dono, AtualizarStatusEmLoteDto dto) {
+        boolean porIds = validarLote(dono, dto);
+
+        // Por ids, o filtro por dono fica no próprio UPDATE: ids de outros usuários simplesmente não são atualizados.
+        // Trava (FOR UPDATE) e conta as linhas que o UPDATE vai mover: nenhuma escrita concorrente entra entre os dois
+        List<Status> anteriores = porIds
+                ? tRepository.travarTransicaoPorIds(dono, dto.ids(), dto.novoStatus())
+                : tRepository.travarTransicaoDoUsuario(dto.usuarioId(), dto.statusAtual(), dto.novoStatus());
+
+        int atualizadas = porIds
+                ? tRepository.atualizarStatusPorIds(dono, dto.ids(), dto.novoStatus())
+                : tRepository.atualizarStatusDoUsuario(dto.usuarioId(), dto.statusAtual(), dto.novoStatus());
+
+        contadorTarefasService.registrarTransicoes(contarPorStatus(dono, anteriores), dto.novoStatus());
+
+        return new ResultadoAtualizacaoEmLoteDto(atualizadas);
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TAREFAS, key = "T(java.util.UUID).fromString(#tarefaId)")
+    public void deletarPeloId(UUID dono, String tarefaId) {
         var id = UUID.fromString(tarefaId);
 
-        var tarefaExiste = tRepository.existsById(id);
+        // Carrega a tarefa (em geral do cache de segundo nível) para conferir o dono e saber de qual contador descontar
+        tRepository.findById(id).filter(tarefa -> pertenceA(tarefa, dono)).ifPresent(tarefa -> {
+            tRepository.delete(tarefa);
+            contadorTarefasService.registrarTransicao(dono, tarefa.getStatus(), null);
+        });
+    }
+
+    private static boolean pertenceA(Tarefas tarefa, UUID dono) {
+        return tarefa.getUsuario() != null && tarefa.getUsuario().getId().equals(dono);
+    }
+
+    static int limite(Integer limit) {
+        return limit == null ? LIMITE_PADRAO : Math.clamp(limit, 1, LIMITE_MAXIMO);
+    }
+
+    static String validarTermo(String termo) {
+        if (termo == null || termo.isBlank()) {
+            throw new BuscaInvalidaException("Informe o termo de busca em q");
+        }
+        if (termo.length() > TAMANHO_MAXIMO_TERMO) {
+            throw new BuscaInvalidaException("Termo de busca excede " + TAMANHO_MAXIMO_TERMO + " caracteres");
+        }
+        return termo.strip();
+    }
+
+    // Devolve se a transição é por ids (true) ou por usuarioId (false)
+    static boolean validarLote(UUID dono, AtualizarStatusEmLoteDto dto) {
+        if (dto.novoStatus() == null) {
+            throw new LoteInvalidoException("novoStatus é obrigatório");
+        }
+
+        boolean porIds = dto.ids() != null && !dto.ids().isEmpty();
+        if (!porIds && dto.usuarioId() == null) {
+            throw new LoteInvalidoException("Informe ids ou usuarioId");
+        }
+        if (porIds && dto.usuarioId() != null) {
+            throw new LoteInvalidoException("Informe ids ou usuarioId, não ambos");
+        }
+        if (porIds && dto.ids().size() > TAMANHO_MAXIMO_LOTE) {
+            throw new LoteInvalidoException("Lote excede o limite de " + TAMANHO_MAXIMO_LOTE + " tarefas");
+        }
+        if (!porIds && !dto.usuarioId().equals(dono)) {
+            throw new AcessoNegadoException("Só é possível atualizar as próprias tarefas");
+        }
+        return porIds;
+    }
+
+    // HashMap aceita a chave null (tarefas sem status), ao contrário de Collectors.groupingBy
+    static List<ContagemStatusDto> contarPorStatus(UUID usuarioId, List<Status> statuses) {
+        Map<Status, Long> quantidades = new HashMap<>();
+        statuses.forEach(status -> quantidades.merge(status, 1L, Long::sum));
+        return quantidades.entrySet().stream()
+                .map(quantidade -> new ContagemStatusDto(usuarioId, quantidade.getKey(), quantidade.getValue()))
+                .toList();
+    }
+
+    static String codificarCursor(UUID id) {
+        ByteBuffer buffer = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
 
-        if(tarefaExiste) {
-            tRepositoryy.deleteById(id);
+    static UUID decodificarCursor(String cursor) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+            if (buffer.remaining() != 16) {
+                throw new CursorInvalidoException(cursor);
+            }
+            return new UUID(buffer.getLong(), buffer.getLong());
+        } catch (IllegalArgumentException e) {
+            throw new CursorInvalidoException(cursor);
         }
     }
 }
@@ -0,0 +1,126 @@
+package com.deigo.apiTarefas.service;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.VersaoTarefaDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.AtualizarUsuariosDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.CriarUsuariosDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.ResumoTarefasUsuarioDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.UsuarioResumoDto;
+import com.deigo.apiTarefas.infrastructure.entitys.UsuarioR2dbc;
+import com.deigo.apiTarefas.infrastructure.exceptions.EmailJaCadastradoException;
+import com.deigo.apiTarefas.infrastructure.id.UuidV7Generator;
+import com.deigo.apiTarefas.infrastructure.repository.TarefasReativoRepository;
+import com.deigo.apiTarefas.infrastructure.repository.UsuarioReativoRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Contraparte reativa do {@link UsuarioService} (perfil reativo). O {@link SenhaService} bloqueia até o hash sair
+ * do pool dele, então cada hash roda no {@code boundedElastic}, nunca no event loop.
+ */
+@Service
+@Profile("reativo")
+public class UsuarioReativoService {
+
+    private final UsuarioReativoRepository usuarioRepository;
+    private final TarefasReativoRepository tarefasRepository;
+    private final ContadorTarefasReativoService contadorTarefasService;
+    private final SenhaService senhaService;
+    private final TransactionalOperator transacao;
+
+    public UsuarioReativoService(UsuarioReativoRepository usuarioRepository, TarefasReativoRepository tarefasRepository,
+                                 ContadorTarefasReativoService contadorTarefasService, SenhaService senhaService,
+                                 TransactionalOperator transacao) {
+        this.usuarioRepository = usuarioRepository;
+        this.tarefasRepository = tarefasRepository;
+        this.contadorTarefasService = contadorTarefasService;
+        this.senhaService = senhaService;
+        this.transacao = transacao;
+    }
+
+    // O hash roda antes de abrir a transação, para não segurar uma conexão do pool durante o BCrypt
+    public Mono<Void> criarUsuario(CriarUsuariosDto dto) {
+        return codificar(dto.senha()).flatMap(hash -> {
+            UsuarioR2dbc novoUsuario = UsuarioR2dbc.builder()
+                    .id(UuidV7Generator.gerar())
+                    .nome(dto.nome())
+                    .email(dto.email())
+                    .senha(hash)
+                    .build();
+
+            // O índice único de usuario.email decide a duplicidade no próprio INSERT, sem consulta prévia
+            return salvarComEmailUnico(novoUsuario)
+                    .flatMap(salvo -> contadorTarefasService.inicializar(salvo.getId()))
+                    .as(transacao::transactional);
+        });
+    }
+
+    public Mono<Page<UsuarioResumoDto>> listarUsuarios(Pageable pageable) {
+        return usuarioRepository.findResumos(pageable);
+    }
+
+    public Mono<UsuarioR2dbc> atualizarUsuario(UUID id, AtualizarUsuariosDto dto) {
+        Mono<Optional<String>> hash = dto.senha() != null
+                ? codificar(dto.senha()).map(Optional::of)
+                : Mono.just(Optional.empty());
+
+        return hash.flatMap(novoHash -> usuarioRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Usuário não encontrado")))
+                .flatMap(usuario -> {
+                    if (dto.nome() != null) {
+                        usuario.setNome(dto.nome());
+                    }
+                    if (dto.email() != null) {
+                        usuario.setEmail(dto.email());
+                    }
+                    novoHash.ifPresent(usuario::setSenha);
+
+                    return salvarComEmailUnico(usuario);
+                })
+                .as(transacao::transactional));
+    }
+
+    // Sem o cascade do JPA e sem ON DELETE CASCADE na FK de tarefas: as tarefas saem antes; os contadores caem
+    // pelo ON DELETE CASCADE da FK deles
+    @Transactional
+    public Mono<Void> deletarUsuario(UUID id) {
+        return usuarioRepository.existsById(id)
+                .flatMap(existe -> existe
+                        ? tarefasRepository.deleteByUsuarioId(id).then(usuarioRepository.deleteById(id))
+                        : Mono.<Void>error(new RuntimeException("Usuário não encontrado")));
+    }
+
+    public Flux<TarefaResumoDto> listarTarefasDoUsuario(UUID id) {
+        return tarefasRepository.findResumosByUsuarioId(id);
+    }
+
+    public Mono<ResumoTarefasUsuarioDto> resumoDasTarefasDoUsuario(UUID id) {
+        return contadorTarefasService.resumoDoUsuario(id);
+    }
+
+    public Flux<VersaoTarefaDto> listarVersoesDasTarefasDoUsuario(UUID id) {
+        return tarefasRepository.findVersoesByUsuarioId(id);
+    }
+
+    private Mono<String> codificar(String senha) {
+        return Mono.fromCallable(() -> senhaService.codificar(senha)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<UsuarioR2dbc> salvarComEmailUnico(UsuarioR2dbc usuario) {
+        return usuarioRepository.save(usuario)
+                .onErrorMap(DataIntegrityViolationException.class, e -> Restricoes.violou(e, Restricoes.EMAIL_UNICO)
+                        ? new EmailJaCadastradoException()
+                        : e);
+    }
+}
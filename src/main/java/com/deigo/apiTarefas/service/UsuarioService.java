@@ -1,61 +1,98 @@
 package com.deigo.apiTarefas.service;
 
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.VersaoTarefaDto;
 import com.deigo.apiTarefas.controller.dtoUsuarios.AtualizarUsuariosDto;
 import com.deigo.apiTarefas.controller.dtoUsuarios.CriarUsuariosDto;
-import com.deigo.apiTarefas.infrastructure.entitys.Tarefas;
+import com.deigo.apiTarefas.controller.dtoUsuarios.ResumoTarefasUsuarioDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.UsuarioResumoDto;
+import com.deigo.apiTarefas.infrastructure.cache.CacheConfig;
 import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
+import com.deigo.apiTarefas.infrastructure.exceptions.EmailJaCadastradoException;
+import com.deigo.apiTarefas.infrastructure.metrics.MetricsConfig;
 import com.deigo.apiTarefas.infrastructure.repository.TarefasRepository;
 import com.deigo.apiTarefas.infrastructure.repository.UsuarioRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.UUID;
 
 @Service
+@Profile("!reativo")
+@Timed(MetricsConfig.SERVICE)
 public class UsuarioService {
 
     private final UsuarioRepository usuarioRepository;
     private final TarefasRepository tarefasRepository;
+    private final ContadorTarefasService contadorTarefasService;
+    private final SenhaService senhaService;
+    private final TransactionTemplate transacao;
 
-    public UsuarioService(UsuarioRepository usuarioRepository, TarefasRepository tarefasRepository1) {
+    public UsuarioService(UsuarioRepository usuarioRepository, TarefasRepository tarefasRepository1,
+                          ContadorTarefasService contadorTarefasService, SenhaService senhaService,
+                          PlatformTransactionManager transactionManager) {
         this.usuarioRepository = usuarioRepository;
         this.tarefasRepository = tarefasRepository1;
+        this.contadorTarefasService = contadorTarefasService;
+        this.senhaService = senhaService;
+        this.transacao = new TransactionTemplate(transactionManager);
     }
 
+    // O hash roda antes de abrir a transação, para não segurar uma conexão do pool durante o BCrypt
     public void criarUsuario(CriarUsuariosDto dto) {
-        if (usuarioRepository.findByEmail(dto.email()).isPresent()) {
-            throw new RuntimeException("Email já existe");
-        }
+        String hash = senhaService.codificar(dto.senha());
 
-        Usuario novoUsuario = new Usuario();
-        novoUsuario.setNome(dto.nome());
-        novoUsuario.setEmail(dto.email());
-        novoUsuario.setSenha(dto.senha());
+        transacao.executeWithoutResult(status -> {
+            Usuario novoUsuario = new Usuario();
+            novoUsuario.setNome(dto.nome());
+            novoUsuario.setEmail(dto.email());
+            novoUsuario.setSenha(hash);
 
-        usuarioRepository.saveAndFlush(novoUsuario);
+            // O índice único de usuario.email decide a duplicidade no próprio INSERT, sem consulta prévia
+            Usuario salvo = salvarComEmailUnico(novoUsuario);
+            contadorTarefasService.inicializar(salvo.getId());
+        });
     }
 
-    public List<Usuario> listarUsuarios() {
-        return usuarioRepository.findAll();
+    @Transactional(readOnly = true)
+    public Page<UsuarioResumoDto> listarUsuarios(Pageable pageable) {
+        return usuarioRepository.findResumos(pageable);
     }
 
     public Usuario atualizarUsuario(UUID id, AtualizarUsuariosDto dto) {
-        Usuario usuarioEntity = usuarioRepository.findById(id).orElseThrow(() ->
-                new RuntimeException("Usuário não encontrado"));
+        String hash = dto.senha() != null ? senhaService.codificar(dto.senha()) : null;
 
-        if (dto.nome() != null) {
-            usuarioEntity.setNome(dto.nome());
-        }
-        if (dto.email() != null) {
-            usuarioEntity.setEmail(dto.email());
-        }
-        if (dto.senha() != null) {
-            usuarioEntity.setSenha(dto.senha());
-        }
+        // Leitura e escrita na mesma transação (no primário), como nos demais read-modify-write
+        return transacao.execute(status -> {
+            Usuario usuarioEntity = usuarioRepository.findById(id).orElseThrow(() ->
+                    new RuntimeException("Usuário não encontrado"));
+
+            if (dto.nome() != null) {
+                usuarioEntity.setNome(dto.nome());
+            }
+            if (dto.email() != null) {
+                usuarioEntity.setEmail(dto.email());
+            }
+            if (hash != null) {
+                usuarioEntity.setSenha(hash);
+            }
 
-        return usuarioRepository.saveAndFlush(usuarioEntity);
+            return salvarComEmailUnico(usuarioEntity);
+        });
     }
 
+    // O cascade apaga as tarefas do usuário, então nenhuma entrada do cache de tarefas continua válida
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TAREFAS, allEntries = true)
     public void deletarUsuario(UUID id) {
         if (usuarioRepository.existsById(id)) {
             usuarioRepository.deleteById(id);
@@ -64,7 +101,28 @@ public class UsuarioService {
         }
     }
 
-    public List<Tarefas> listarTarefasDoUsuario(UUID id) {
-        return tarefasRepository.findByUsuarioId(id);
+    @Transactional(readOnly = true)
+    public List<TarefaResumoDto> listarTarefasDoUsuario(UUID id) {
+        return tarefasRepository.findResumosByUsuarioId(id);
+    }
+
+    public ResumoTarefasUsuarioDto resumoDasTarefasDoUsuario(UUID id) {
+        return contadorTarefasService.resumoDoUsuario(id);
+    }
+
+    @Transactional(readOnly = true)
+    public List<VersaoTarefaDto> listarVersoesDasTarefasDoUsuario(UUID id) {
+        return tarefasRepository.findVersoesByUsuarioId(id);
+    }
+
+    private Usuario salvarComEmailUnico(Usuario usuario) {
+        try {
+            return usuarioRepository.saveAndFlush(usuario);
+        } catch (DataIntegrityViolationException e) {
+            if (Restricoes.violou(e, Restricoes.EMAIL_UNICO)) {
+                throw new EmailJaCadastradoException();
+            }
+            throw e;
+        }
     }
 }
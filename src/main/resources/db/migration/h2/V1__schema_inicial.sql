@@ -0,0 +1,18 @@
+CREATE TABLE usuario (
+    id    UUID         NOT NULL,
+    nome  VARCHAR(255),
+    email VARCHAR(255),
+    senha VARCHAR(255),
+    CONSTRAINT pk_usuario PRIMARY KEY (id),
+    CONSTRAINT uk_usuario_email UNIQUE (email)
+);
+
+CREATE TABLE tarefas (
+    id         UUID         NOT NULL,
+    titulo     VARCHAR(255),
+    descricao  VARCHAR(255),
+    status     VARCHAR(20),
+    usuario_id UUID,
+    CONSTRAINT pk_tarefas PRIMARY KEY (id),
+    CONSTRAINT fk_tarefas_usuario FOREIGN KEY (usuario_id) REFERENCES usuario (id)
+);
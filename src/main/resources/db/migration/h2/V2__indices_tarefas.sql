@@ -0,0 +1 @@
+CREATE INDEX idx_tarefas_usuario_status ON tarefas (usuario_id, status);
@@ -0,0 +1,2 @@
+-- Listagem paginada por keyset dentro das tarefas do usuário autenticado: where usuario_id = ? and id > ? order by id
+CREATE INDEX idx_tarefas_usuario_id ON tarefas (usuario_id, id);
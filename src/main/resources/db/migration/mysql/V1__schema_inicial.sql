@@ -0,0 +1,19 @@
+-- Esquema que o ddl-auto=update criava. Bancos que já existiam entram pelo baseline (versão 1) e pulam este script.
+CREATE TABLE usuario (
+    id    BINARY(16)   NOT NULL,
+    nome  VARCHAR(255),
+    email VARCHAR(255),
+    senha VARCHAR(255),
+    CONSTRAINT pk_usuario PRIMARY KEY (id),
+    CONSTRAINT uk_usuario_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE tarefas (
+    id         BINARY(16)   NOT NULL,
+    titulo     VARCHAR(255),
+    descricao  VARCHAR(255),
+    status     VARCHAR(20),
+    usuario_id BINARY(16),
+    CONSTRAINT pk_tarefas PRIMARY KEY (id),
+    CONSTRAINT fk_tarefas_usuario FOREIGN KEY (usuario_id) REFERENCES usuario (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,5 @@
+-- Bancos criados pelo Hibernate guardavam status como ENUM nativo; a entidade mapeia VARCHAR.
+ALTER TABLE tarefas MODIFY status VARCHAR(20);
+
+-- findByUsuarioId / listagens filtradas por usuário e status, e o UPDATE em massa por filtro.
+CREATE INDEX idx_tarefas_usuario_status ON tarefas (usuario_id, status);
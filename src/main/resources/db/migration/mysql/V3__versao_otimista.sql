@@ -0,0 +1,3 @@
+-- Coluna de @Version: controle otimista de concorrência e base dos ETags
+ALTER TABLE usuario ADD COLUMN versao BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE tarefas ADD COLUMN versao BIGINT DEFAULT 0 NOT NULL;
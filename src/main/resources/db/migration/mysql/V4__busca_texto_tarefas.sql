@@ -0,0 +1,2 @@
+-- Índice invertido do InnoDB para GET /tarefas/search; mantido pelo próprio banco a cada INSERT/UPDATE/DELETE
+CREATE FULLTEXT INDEX ft_tarefas_titulo_descricao ON tarefas (titulo, descricao);
@@ -0,0 +1,15 @@
+-- Contadores por (usuário, status) mantidos pelo ContadorTarefasService; apagados junto com o usuário
+CREATE TABLE contador_tarefas (
+    usuario_id BINARY(16)   NOT NULL,
+    status     VARCHAR(20)  NOT NULL,
+    quantidade BIGINT       DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_contador_tarefas PRIMARY KEY (usuario_id, status),
+    CONSTRAINT fk_contador_tarefas_usuario FOREIGN KEY (usuario_id) REFERENCES usuario (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+-- Carga inicial a partir das tarefas existentes (usa idx_tarefas_usuario_status)
+INSERT INTO contador_tarefas (usuario_id, status, quantidade)
+SELECT u.id, s.status,
+       (SELECT COUNT(*) FROM tarefas t WHERE t.usuario_id = u.id AND t.status = s.status)
+FROM usuario u
+CROSS JOIN (SELECT 'PENDENTE' AS status UNION ALL SELECT 'EM_ANDAMENTO' UNION ALL SELECT 'CONCLUIDA') s;
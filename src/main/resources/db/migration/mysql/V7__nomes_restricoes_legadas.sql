@@ -0,0 +1,29 @@
+-- Bancos que vieram do ddl-auto=update entram pelo baseline (versão 1) com a unique de usuario.email e a FK de
+-- tarefas.usuario_id nos nomes gerados pelo Hibernate (UK..., FK...). O service reconhece as violações pelos
+-- nomes da V1 (Restricoes), então aqui elas passam a ter esses nomes. Em bancos criados pela V1 nada muda.
+
+-- Renomear o índice é só metadado: nenhuma linha é relida nem reordenada
+SET @uk_email = (SELECT MIN(INDEX_NAME) FROM information_schema.STATISTICS
+                 WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'usuario' AND COLUMN_NAME = 'email'
+                   AND NON_UNIQUE = 0 AND INDEX_NAME <> 'uk_usuario_email');
+SET @ddl = IF(@uk_email IS NULL, 'DO 0',
+              CONCAT('ALTER TABLE usuario RENAME INDEX `', @uk_email, '` TO uk_usuario_email'));
+PREPARE renomear FROM @ddl;
+EXECUTE renomear;
+DEALLOCATE PREPARE renomear;
+
+-- FK não tem RENAME: DROP e ADD no mesmo ALTER. Sem checagem de FK o ADD roda INPLACE, sem validar as linhas,
+-- que já respeitavam a FK antiga
+SET @fk_usuario = (SELECT MIN(CONSTRAINT_NAME) FROM information_schema.KEY_COLUMN_USAGE
+                   WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'tarefas' AND COLUMN_NAME = 'usuario_id'
+                     AND REFERENCED_TABLE_NAME = 'usuario' AND CONSTRAINT_NAME <> 'fk_tarefas_usuario');
+SET @fk_checks = @@foreign_key_checks;
+SET foreign_key_checks = 0;
+SET @ddl = IF(@fk_usuario IS NULL, 'DO 0',
+              CONCAT('ALTER TABLE tarefas DROP FOREIGN KEY `', @fk_usuario, '`, ',
+                     'ADD CONSTRAINT fk_tarefas_usuario FOREIGN KEY (usuario_id) REFERENCES usuario (id), ',
+                     'ALGORITHM = INPLACE'));
+PREPARE recriar FROM @ddl;
+EXECUTE recriar;
+DEALLOCATE PREPARE recriar;
+SET foreign_key_checks = @fk_checks;
@@ -0,0 +1,2 @@
+-- Escopo admin por conta: só um UPDATE direto no banco marca uma conta existente (nunca o cadastro pela API)
+ALTER TABLE usuario ADD COLUMN administrador BOOLEAN DEFAULT FALSE NOT NULL;
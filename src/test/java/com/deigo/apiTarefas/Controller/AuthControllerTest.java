@@ -0,0 +1,71 @@
+package com.deigo.apiTarefas.Controller;
+
+import com.deigo.apiTarefas.Security.SecurityConfigTest;
+import com.deigo.apiTarefas.controller.AuthController;
+import com.deigo.apiTarefas.controller.dtoAuth.LoginDto;
+import com.deigo.apiTarefas.controller.dtoAuth.TokenDto;
+import com.deigo.apiTarefas.infrastructure.exceptions.CredenciaisInvalidasException;
+import com.deigo.apiTarefas.service.AuthService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AuthController.class)
+@ActiveProfiles("test")
+@Import(SecurityConfigTest.class)
+@DisplayName("Testes do AuthController")
+class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private AuthService authService;
+
+    @Test
+    @DisplayName("POST /auth/login - Deve devolver o token quando as credenciais conferem")
+    void deveRetornarTokenAoLogar() throws Exception {
+        // Arrange
+        LoginDto login = new LoginDto("teste@exemplo.com", "senha123");
+        when(authService.login(login)).thenReturn(new TokenDto("abc.def.ghi", "Bearer", 3600));
+
+        // Act & Assert
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(login)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").value("abc.def.ghi"))
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andExpect(jsonPath("$.expiresIn").value(3600));
+
+        verify(authService, times(1)).login(login);
+    }
+
+    @Test
+    @DisplayName("POST /auth/login - Deve retornar 401 quando as credenciais não conferem")
+    void deveRetornar401QuandoCredenciaisInvalidas() throws Exception {
+        // Arrange
+        when(authService.login(any(LoginDto.class))).thenThrow(new CredenciaisInvalidasException());
+
+        // Act & Assert
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginDto("teste@exemplo.com", "errada"))))
+                .andExpect(status().isUnauthorized());
+    }
+}
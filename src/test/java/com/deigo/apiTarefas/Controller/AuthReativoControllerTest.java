@@ -0,0 +1,69 @@
+package com.deigo.apiTarefas.Controller;
+
+import com.deigo.apiTarefas.Security.SecurityReativoConfigTest;
+import com.deigo.apiTarefas.controller.AuthReativoController;
+import com.deigo.apiTarefas.controller.dtoAuth.LoginDto;
+import com.deigo.apiTarefas.controller.dtoAuth.TokenDto;
+import com.deigo.apiTarefas.infrastructure.exceptions.CredenciaisInvalidasException;
+import com.deigo.apiTarefas.service.AuthReativoService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(AuthReativoController.class)
+@ActiveProfiles({"test", "reativo"})
+@Import(SecurityReativoConfigTest.class)
+@DisplayName("Testes do AuthReativoController")
+class AuthReativoControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private AuthReativoService authService;
+
+    @Test
+    @DisplayName("POST /auth/login - Deve devolver o token quando as credenciais conferem")
+    void deveRetornarTokenAoLogar() {
+        // Arrange
+        LoginDto login = new LoginDto("teste@exemplo.com", "senha123");
+        when(authService.login(login)).thenReturn(Mono.just(new TokenDto("abc.def.ghi", "Bearer", 3600)));
+
+        // Act & Assert
+        webTestClient.post().uri("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(login)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.accessToken").isEqualTo("abc.def.ghi")
+                .jsonPath("$.tokenType").isEqualTo("Bearer")
+                .jsonPath("$.expiresIn").isEqualTo(3600);
+
+        verify(authService, times(1)).login(login);
+    }
+
+    @Test
+    @DisplayName("POST /auth/login - Deve retornar 401 quando as credenciais não conferem")
+    void deveRetornar401QuandoCredenciaisInvalidas() {
+        // Arrange
+        when(authService.login(any(LoginDto.class))).thenReturn(Mono.error(new CredenciaisInvalidasException()));
+
+        // Act & Assert
+        webTestClient.post().uri("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new LoginDto("teste@exemplo.com", "errada"))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+}
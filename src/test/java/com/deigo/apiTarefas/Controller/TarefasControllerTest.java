@@ -2,11 +2,22 @@ package com.deigo.apiTarefas.Controller;
 
 import com.deigo.apiTarefas.Security.SecurityConfigTest;
 import com.deigo.apiTarefas.controller.TarefasController;
+import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarStatusEmLoteDto;
 import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarTarefaDto;
 import com.deigo.apiTarefas.controller.dtoTarefas.CriarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.PaginaTarefasDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ResultadoAtualizacaoEmLoteDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ResultadoLoteTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
 import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
 import com.deigo.apiTarefas.infrastructure.entitys.Tarefas;
 import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
+import com.deigo.apiTarefas.infrastructure.exceptions.BuscaInvalidaException;
+import com.deigo.apiTarefas.infrastructure.exceptions.CursorInvalidoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.LoteInvalidoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.TarefaNaoEncontradaException;
+import com.deigo.apiTarefas.infrastructure.exceptions.UsuarioNaoEncontradoException;
+import com.deigo.apiTarefas.infrastructure.sql.ContagemSqlFilter;
 import com.deigo.apiTarefas.service.TarefasService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,20 +27,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -95,6 +112,7 @@ class TarefasControllerTest {
 
         // Act & Assert
         mockMvc.perform(post("/tarefas")
+                        .with(comToken())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(criarTarefaDto)))
                 .andExpect(status().isOk());
@@ -102,6 +120,23 @@ class TarefasControllerTest {
         verify(tarefasService, times(1)).criarTarefa(any(CriarTarefaDto.class));
     }
 
+    @Test
+    @DisplayName("POST /tarefas - Deve criar a tarefa para o usuário do token, ignorando o usuarioId do corpo")
+    void deveCriarTarefaParaUsuarioDoToken() throws Exception {
+        // Arrange
+        CriarTarefaDto deOutroUsuario = new CriarTarefaDto("Nova Tarefa", null, Status.PENDENTE, UUID.randomUUID());
+        when(tarefasService.criarTarefa(any(CriarTarefaDto.class))).thenReturn(tarefa);
+
+        // Act & Assert
+        mockMvc.perform(post("/tarefas")
+                        .with(comToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(deOutroUsuario)))
+                .andExpect(status().isOk());
+
+        verify(tarefasService, times(1)).criarTarefa(deOutroUsuario.comUsuario(usuarioId));
+    }
+
     @Test
     @DisplayName("POST /tarefas - Deve retornar 400 quando body é inválido")
     void deveRetornar400QuandoBodyInvalido() throws Exception {
@@ -110,6 +145,7 @@ class TarefasControllerTest {
 
         // Act & Assert
         mockMvc.perform(post("/tarefas")
+                        .with(comToken())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(jsonInvalido))
                 .andExpect(status().isBadRequest());
@@ -127,6 +163,7 @@ class TarefasControllerTest {
         // Act & Assert
         try {
             mockMvc.perform(post("/tarefas")
+                    .with(comToken())
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(criarTarefaDto)));
         } catch (Exception e) {
@@ -138,25 +175,103 @@ class TarefasControllerTest {
         verify(tarefasService, times(1)).criarTarefa(any(CriarTarefaDto.class));
     }
 
+    @Test
+    @DisplayName("POST /tarefas - Deve retornar 404 quando usuário não existe")
+    void deveRetornar404QuandoUsuarioNaoExiste() throws Exception {
+        // Arrange
+        when(tarefasService.criarTarefa(any(CriarTarefaDto.class)))
+                .thenThrow(new UsuarioNaoEncontradoException("Usuario não encontrado com ID"));
+
+        // Act & Assert
+        mockMvc.perform(post("/tarefas")
+                        .with(comToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(criarTarefaDto)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("POST /tarefas/batch - Deve devolver o resultado de cada item do lote")
+    void deveRetornarResultadoPorItemDoLote() throws Exception {
+        // Arrange
+        UUID criadaId = UUID.randomUUID();
+        when(tarefasService.criarTarefasEmLote(anyList())).thenReturn(List.of(
+                ResultadoLoteTarefaDto.criada(0, criadaId),
+                ResultadoLoteTarefaDto.rejeitada(1, "Usuario não encontrado com ID")));
+
+        // Act & Assert
+        mockMvc.perform(post("/tarefas/batch")
+                        .with(comToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(criarTarefaDto, criarTarefaDto))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(criadaId.toString()))
+                .andExpect(jsonPath("$[1].indice").value(1))
+                .andExpect(jsonPath("$[1].erro").value("Usuario não encontrado com ID"));
+
+        verify(tarefasService, times(1)).criarTarefasEmLote(anyList());
+        verify(tarefasService, never()).criarTarefa(any(CriarTarefaDto.class));
+    }
+
     @Test
     @DisplayName("GET /tarefas/{id} - Deve buscar tarefa por ID quando existe")
     void deveRetornar200ComTarefaQuandoExiste() throws Exception {
         // Arrange
         String tarefaIdString = tarefaId.toString();
-        when(tarefasService.buscarTarefaPeloId(tarefaIdString)).thenReturn(Optional.of(tarefa));
+        when(tarefasService.buscarTarefaPeloId(tarefaIdString)).thenReturn(Optional.of(TarefaResumoDto.de(tarefa)));
 
         // Act & Assert
         mockMvc.perform(get("/tarefas/{tarefasId}", tarefaIdString)
+                        .with(comToken())
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(tarefaId.toString()))
                 .andExpect(jsonPath("$.titulo").value("Tarefa Teste"))
                 .andExpect(jsonPath("$.descricao").value("Descrição Teste"))
-                .andExpect(jsonPath("$.status").value("PENDENTE"));
+                .andExpect(jsonPath("$.status").value("PENDENTE"))
+                .andExpect(jsonPath("$.usuarioId").value(usuarioId.toString()))
+                .andExpect(jsonPath("$.usuario").doesNotExist());
 
         verify(tarefasService, times(1)).buscarTarefaPeloId(tarefaIdString);
     }
 
+    @Test
+    @DisplayName("GET /tarefas/{id} - Deve informar a contagem de SQL da requisição nos headers")
+    void deveRetornarHeadersDeContagemSql() throws Exception {
+        // Arrange
+        String tarefaIdString = tarefaId.toString();
+        when(tarefasService.buscarTarefaPeloId(tarefaIdString)).thenReturn(Optional.of(TarefaResumoDto.de(tarefa)));
+
+        // Act & Assert
+        mockMvc.perform(get("/tarefas/{tarefasId}", tarefaIdString).with(comToken()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ContagemSqlFilter.HEADER_CONSULTAS, "0"))
+                .andExpect(header().string(ContagemSqlFilter.HEADER_TEMPO, "0"));
+    }
+
+    @Test
+    @DisplayName("GET /tarefas/{id} - Deve retornar 304 quando If-None-Match bate com a versão da tarefa")
+    void deveRetornar304QuandoTarefaNaoMudou() throws Exception {
+        // Arrange
+        String tarefaIdString = tarefaId.toString();
+        TarefaResumoDto resumo = new TarefaResumoDto(tarefaId, "Tarefa Teste", "Descrição Teste", Status.PENDENTE, usuarioId, 3L);
+        when(tarefasService.buscarTarefaPeloId(tarefaIdString)).thenReturn(Optional.of(resumo));
+
+        // Act & Assert
+        mockMvc.perform(get("/tarefas/{tarefasId}", tarefaIdString)
+                        .with(comToken())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + tarefaId + "-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/tarefas/{tarefasId}", tarefaIdString)
+                        .with(comToken())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + tarefaId + "-2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + tarefaId + "-3\""));
+    }
+
     @Test
     @DisplayName("GET /tarefas/{id} - Deve retornar 404 quando tarefa não existe")
     void deveRetornar404QuandoTarefaNaoExiste() throws Exception {
@@ -166,12 +281,26 @@ class TarefasControllerTest {
 
         // Act & Assert
         mockMvc.perform(get("/tarefas/{tarefasId}", tarefaIdString)
+                        .with(comToken())
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
 
         verify(tarefasService, times(1)).buscarTarefaPeloId(tarefaIdString);
     }
 
+    @Test
+    @DisplayName("GET /tarefas/{id} - Deve retornar 404 quando a tarefa é de outro usuário")
+    void deveRetornar404QuandoTarefaEDeOutroUsuario() throws Exception {
+        // Arrange
+        String tarefaIdString = tarefaId.toString();
+        TarefaResumoDto deOutro = new TarefaResumoDto(tarefaId, "Tarefa Teste", null, Status.PENDENTE, UUID.randomUUID(), 0L);
+        when(tarefasService.buscarTarefaPeloId(tarefaIdString)).thenReturn(Optional.of(deOutro));
+
+        // Act & Assert
+        mockMvc.perform(get("/tarefas/{tarefasId}", tarefaIdString).with(comToken()))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("GET /tarefas/{id} - Deve aceitar UUID válido como String")
     void deveAceitarUUIDValidoComoString() throws Exception {
@@ -181,12 +310,14 @@ class TarefasControllerTest {
                 .id(UUID.fromString(uuidValido))
                 .titulo("Tarefa UUID")
                 .status(Status.PENDENTE)
+                .usuario(usuario)
                 .build();
 
-        when(tarefasService.buscarTarefaPeloId(uuidValido)).thenReturn(Optional.of(tarefaComUUID));
+        when(tarefasService.buscarTarefaPeloId(uuidValido)).thenReturn(Optional.of(TarefaResumoDto.de(tarefaComUUID)));
 
         // Act & Assert
         mockMvc.perform(get("/tarefas/{tarefasId}", uuidValido)
+                        .with(comToken())
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(uuidValido));
@@ -195,8 +326,8 @@ class TarefasControllerTest {
     }
 
     @Test
-    @DisplayName("GET /tarefas - Deve listar todas as tarefas")
-    void deveRetornar200ComListaDeTarefas() throws Exception {
+    @DisplayName("GET /tarefas - Deve listar a primeira página de tarefas")
+    void deveRetornar200ComPaginaDeTarefas() throws Exception {
         // Arrange
         Tarefas tarefa2 = Tarefas.builder()
                 .id(UUID.randomUUID())
@@ -206,35 +337,123 @@ class TarefasControllerTest {
                 .usuario(usuario)
                 .build();
 
-        List<Tarefas> tarefas = Arrays.asList(tarefa, tarefa2);
-        when(tarefasService.listarTarefas()).thenReturn(tarefas);
+        PaginaTarefasDto pagina = new PaginaTarefasDto(Arrays.asList(TarefaResumoDto.de(tarefa), TarefaResumoDto.de(tarefa2)), "proximo");
+        when(tarefasService.listarTarefas(usuarioId, null, null)).thenReturn(pagina);
 
         // Act & Assert
         mockMvc.perform(get("/tarefas")
+                        .with(comToken())
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].titulo").value("Tarefa Teste"))
-                .andExpect(jsonPath("$[0].status").value("PENDENTE"))
-                .andExpect(jsonPath("$[1].titulo").value("Tarefa 2"))
-                .andExpect(jsonPath("$[1].status").value("CONCLUIDA"));
+                .andExpect(jsonPath("$.itens", hasSize(2)))
+                .andExpect(jsonPath("$.itens[0].titulo").value("Tarefa Teste"))
+                .andExpect(jsonPath("$.itens[0].status").value("PENDENTE"))
+                .andExpect(jsonPath("$.itens[1].titulo").value("Tarefa 2"))
+                .andExpect(jsonPath("$.itens[1].status").value("CONCLUIDA"))
+                .andExpect(jsonPath("$.next").value("proximo"));
+
+        verify(tarefasService, times(1)).listarTarefas(usuarioId, null, null);
+    }
+
+    @Test
+    @DisplayName("GET /tarefas - Deve repassar cursor e limite ao service")
+    void deveRepassarCursorELimite() throws Exception {
+        // Arrange
+        when(tarefasService.listarTarefas(usuarioId, "abc", 50)).thenReturn(new PaginaTarefasDto(List.of(), null));
+
+        // Act & Assert
+        mockMvc.perform(get("/tarefas")
+                        .with(comToken())
+                        .param("after", "abc")
+                        .param("limit", "50")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens", hasSize(0)))
+                .andExpect(jsonPath("$.next").doesNotExist());
 
-        verify(tarefasService, times(1)).listarTarefas();
+        verify(tarefasService, times(1)).listarTarefas(usuarioId, "abc", 50);
     }
 
     @Test
-    @DisplayName("GET /tarefas - Deve retornar lista vazia quando não há tarefas")
-    void deveRetornar200ComListaVazia() throws Exception {
+    @DisplayName("GET /tarefas - Deve retornar 400 quando cursor é inválido")
+    void deveRetornar400QuandoCursorInvalido() throws Exception {
         // Arrange
-        when(tarefasService.listarTarefas()).thenReturn(List.of());
+        when(tarefasService.listarTarefas(eq(usuarioId), eq("invalido"), any()))
+                .thenThrow(new CursorInvalidoException("invalido"));
 
         // Act & Assert
         mockMvc.perform(get("/tarefas")
+                        .with(comToken())
+                        .param("after", "invalido")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /tarefas/search - Deve buscar nas tarefas do usuário do token, com os filtros da query")
+    void deveBuscarTarefasPorTexto() throws Exception {
+        // Arrange
+        TarefaResumoDto resumo = new TarefaResumoDto(tarefaId, "Tarefa Teste", "Descrição Teste", Status.PENDENTE, usuarioId, 0L);
+        when(tarefasService.buscarTarefas(usuarioId, "teste", Status.PENDENTE, 10)).thenReturn(List.of(resumo));
+
+        // Act & Assert
+        mockMvc.perform(get("/tarefas/search")
+                        .with(comToken())
+                        .param("q", "teste")
+                        .param("status", "PENDENTE")
+                        .param("limit", "10")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(tarefaId.toString()))
+                .andExpect(jsonPath("$[0].versao").doesNotExist());
+
+        verify(tarefasService, times(1)).buscarTarefas(usuarioId, "teste", Status.PENDENTE, 10);
+    }
+
+    @Test
+    @DisplayName("GET /tarefas/search - Deve retornar 400 quando o termo está em branco")
+    void deveRetornar400QuandoTermoDeBuscaEmBranco() throws Exception {
+        // Arrange
+        when(tarefasService.buscarTarefas(any(), eq(" "), any(), any()))
+                .thenThrow(new BuscaInvalidaException("Informe o termo de busca em q"));
+
+        // Act & Assert
+        mockMvc.perform(get("/tarefas/search")
+                        .with(comToken())
+                        .param("q", " ")
                         .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /tarefas/export - Deve exportar tarefas como NDJSON")
+    void deveExportarTarefasComoNdjson() throws Exception {
+        // Arrange
+        TarefaResumoDto resumo1 = TarefaResumoDto.de(tarefa);
+        TarefaResumoDto resumo2 = new TarefaResumoDto(UUID.randomUUID(), "Tarefa 2", null, Status.CONCLUIDA, usuarioId, 0L);
+        doAnswer(invocation -> {
+            Consumer<TarefaResumoDto> consumidor = invocation.getArgument(1);
+            consumidor.accept(resumo1);
+            consumidor.accept(resumo2);
+            return null;
+        }).when(tarefasService).exportarTarefas(eq(usuarioId), any());
+
+        // Act
+        MvcResult resultado = mockMvc.perform(get("/tarefas/export").with(comToken()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String corpo = mockMvc.perform(asyncDispatch(resultado))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(0)));
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
 
-        verify(tarefasService, times(1)).listarTarefas();
+        String[] linhas = corpo.split("\n");
+        assertThat(linhas).hasSize(2);
+        assertThat(objectMapper.readValue(linhas[0], TarefaResumoDto.class)).isEqualTo(resumo1);
+        assertThat(objectMapper.readValue(linhas[1], TarefaResumoDto.class)).isEqualTo(resumo2);
     }
 
     @Test
@@ -245,11 +464,12 @@ class TarefasControllerTest {
         tarefa.setDescricao("Descrição Atualizada");
         tarefa.setStatus(Status.CONCLUIDA);
 
-        when(tarefasService.atualizarTarefaPeloId(eq(tarefaId), any(AtualizarTarefaDto.class)))
+        when(tarefasService.atualizarTarefaPeloId(eq(usuarioId), eq(tarefaId), any(AtualizarTarefaDto.class)))
                 .thenReturn(tarefa);
 
         // Act & Assert
         mockMvc.perform(put("/tarefas/{tarefaId}", tarefaId)
+                        .with(comToken())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(atualizarTarefaDto)))
                 .andExpect(status().isOk())
@@ -258,29 +478,43 @@ class TarefasControllerTest {
                 .andExpect(jsonPath("$.descricao").value("Descrição Atualizada"))
                 .andExpect(jsonPath("$.status").value("CONCLUIDA"));
 
-        verify(tarefasService, times(1)).atualizarTarefaPeloId(eq(tarefaId), any(AtualizarTarefaDto.class));
+        verify(tarefasService, times(1)).atualizarTarefaPeloId(eq(usuarioId), eq(tarefaId), any(AtualizarTarefaDto.class));
     }
 
     @Test
-    @DisplayName("PUT /tarefas/{id} - Deve propagar exceção quando tarefa não existe")
-    void devePropararExcecaoAoAtualizarTarefaInexistente() throws Exception {
+    @DisplayName("PUT /tarefas/{id} - Deve retornar 404 quando tarefa não existe")
+    void deveRetornar404AoAtualizarTarefaInexistente() throws Exception {
         // Arrange
         UUID idInexistente = UUID.randomUUID();
-        when(tarefasService.atualizarTarefaPeloId(eq(idInexistente), any(AtualizarTarefaDto.class)))
-                .thenThrow(new RuntimeException("Tarefa não encontrada"));
+        when(tarefasService.atualizarTarefaPeloId(eq(usuarioId), eq(idInexistente), any(AtualizarTarefaDto.class)))
+                .thenThrow(new TarefaNaoEncontradaException("Tarefa não encontrada"));
 
         // Act & Assert
-        try {
-            mockMvc.perform(put("/tarefas/{tarefaId}", idInexistente)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .content(objectMapper.writeValueAsString(atualizarTarefaDto)));
-        } catch (Exception e) {
-            assertThat(e.getCause())
-                    .isInstanceOf(RuntimeException.class)
-                    .hasMessage("Tarefa não encontrada");
-        }
+        mockMvc.perform(put("/tarefas/{tarefaId}", idInexistente)
+                        .with(comToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(atualizarTarefaDto)))
+                .andExpect(status().isNotFound());
 
-        verify(tarefasService, times(1)).atualizarTarefaPeloId(eq(idInexistente), any(AtualizarTarefaDto.class));
+        verify(tarefasService, times(1)).atualizarTarefaPeloId(eq(usuarioId), eq(idInexistente), any(AtualizarTarefaDto.class));
+    }
+
+    @Test
+    @DisplayName("PUT /tarefas/{id} - Deve retornar 404 ao atualizar tarefa de outro usuário")
+    void deveRetornar404AoAtualizarTarefaDeOutroUsuario() throws Exception {
+        // Arrange
+        UUID outroUsuarioId = UUID.randomUUID();
+        when(tarefasService.atualizarTarefaPeloId(eq(outroUsuarioId), eq(tarefaId), any(AtualizarTarefaDto.class)))
+                .thenThrow(new TarefaNaoEncontradaException("Tarefa não encontrada"));
+
+        // Act & Assert
+        mockMvc.perform(put("/tarefas/{tarefaId}", tarefaId)
+                        .with(comToken(outroUsuarioId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(atualizarTarefaDto)))
+                .andExpect(status().isNotFound());
+
+        verify(tarefasService, times(1)).atualizarTarefaPeloId(eq(outroUsuarioId), eq(tarefaId), any(AtualizarTarefaDto.class));
     }
 
     @Test
@@ -294,17 +528,51 @@ class TarefasControllerTest {
         );
 
         tarefa.setTitulo("Apenas Título");
-        when(tarefasService.atualizarTarefaPeloId(eq(tarefaId), any(AtualizarTarefaDto.class)))
+        when(tarefasService.atualizarTarefaPeloId(eq(usuarioId), eq(tarefaId), any(AtualizarTarefaDto.class)))
                 .thenReturn(tarefa);
 
         // Act & Assert
         mockMvc.perform(put("/tarefas/{tarefaId}", tarefaId)
+                        .with(comToken())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(dtoParcial)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.titulo").value("Apenas Título"));
 
-        verify(tarefasService, times(1)).atualizarTarefaPeloId(eq(tarefaId), any(AtualizarTarefaDto.class));
+        verify(tarefasService, times(1)).atualizarTarefaPeloId(eq(usuarioId), eq(tarefaId), any(AtualizarTarefaDto.class));
+    }
+
+    @Test
+    @DisplayName("PATCH /tarefas/status - Deve devolver o número de tarefas atualizadas")
+    void deveRetornarQuantidadeAtualizadaEmLote() throws Exception {
+        // Arrange
+        AtualizarStatusEmLoteDto dto = new AtualizarStatusEmLoteDto(Status.CONCLUIDA, null, usuarioId, Status.EM_ANDAMENTO);
+        when(tarefasService.atualizarStatusEmLote(usuarioId, dto)).thenReturn(new ResultadoAtualizacaoEmLoteDto(3));
+
+        // Act & Assert
+        mockMvc.perform(patch("/tarefas/status")
+                        .with(comToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.atualizadas").value(3));
+
+        verify(tarefasService, times(1)).atualizarStatusEmLote(usuarioId, dto);
+    }
+
+    @Test
+    @DisplayName("PATCH /tarefas/status - Deve retornar 400 quando o lote é inválido")
+    void deveRetornar400QuandoLoteInvalido() throws Exception {
+        // Arrange
+        when(tarefasService.atualizarStatusEmLote(any(), any(AtualizarStatusEmLoteDto.class)))
+                .thenThrow(new LoteInvalidoException("Informe ids ou usuarioId, não ambos"));
+
+        // Act & Assert
+        mockMvc.perform(patch("/tarefas/status")
+                        .with(comToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"novoStatus\":\"CONCLUIDA\"}"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -312,13 +580,13 @@ class TarefasControllerTest {
     void deveRetornar204AoDeletarTarefa() throws Exception {
         // Arrange
         String tarefaIdString = tarefaId.toString();
-        doNothing().when(tarefasService).deletarPeloId(tarefaIdString);
+        doNothing().when(tarefasService).deletarPeloId(usuarioId, tarefaIdString);
 
         // Act & Assert
-        mockMvc.perform(delete("/tarefas/{tarefaId}", tarefaIdString))
+        mockMvc.perform(delete("/tarefas/{tarefaId}", tarefaIdString).with(comToken()))
                 .andExpect(status().isNoContent());
 
-        verify(tarefasService, times(1)).deletarPeloId(tarefaIdString);
+        verify(tarefasService, times(1)).deletarPeloId(usuarioId, tarefaIdString);
     }
 
     @Test
@@ -326,13 +594,13 @@ class TarefasControllerTest {
     void deveAceitarUUIDComoStringAoDeletar() throws Exception {
         // Arrange
         String uuidValido = "550e8400-e29b-41d4-a716-446655440000";
-        doNothing().when(tarefasService).deletarPeloId(uuidValido);
+        doNothing().when(tarefasService).deletarPeloId(usuarioId, uuidValido);
 
         // Act & Assert
-        mockMvc.perform(delete("/tarefas/{tarefaId}", uuidValido))
+        mockMvc.perform(delete("/tarefas/{tarefaId}", uuidValido).with(comToken()))
                 .andExpect(status().isNoContent());
 
-        verify(tarefasService, times(1)).deletarPeloId(uuidValido);
+        verify(tarefasService, times(1)).deletarPeloId(usuarioId, uuidValido);
     }
 
     @Test
@@ -340,13 +608,13 @@ class TarefasControllerTest {
     void naoDeveLancarErroAoDeletarTarefaInexistente() throws Exception {
         // Arrange
         String tarefaIdString = tarefaId.toString();
-        doNothing().when(tarefasService).deletarPeloId(tarefaIdString);
+        doNothing().when(tarefasService).deletarPeloId(usuarioId, tarefaIdString);
 
         // Act & Assert
-        mockMvc.perform(delete("/tarefas/{tarefaId}", tarefaIdString))
+        mockMvc.perform(delete("/tarefas/{tarefaId}", tarefaIdString).with(comToken()))
                 .andExpect(status().isNoContent());
 
-        verify(tarefasService, times(1)).deletarPeloId(tarefaIdString);
+        verify(tarefasService, times(1)).deletarPeloId(usuarioId, tarefaIdString);
     }
 
     @Test
@@ -354,6 +622,7 @@ class TarefasControllerTest {
     void deveRetornar404ParaRotaInexistente() throws Exception {
         // Act & Assert
         mockMvc.perform(get("/rota-completamente-inexistente")
+                        .with(comToken())
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
     }
@@ -379,10 +648,19 @@ class TarefasControllerTest {
 
         // Act & Assert
         mockMvc.perform(post("/tarefas")
+                        .with(comToken())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(dtoEmAndamento)))
                 .andExpect(status().isOk());
 
         verify(tarefasService, times(1)).criarTarefa(any(CriarTarefaDto.class));
     }
+
+    private RequestPostProcessor comToken() {
+        return comToken(usuarioId);
+    }
+
+    private static RequestPostProcessor comToken(UUID usuarioId) {
+        return jwt().jwt(token -> token.subject(usuarioId.toString()));
+    }
 }
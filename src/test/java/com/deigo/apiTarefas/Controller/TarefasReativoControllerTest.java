@@ -0,0 +1,496 @@
+package com.deigo.apiTarefas.Controller;
+
+import com.deigo.apiTarefas.Security.SecurityReativoConfigTest;
+import com.deigo.apiTarefas.controller.TarefasReativoController;
+import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarStatusEmLoteDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.CriarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.PaginaTarefasDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ResultadoAtualizacaoEmLoteDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ResultadoLoteTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.infrastructure.entitys.TarefasR2dbc;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.exceptions.BuscaInvalidaException;
+import com.deigo.apiTarefas.infrastructure.exceptions.CursorInvalidoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.LoteInvalidoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.TarefaNaoEncontradaException;
+import com.deigo.apiTarefas.infrastructure.exceptions.UsuarioNaoEncontradoException;
+import com.deigo.apiTarefas.service.TarefasReativoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockJwt;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.springSecurity;
+
+@WebFluxTest(TarefasReativoController.class)
+@ActiveProfiles({"test", "reativo"})
+@Import(SecurityReativoConfigTest.class)
+@DisplayName("Testes do TarefasReativoController")
+class TarefasReativoControllerTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @MockBean
+    private TarefasReativoService tarefasService;
+
+    private WebTestClient webTestClient;
+    private TarefasR2dbc tarefa;
+    private CriarTarefaDto criarTarefaDto;
+    private AtualizarTarefaDto atualizarTarefaDto;
+    private UUID tarefaId;
+    private UUID usuarioId;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToApplicationContext(context)
+                .apply(springSecurity())
+                .configureClient()
+                .build();
+
+        tarefaId = UUID.randomUUID();
+        usuarioId = UUID.randomUUID();
+
+        tarefa = TarefasR2dbc.builder()
+                .id(tarefaId)
+                .titulo("Tarefa Teste")
+                .descricao("Descrição Teste")
+                .status(Status.PENDENTE)
+                .usuarioId(usuarioId)
+                .versao(0L)
+                .build();
+
+        criarTarefaDto = new CriarTarefaDto(
+                "Nova Tarefa",
+                "Descrição da nova tarefa",
+                Status.PENDENTE,
+                usuarioId
+        );
+
+        atualizarTarefaDto = new AtualizarTarefaDto(
+                "Tarefa Atualizada",
+                "Descrição Atualizada",
+                Status.CONCLUIDA
+        );
+    }
+
+    @Test
+    @DisplayName("POST /tarefas - Deve criar tarefa com sucesso")
+    void deveRetornar200AoCriarTarefa() {
+        // Arrange
+        when(tarefasService.criarTarefa(any(CriarTarefaDto.class))).thenReturn(Mono.just(tarefa));
+
+        // Act & Assert
+        comToken().post().uri("/tarefas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(criarTarefaDto)
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(tarefasService, times(1)).criarTarefa(any(CriarTarefaDto.class));
+    }
+
+    @Test
+    @DisplayName("POST /tarefas - Deve criar a tarefa para o usuário do token, ignorando o usuarioId do corpo")
+    void deveCriarTarefaParaUsuarioDoToken() {
+        // Arrange
+        CriarTarefaDto deOutroUsuario = new CriarTarefaDto("Nova Tarefa", "Descrição", Status.PENDENTE, UUID.randomUUID());
+        when(tarefasService.criarTarefa(any(CriarTarefaDto.class))).thenReturn(Mono.just(tarefa));
+
+        // Act & Assert
+        comToken().post().uri("/tarefas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(deOutroUsuario)
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(tarefasService, times(1)).criarTarefa(deOutroUsuario.comUsuario(usuarioId));
+    }
+
+    @Test
+    @DisplayName("POST /tarefas - Deve retornar 400 quando body é inválido")
+    void deveRetornar400QuandoBodyInvalido() {
+        // Act & Assert
+        comToken().post().uri("/tarefas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{ invalid json }")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(tarefasService, never()).criarTarefa(any(CriarTarefaDto.class));
+    }
+
+    @Test
+    @DisplayName("POST /tarefas - Deve retornar 500 quando o service falha com erro inesperado")
+    void deveRetornar500QuandoServiceFalha() {
+        // Arrange
+        when(tarefasService.criarTarefa(any(CriarTarefaDto.class)))
+                .thenReturn(Mono.error(new RuntimeException("Usuario não encontrado com ID")));
+
+        // Act & Assert
+        comToken().post().uri("/tarefas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(criarTarefaDto)
+                .exchange()
+                .expectStatus().is5xxServerError();
+
+        verify(tarefasService, times(1)).criarTarefa(any(CriarTarefaDto.class));
+    }
+
+    @Test
+    @DisplayName("POST /tarefas - Deve retornar 404 quando usuário não existe")
+    void deveRetornar404QuandoUsuarioNaoExiste() {
+        // Arrange
+        when(tarefasService.criarTarefa(any(CriarTarefaDto.class)))
+                .thenReturn(Mono.error(new UsuarioNaoEncontradoException("Usuario não encontrado com ID")));
+
+        // Act & Assert
+        comToken().post().uri("/tarefas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(criarTarefaDto)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("POST /tarefas/batch - Deve devolver o resultado de cada item do lote")
+    void deveRetornarResultadoPorItemDoLote() {
+        // Arrange
+        UUID criadaId = UUID.randomUUID();
+        when(tarefasService.criarTarefasEmLote(anyList())).thenReturn(Mono.just(List.of(
+                ResultadoLoteTarefaDto.criada(0, criadaId),
+                ResultadoLoteTarefaDto.rejeitada(1, "Usuario não encontrado com ID"))));
+
+        // Act & Assert
+        comToken().post().uri("/tarefas/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(criarTarefaDto, criarTarefaDto))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].id").isEqualTo(criadaId.toString())
+                .jsonPath("$[1].indice").isEqualTo(1)
+                .jsonPath("$[1].erro").isEqualTo("Usuario não encontrado com ID");
+
+        verify(tarefasService, times(1)).criarTarefasEmLote(anyList());
+        verify(tarefasService, never()).criarTarefa(any(CriarTarefaDto.class));
+    }
+
+    @Test
+    @DisplayName("GET /tarefas/{id} - Deve buscar tarefa por ID quando existe")
+    void deveRetornar200ComTarefaQuandoExiste() {
+        // Arrange
+        String tarefaIdString = tarefaId.toString();
+        when(tarefasService.buscarTarefaPeloId(tarefaIdString)).thenReturn(Mono.just(TarefaResumoDto.de(tarefa)));
+
+        // Act & Assert
+        comToken().get().uri("/tarefas/{tarefasId}", tarefaIdString)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(tarefaId.toString())
+                .jsonPath("$.titulo").isEqualTo("Tarefa Teste")
+                .jsonPath("$.descricao").isEqualTo("Descrição Teste")
+                .jsonPath("$.status").isEqualTo("PENDENTE")
+                .jsonPath("$.usuarioId").isEqualTo(usuarioId.toString())
+                .jsonPath("$.versao").doesNotExist();
+
+        verify(tarefasService, times(1)).buscarTarefaPeloId(tarefaIdString);
+    }
+
+    @Test
+    @DisplayName("GET /tarefas/{id} - Deve retornar 304 quando If-None-Match bate com a versão da tarefa")
+    void deveRetornar304QuandoTarefaNaoMudou() {
+        // Arrange
+        String tarefaIdString = tarefaId.toString();
+        TarefaResumoDto resumo = new TarefaResumoDto(tarefaId, "Tarefa Teste", "Descrição Teste", Status.PENDENTE, usuarioId, 3L);
+        when(tarefasService.buscarTarefaPeloId(tarefaIdString)).thenReturn(Mono.just(resumo));
+
+        // Act & Assert
+        comToken().get().uri("/tarefas/{tarefasId}", tarefaIdString)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + tarefaId + "-3\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        comToken().get().uri("/tarefas/{tarefasId}", tarefaIdString)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + tarefaId + "-2\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"" + tarefaId + "-3\"");
+    }
+
+    @Test
+    @DisplayName("GET /tarefas/{id} - Deve retornar 404 quando tarefa não existe")
+    void deveRetornar404QuandoTarefaNaoExiste() {
+        // Arrange
+        String tarefaIdString = tarefaId.toString();
+        when(tarefasService.buscarTarefaPeloId(tarefaIdString)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        comToken().get().uri("/tarefas/{tarefasId}", tarefaIdString)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        verify(tarefasService, times(1)).buscarTarefaPeloId(tarefaIdString);
+    }
+
+    @Test
+    @DisplayName("GET /tarefas/{id} - Deve retornar 404 quando a tarefa é de outro usuário")
+    void deveRetornar404QuandoTarefaEDeOutroUsuario() {
+        // Arrange
+        String tarefaIdString = tarefaId.toString();
+        TarefaResumoDto deOutro = new TarefaResumoDto(tarefaId, "Tarefa Teste", null, Status.PENDENTE, UUID.randomUUID(), 0L);
+        when(tarefasService.buscarTarefaPeloId(tarefaIdString)).thenReturn(Mono.just(deOutro));
+
+        // Act & Assert
+        comToken().get().uri("/tarefas/{tarefasId}", tarefaIdString)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("GET /tarefas - Deve listar a primeira página de tarefas")
+    void deveRetornar200ComPaginaDeTarefas() {
+        // Arrange
+        TarefaResumoDto segunda = new TarefaResumoDto(UUID.randomUUID(), "Tarefa 2", null, Status.CONCLUIDA, usuarioId, 0L);
+        PaginaTarefasDto pagina = new PaginaTarefasDto(List.of(TarefaResumoDto.de(tarefa), segunda), "proximo");
+        when(tarefasService.listarTarefas(usuarioId, null, null)).thenReturn(Mono.just(pagina));
+
+        // Act & Assert
+        comToken().get().uri("/tarefas")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.itens.length()").isEqualTo(2)
+                .jsonPath("$.itens[0].titulo").isEqualTo("Tarefa Teste")
+                .jsonPath("$.itens[0].status").isEqualTo("PENDENTE")
+                .jsonPath("$.itens[1].titulo").isEqualTo("Tarefa 2")
+                .jsonPath("$.itens[1].status").isEqualTo("CONCLUIDA")
+                .jsonPath("$.next").isEqualTo("proximo");
+
+        verify(tarefasService, times(1)).listarTarefas(usuarioId, null, null);
+    }
+
+    @Test
+    @DisplayName("GET /tarefas - Deve repassar cursor e limite ao service")
+    void deveRepassarCursorELimite() {
+        // Arrange
+        when(tarefasService.listarTarefas(usuarioId, "abc", 50)).thenReturn(Mono.just(new PaginaTarefasDto(List.of(), null)));
+
+        // Act & Assert
+        comToken().get().uri(uri -> uri.path("/tarefas").queryParam("after", "abc").queryParam("limit", 50).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.itens.length()").isEqualTo(0)
+                .jsonPath("$.next").doesNotExist();
+
+        verify(tarefasService, times(1)).listarTarefas(usuarioId, "abc", 50);
+    }
+
+    @Test
+    @DisplayName("GET /tarefas - Deve retornar 400 quando cursor é inválido")
+    void deveRetornar400QuandoCursorInvalido() {
+        // Arrange
+        when(tarefasService.listarTarefas(eq(usuarioId), eq("invalido"), any()))
+                .thenReturn(Mono.error(new CursorInvalidoException("invalido")));
+
+        // Act & Assert
+        comToken().get().uri(uri -> uri.path("/tarefas").queryParam("after", "invalido").build())
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /tarefas/search - Deve buscar nas tarefas do usuário do token, com os filtros da query")
+    void deveBuscarTarefasPorTexto() {
+        // Arrange
+        TarefaResumoDto resumo = TarefaResumoDto.de(tarefa);
+        when(tarefasService.buscarTarefas(usuarioId, "teste", Status.PENDENTE, 10)).thenReturn(Flux.just(resumo));
+
+        // Act & Assert
+        comToken().get().uri(uri -> uri.path("/tarefas/search")
+                        .queryParam("q", "teste")
+                        .queryParam("status", "PENDENTE")
+                        .queryParam("limit", 10)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo(tarefaId.toString())
+                .jsonPath("$[0].versao").doesNotExist();
+
+        verify(tarefasService, times(1)).buscarTarefas(usuarioId, "teste", Status.PENDENTE, 10);
+    }
+
+    @Test
+    @DisplayName("GET /tarefas/search - Deve retornar 400 quando o termo está em branco")
+    void deveRetornar400QuandoTermoDeBuscaEmBranco() {
+        // Arrange
+        when(tarefasService.buscarTarefas(any(), eq(" "), any(), any()))
+                .thenReturn(Flux.error(new BuscaInvalidaException("Informe o termo de busca em q")));
+
+        // Act & Assert
+        comToken().get().uri(uri -> uri.path("/tarefas/search").queryParam("q", " ").build())
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /tarefas/export - Deve exportar tarefas como NDJSON, uma por linha")
+    void deveExportarTarefasComoNdjson() {
+        // Arrange
+        TarefaResumoDto segunda = new TarefaResumoDto(UUID.randomUUID(), "Tarefa 2", null, Status.CONCLUIDA, usuarioId, 0L);
+        when(tarefasService.exportarTarefas(usuarioId)).thenReturn(Flux.just(TarefaResumoDto.de(tarefa), segunda));
+
+        // Act
+        String corpo = comToken().get().uri("/tarefas/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        // Assert
+        assertThat(corpo).isNotNull();
+        assertThat(corpo.strip().split("\n")).hasSize(2);
+        assertThat(corpo).contains("\"titulo\":\"Tarefa Teste\"").contains("\"titulo\":\"Tarefa 2\"");
+    }
+
+    @Test
+    @DisplayName("PUT /tarefas/{id} - Deve atualizar tarefa com sucesso")
+    void deveRetornar200AoAtualizarTarefa() {
+        // Arrange
+        tarefa.setTitulo("Tarefa Atualizada");
+        tarefa.setDescricao("Descrição Atualizada");
+        tarefa.setStatus(Status.CONCLUIDA);
+        tarefa.setVersao(1L);
+        when(tarefasService.atualizarTarefaPeloId(eq(usuarioId), eq(tarefaId), any(AtualizarTarefaDto.class)))
+                .thenReturn(Mono.just(tarefa));
+
+        // Act & Assert
+        comToken().put().uri("/tarefas/{tarefaId}", tarefaId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(atualizarTarefaDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"" + tarefaId + "-1\"")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(tarefaId.toString())
+                .jsonPath("$.titulo").isEqualTo("Tarefa Atualizada")
+                .jsonPath("$.descricao").isEqualTo("Descrição Atualizada")
+                .jsonPath("$.status").isEqualTo("CONCLUIDA");
+
+        verify(tarefasService, times(1)).atualizarTarefaPeloId(eq(usuarioId), eq(tarefaId), any(AtualizarTarefaDto.class));
+    }
+
+    @Test
+    @DisplayName("PUT /tarefas/{id} - Deve retornar 404 quando tarefa não existe")
+    void deveRetornar404AoAtualizarTarefaInexistente() {
+        // Arrange
+        UUID idInexistente = UUID.randomUUID();
+        when(tarefasService.atualizarTarefaPeloId(eq(usuarioId), eq(idInexistente), any(AtualizarTarefaDto.class)))
+                .thenReturn(Mono.error(new TarefaNaoEncontradaException("Tarefa não encontrada")));
+
+        // Act & Assert
+        comToken().put().uri("/tarefas/{tarefaId}", idInexistente)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(atualizarTarefaDto)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        verify(tarefasService, times(1)).atualizarTarefaPeloId(eq(usuarioId), eq(idInexistente), any(AtualizarTarefaDto.class));
+    }
+
+    @Test
+    @DisplayName("PATCH /tarefas/status - Deve devolver o número de tarefas atualizadas")
+    void deveRetornarQuantidadeAtualizadaEmLote() {
+        // Arrange
+        AtualizarStatusEmLoteDto dto = new AtualizarStatusEmLoteDto(Status.CONCLUIDA, null, usuarioId, Status.EM_ANDAMENTO);
+        when(tarefasService.atualizarStatusEmLote(usuarioId, dto)).thenReturn(Mono.just(new ResultadoAtualizacaoEmLoteDto(3)));
+
+        // Act & Assert
+        comToken().patch().uri("/tarefas/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(dto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.atualizadas").isEqualTo(3);
+
+        verify(tarefasService, times(1)).atualizarStatusEmLote(usuarioId, dto);
+    }
+
+    @Test
+    @DisplayName("PATCH /tarefas/status - Deve retornar 400 quando o lote é inválido")
+    void deveRetornar400QuandoLoteInvalido() {
+        // Arrange
+        when(tarefasService.atualizarStatusEmLote(any(), any(AtualizarStatusEmLoteDto.class)))
+                .thenReturn(Mono.error(new LoteInvalidoException("Informe ids ou usuarioId, não ambos")));
+
+        // Act & Assert
+        comToken().patch().uri("/tarefas/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"novoStatus\":\"CONCLUIDA\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("DELETE /tarefas/{id} - Deve deletar tarefa com sucesso")
+    void deveRetornar204AoDeletarTarefa() {
+        // Arrange
+        String tarefaIdString = tarefaId.toString();
+        when(tarefasService.deletarPeloId(usuarioId, tarefaIdString)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        comToken().delete().uri("/tarefas/{tarefaId}", tarefaIdString)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        verify(tarefasService, times(1)).deletarPeloId(usuarioId, tarefaIdString);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 para rota inexistente")
+    void deveRetornar404ParaRotaInexistente() {
+        // Act & Assert
+        comToken().get().uri("/rota-completamente-inexistente")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private WebTestClient comToken() {
+        return comToken(usuarioId);
+    }
+
+    private WebTestClient comToken(UUID usuarioId) {
+        return webTestClient.mutateWith(mockJwt().jwt(token -> token.subject(usuarioId.toString())));
+    }
+}
@@ -2,23 +2,37 @@ package com.deigo.apiTarefas.Controller;
 
 import com.deigo.apiTarefas.Security.SecurityConfigTest;
 import com.deigo.apiTarefas.controller.UsuarioController;
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.VersaoTarefaDto;
 import com.deigo.apiTarefas.controller.dtoUsuarios.AtualizarUsuariosDto;
 import com.deigo.apiTarefas.controller.dtoUsuarios.CriarUsuariosDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.ResumoTarefasUsuarioDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.UsuarioResumoDto;
 import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
 import com.deigo.apiTarefas.infrastructure.entitys.Tarefas;
 import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
+import com.deigo.apiTarefas.infrastructure.etag.Etags;
+import com.deigo.apiTarefas.infrastructure.exceptions.EmailJaCadastradoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.UsuarioNaoEncontradoException;
 import com.deigo.apiTarefas.service.UsuarioService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
 import java.util.Arrays;
 import java.util.List;
@@ -29,6 +43,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -126,46 +141,105 @@ class UsuarioControllerTest {
         verify(usuarioService, times(1)).criarUsuario(any(CriarUsuariosDto.class));
     }
 
+    @Test
+    @DisplayName("POST /usuarios - Deve retornar 409 quando email já existe")
+    void deveRetornar409QuandoEmailJaExiste() throws Exception {
+        // Arrange
+        doThrow(new EmailJaCadastradoException())
+                .when(usuarioService).criarUsuario(any(CriarUsuariosDto.class));
+
+        // Act & Assert
+        mockMvc.perform(post("/usuarios")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(criarUsuarioDto)))
+                .andExpect(status().isConflict());
+    }
+
     // ==================== TESTES DE GET /usuarios ====================
 
     @Test
-    @DisplayName("GET /usuarios - Deve listar todos os usuários")
+    @DisplayName("GET /usuarios - Deve listar resumo paginado dos usuários")
     void deveRetornar200ComListaDeUsuarios() throws Exception {
         // Arrange
-        Usuario usuario2 = new Usuario();
-        usuario2.setId(UUID.randomUUID());
-        usuario2.setNome("Usuario 2");
-        usuario2.setEmail("usuario2@exemplo.com");
+        UsuarioResumoDto resumo1 = new UsuarioResumoDto(usuarioId, "Usuario Teste", "teste@exemplo.com", 2L, 1L, 3L);
+        UsuarioResumoDto resumo2 = new UsuarioResumoDto(UUID.randomUUID(), "Usuario 2", "usuario2@exemplo.com", 0L, 0L, 0L);
+        when(usuarioService.listarUsuarios(any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(List.of(resumo1, resumo2), invocation.getArgument(0), 2));
 
-        List<Usuario> usuarios = Arrays.asList(usuario, usuario2);
-        when(usuarioService.listarUsuarios()).thenReturn(usuarios);
+        // Act & Assert
+        mockMvc.perform(get("/usuarios")
+                        .with(comToken(usuarioId))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].nome").value("Usuario Teste"))
+                .andExpect(jsonPath("$.content[0].email").value("teste@exemplo.com"))
+                .andExpect(jsonPath("$.content[0].pendentes").value(2))
+                .andExpect(jsonPath("$.content[0].emAndamento").value(1))
+                .andExpect(jsonPath("$.content[0].concluidas").value(3))
+                .andExpect(jsonPath("$.content[0].tarefas").doesNotExist())
+                .andExpect(jsonPath("$.content[1].nome").value("Usuario 2"))
+                .andExpect(jsonPath("$.content[1].email").value("usuario2@exemplo.com"))
+                .andExpect(jsonPath("$.page.totalElements").value(2));
+
+        verify(usuarioService, times(1)).listarUsuarios(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("GET /usuarios - Deve repassar página e tamanho ao service")
+    void deveRepassarPaginaETamanho() throws Exception {
+        // Arrange
+        when(usuarioService.listarUsuarios(any(Pageable.class))).thenReturn(Page.empty());
 
         // Act & Assert
         mockMvc.perform(get("/usuarios")
+                        .with(comToken(usuarioId))
+                        .param("page", "2")
+                        .param("size", "5")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].nome").value("Usuario Teste"))
-                .andExpect(jsonPath("$[0].email").value("teste@exemplo.com"))
-                .andExpect(jsonPath("$[1].nome").value("Usuario 2"))
-                .andExpect(jsonPath("$[1].email").value("usuario2@exemplo.com"));
+                .andExpect(jsonPath("$.content", hasSize(0)));
 
-        verify(usuarioService, times(1)).listarUsuarios();
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(usuarioService).listarUsuarios(captor.capture());
+        assertThat(captor.getValue().getPageNumber()).isEqualTo(2);
+        assertThat(captor.getValue().getPageSize()).isEqualTo(5);
     }
 
     @Test
-    @DisplayName("GET /usuarios - Deve retornar lista vazia quando não há usuários")
-    void deveRetornar200ComListaVazia() throws Exception {
+    @DisplayName("GET /usuarios - Deve repassar ordenação por nome ao service")
+    void deveRepassarOrdenacaoPermitida() throws Exception {
         // Arrange
-        when(usuarioService.listarUsuarios()).thenReturn(List.of());
+        when(usuarioService.listarUsuarios(any(Pageable.class))).thenReturn(Page.empty());
 
         // Act & Assert
         mockMvc.perform(get("/usuarios")
+                        .with(comToken(usuarioId))
+                        .param("sort", "nome,desc")
                         .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(0)));
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(usuarioService).listarUsuarios(captor.capture());
+        assertThat(captor.getValue().getSort().getOrderFor("nome")).isEqualTo(Sort.Order.desc("nome"));
+    }
+
+    @Test
+    @DisplayName("GET /usuarios - Deve retornar 400 ao ordenar por propriedade fora da lista permitida")
+    void deveRetornar400AoOrdenarPorPropriedadeNaoPermitida() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/usuarios")
+                        .with(comToken(usuarioId))
+                        .param("sort", "senha")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/usuarios")
+                        .with(comToken(usuarioId))
+                        .param("sort", "tarefas.titulo")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
 
-        verify(usuarioService, times(1)).listarUsuarios();
+        verify(usuarioService, never()).listarUsuarios(any(Pageable.class));
     }
 
     // ==================== TESTES DE PUT /usuarios/{id} ====================
@@ -181,6 +255,7 @@ class UsuarioControllerTest {
 
         // Act & Assert
         mockMvc.perform(put("/usuarios/{id}", usuarioId)
+                        .with(comToken(usuarioId))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(atualizarUsuarioDto)))
                 .andExpect(status().isOk())
@@ -202,6 +277,7 @@ class UsuarioControllerTest {
         // Act & Assert
         try {
             mockMvc.perform(put("/usuarios/{id}", idInexistente)
+                    .with(comToken(idInexistente))
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(atualizarUsuarioDto)));
         } catch (Exception e) {
@@ -229,6 +305,7 @@ class UsuarioControllerTest {
 
         // Act & Assert
         mockMvc.perform(put("/usuarios/{id}", usuarioId)
+                        .with(comToken(usuarioId))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(dtoParcial)))
                 .andExpect(status().isOk())
@@ -246,7 +323,7 @@ class UsuarioControllerTest {
         doNothing().when(usuarioService).deletarUsuario(usuarioId);
 
         // Act & Assert
-        mockMvc.perform(delete("/usuarios/{id}", usuarioId))
+        mockMvc.perform(delete("/usuarios/{id}", usuarioId).with(comToken(usuarioId)))
                 .andExpect(status().isNoContent());
 
         verify(usuarioService, times(1)).deletarUsuario(usuarioId);
@@ -262,7 +339,7 @@ class UsuarioControllerTest {
 
         // Act & Assert
         try {
-            mockMvc.perform(delete("/usuarios/{id}", idInexistente));
+            mockMvc.perform(delete("/usuarios/{id}", idInexistente).with(comToken(idInexistente)));
         } catch (Exception e) {
             assertThat(e.getCause())
                     .isInstanceOf(RuntimeException.class)
@@ -294,22 +371,58 @@ class UsuarioControllerTest {
                 .usuario(usuario)
                 .build();
 
-        List<Tarefas> tarefas = Arrays.asList(tarefa1, tarefa2);
+        List<TarefaResumoDto> tarefas = Arrays.asList(TarefaResumoDto.de(tarefa1), TarefaResumoDto.de(tarefa2));
         when(usuarioService.listarTarefasDoUsuario(usuarioId)).thenReturn(tarefas);
 
         // Act & Assert
         mockMvc.perform(get("/usuarios/{id}/tarefas", usuarioId)
+                        .with(comToken(usuarioId))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].titulo").value("Tarefa 1"))
                 .andExpect(jsonPath("$[0].status").value("PENDENTE"))
                 .andExpect(jsonPath("$[1].titulo").value("Tarefa 2"))
-                .andExpect(jsonPath("$[1].status").value("CONCLUIDA"));
+                .andExpect(jsonPath("$[1].status").value("CONCLUIDA"))
+                .andExpect(jsonPath("$[0].usuarioId").value(usuarioId.toString()));
 
         verify(usuarioService, times(1)).listarTarefasDoUsuario(usuarioId);
     }
 
+    @Test
+    @DisplayName("GET /usuarios/{id}/tarefas - Deve devolver ETag calculado das versões das tarefas")
+    void deveRetornarEtagDasTarefasDoUsuario() throws Exception {
+        // Arrange
+        List<TarefaResumoDto> tarefas = List.of(
+                new TarefaResumoDto(UUID.randomUUID(), "Tarefa 1", null, Status.PENDENTE, usuarioId, 2L));
+        when(usuarioService.listarTarefasDoUsuario(usuarioId)).thenReturn(tarefas);
+
+        // Act & Assert
+        mockMvc.perform(get("/usuarios/{id}/tarefas", usuarioId).with(comToken(usuarioId)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Etags.dasTarefas(tarefas)))
+                .andExpect(jsonPath("$[0].versao").doesNotExist());
+
+        verify(usuarioService, never()).listarVersoesDasTarefasDoUsuario(any());
+    }
+
+    @Test
+    @DisplayName("GET /usuarios/{id}/tarefas - Deve retornar 304 sem buscar a lista quando o ETag não mudou")
+    void deveRetornar304QuandoTarefasDoUsuarioNaoMudaram() throws Exception {
+        // Arrange
+        List<VersaoTarefaDto> versoes = List.of(new VersaoTarefaDto(UUID.randomUUID(), 2L));
+        when(usuarioService.listarVersoesDasTarefasDoUsuario(usuarioId)).thenReturn(versoes);
+
+        // Act & Assert
+        mockMvc.perform(get("/usuarios/{id}/tarefas", usuarioId)
+                        .with(comToken(usuarioId))
+                        .header(HttpHeaders.IF_NONE_MATCH, Etags.dasVersoes(versoes)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(usuarioService, never()).listarTarefasDoUsuario(any());
+    }
+
     @Test
     @DisplayName("GET /usuarios/{id}/tarefas - Deve retornar lista vazia quando usuário não tem tarefas")
     void deveRetornar200ComListaVaziaDeTarefas() throws Exception {
@@ -318,6 +431,7 @@ class UsuarioControllerTest {
 
         // Act & Assert
         mockMvc.perform(get("/usuarios/{id}/tarefas", usuarioId)
+                        .with(comToken(usuarioId))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(0)));
@@ -335,6 +449,7 @@ class UsuarioControllerTest {
 
         // Act & Assert
         mockMvc.perform(get("/usuarios/{id}/tarefas", uuidValido)
+                        .with(comToken(uuid))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
 
@@ -343,11 +458,68 @@ class UsuarioControllerTest {
 
     // ==================== TESTES DE VALIDAÇÃO ====================
 
+    @Test
+    @DisplayName("GET /usuarios/{id}/tarefas/resumo - Deve devolver a contagem de tarefas por status")
+    void deveRetornarResumoDasTarefasDoUsuario() throws Exception {
+        // Arrange
+        when(usuarioService.resumoDasTarefasDoUsuario(usuarioId))
+                .thenReturn(new ResumoTarefasUsuarioDto(usuarioId, 3, 1, 2, 6));
+
+        // Act & Assert
+        mockMvc.perform(get("/usuarios/{id}/tarefas/resumo", usuarioId)
+                        .with(comToken(usuarioId))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usuarioId").value(usuarioId.toString()))
+                .andExpect(jsonPath("$.pendentes").value(3))
+                .andExpect(jsonPath("$.emAndamento").value(1))
+                .andExpect(jsonPath("$.concluidas").value(2))
+                .andExpect(jsonPath("$.total").value(6));
+    }
+
+    @Test
+    @DisplayName("GET /usuarios/{id}/tarefas/resumo - Deve retornar 404 quando usuário não existe")
+    void deveRetornar404NoResumoQuandoUsuarioNaoExiste() throws Exception {
+        // Arrange
+        when(usuarioService.resumoDasTarefasDoUsuario(usuarioId))
+                .thenThrow(new UsuarioNaoEncontradoException("Usuario não encontrado com ID"));
+
+        // Act & Assert
+        mockMvc.perform(get("/usuarios/{id}/tarefas/resumo", usuarioId)
+                        .with(comToken(usuarioId))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("PUT /usuarios/{id} - Deve retornar 403 quando o id não é o do usuário do token")
+    void deveRetornar403AoAtualizarOutroUsuario() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/usuarios/{id}", UUID.randomUUID())
+                        .with(comToken(usuarioId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(atualizarUsuarioDto)))
+                .andExpect(status().isForbidden());
+
+        verify(usuarioService, never()).atualizarUsuario(any(UUID.class), any(AtualizarUsuariosDto.class));
+    }
+
+    @Test
+    @DisplayName("GET /usuarios/{id}/tarefas - Deve retornar 403 quando o id não é o do usuário do token")
+    void deveRetornar403AoListarTarefasDeOutroUsuario() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/usuarios/{id}/tarefas", UUID.randomUUID()).with(comToken(usuarioId)))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(usuarioService);
+    }
+
     @Test
     @DisplayName("Deve rejeitar UUID inválido no path")
     void deveRejeitarUUIDInvalido() throws Exception {
         // Act & Assert
         mockMvc.perform(get("/usuarios/{id}/tarefas", "id-invalido")
+                        .with(comToken(usuarioId))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isBadRequest());
 
@@ -359,7 +531,12 @@ class UsuarioControllerTest {
     void deveRetornar404ParaRotaInexistente() throws Exception {
         // Act & Assert
         mockMvc.perform(get("/rota-completamente-inexistente")
+                        .with(comToken(usuarioId))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    private static RequestPostProcessor comToken(UUID usuarioId) {
+        return jwt().jwt(token -> token.subject(usuarioId.toString()));
+    }
+}
@@ -0,0 +1,391 @@
+package com.deigo.apiTarefas.Controller;
+
+import com.deigo.apiTarefas.Security.SecurityReativoConfigTest;
+import com.deigo.apiTarefas.controller.UsuarioReativoController;
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.VersaoTarefaDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.AtualizarUsuariosDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.CriarUsuariosDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.ResumoTarefasUsuarioDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.UsuarioResumoDto;
+import com.deigo.apiTarefas.infrastructure.entitys.UsuarioR2dbc;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.etag.Etags;
+import com.deigo.apiTarefas.infrastructure.exceptions.EmailJaCadastradoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.UsuarioNaoEncontradoException;
+import com.deigo.apiTarefas.service.UsuarioReativoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockJwt;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.springSecurity;
+
+@WebFluxTest(UsuarioReativoController.class)
+@ActiveProfiles({"test", "reativo"})
+@Import(SecurityReativoConfigTest.class)
+@DisplayName("Testes do UsuarioReativoController")
+class UsuarioReativoControllerTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @MockBean
+    private UsuarioReativoService usuarioService;
+
+    private WebTestClient webTestClient;
+    private UsuarioR2dbc usuario;
+    private CriarUsuariosDto criarUsuarioDto;
+    private AtualizarUsuariosDto atualizarUsuarioDto;
+    private UUID usuarioId;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToApplicationContext(context)
+                .apply(springSecurity())
+                .configureClient()
+                .build();
+
+        usuarioId = UUID.randomUUID();
+
+        usuario = UsuarioR2dbc.builder()
+                .id(usuarioId)
+                .nome("Usuario Teste")
+                .email("teste@exemplo.com")
+                .senha("senha123")
+                .versao(0L)
+                .build();
+
+        criarUsuarioDto = new CriarUsuariosDto(
+                "Usuario Teste",
+                "teste@exemplo.com",
+                "senha123"
+        );
+
+        atualizarUsuarioDto = new AtualizarUsuariosDto(
+                "Nome Atualizado",
+                "email@atualizado.com",
+                "novaSenha"
+        );
+    }
+
+    // ==================== TESTES DE POST /usuarios ====================
+
+    @Test
+    @DisplayName("POST /usuarios - Deve criar usuário com sucesso")
+    void deveRetornar200AoCriarUsuario() {
+        // Arrange
+        when(usuarioService.criarUsuario(any(CriarUsuariosDto.class))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        webTestClient.post().uri("/usuarios")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(criarUsuarioDto)
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(usuarioService, times(1)).criarUsuario(any(CriarUsuariosDto.class));
+    }
+
+    @Test
+    @DisplayName("POST /usuarios - Deve retornar 400 quando body é inválido")
+    void deveRetornar400QuandoBodyInvalido() {
+        // Act & Assert
+        webTestClient.post().uri("/usuarios")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{ invalid json }")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(usuarioService, never()).criarUsuario(any(CriarUsuariosDto.class));
+    }
+
+    @Test
+    @DisplayName("POST /usuarios - Deve retornar 409 quando email já existe")
+    void deveRetornar409QuandoEmailJaExiste() {
+        // Arrange
+        when(usuarioService.criarUsuario(any(CriarUsuariosDto.class)))
+                .thenReturn(Mono.error(new EmailJaCadastradoException()));
+
+        // Act & Assert
+        webTestClient.post().uri("/usuarios")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(criarUsuarioDto)
+                .exchange()
+                .expectStatus().isEqualTo(409);
+    }
+
+    // ==================== TESTES DE GET /usuarios ====================
+
+    @Test
+    @DisplayName("GET /usuarios - Deve listar resumo paginado dos usuários")
+    void deveRetornar200ComListaDeUsuarios() {
+        // Arrange
+        UsuarioResumoDto resumo1 = new UsuarioResumoDto(usuarioId, "Usuario Teste", "teste@exemplo.com", 2L, 1L, 3L);
+        UsuarioResumoDto resumo2 = new UsuarioResumoDto(UUID.randomUUID(), "Usuario 2", "usuario2@exemplo.com", 0L, 0L, 0L);
+        when(usuarioService.listarUsuarios(any(Pageable.class)))
+                .thenAnswer(invocation -> Mono.just(new PageImpl<>(List.of(resumo1, resumo2), invocation.getArgument(0), 2)));
+
+        // Act & Assert
+        comToken(usuarioId).get().uri("/usuarios")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .jsonPath("$.content[0].nome").isEqualTo("Usuario Teste")
+                .jsonPath("$.content[0].email").isEqualTo("teste@exemplo.com")
+                .jsonPath("$.content[0].pendentes").isEqualTo(2)
+                .jsonPath("$.content[0].emAndamento").isEqualTo(1)
+                .jsonPath("$.content[0].concluidas").isEqualTo(3)
+                .jsonPath("$.content[1].nome").isEqualTo("Usuario 2")
+                .jsonPath("$.page.totalElements").isEqualTo(2);
+
+        verify(usuarioService, times(1)).listarUsuarios(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("GET /usuarios - Deve repassar página, tamanho e ordenação ao service")
+    void deveRepassarPaginaTamanhoEOrdenacao() {
+        // Arrange
+        when(usuarioService.listarUsuarios(any(Pageable.class))).thenReturn(Mono.just(Page.empty()));
+
+        // Act & Assert
+        comToken(usuarioId).get().uri(uri -> uri.path("/usuarios")
+                        .queryParam("page", 2)
+                        .queryParam("size", 5)
+                        .queryParam("sort", "nome,desc")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(0);
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(usuarioService).listarUsuarios(captor.capture());
+        assertThat(captor.getValue().getPageNumber()).isEqualTo(2);
+        assertThat(captor.getValue().getPageSize()).isEqualTo(5);
+        assertThat(captor.getValue().getSort().getOrderFor("nome")).isEqualTo(Sort.Order.desc("nome"));
+    }
+
+    @Test
+    @DisplayName("GET /usuarios - Deve retornar 400 ao ordenar por propriedade fora da lista permitida")
+    void deveRetornar400AoOrdenarPorPropriedadeNaoPermitida() {
+        // Act & Assert
+        comToken(usuarioId).get().uri(uri -> uri.path("/usuarios").queryParam("sort", "senha").build())
+                .exchange()
+                .expectStatus().isBadRequest();
+        comToken(usuarioId).get().uri(uri -> uri.path("/usuarios").queryParam("sort", "tarefas.titulo").build())
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(usuarioService, never()).listarUsuarios(any(Pageable.class));
+    }
+
+    // ==================== TESTES DE PUT /usuarios/{id} ====================
+
+    @Test
+    @DisplayName("PUT /usuarios/{id} - Deve atualizar usuário com sucesso, sem expor a senha")
+    void deveRetornar200AoAtualizarUsuario() {
+        // Arrange
+        usuario.setNome("Nome Atualizado");
+        usuario.setEmail("email@atualizado.com");
+        when(usuarioService.atualizarUsuario(eq(usuarioId), any(AtualizarUsuariosDto.class)))
+                .thenReturn(Mono.just(usuario));
+
+        // Act & Assert
+        comToken(usuarioId).put().uri("/usuarios/{id}", usuarioId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(atualizarUsuarioDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(usuarioId.toString())
+                .jsonPath("$.nome").isEqualTo("Nome Atualizado")
+                .jsonPath("$.email").isEqualTo("email@atualizado.com")
+                .jsonPath("$.senha").doesNotExist();
+
+        verify(usuarioService, times(1)).atualizarUsuario(eq(usuarioId), any(AtualizarUsuariosDto.class));
+    }
+
+    @Test
+    @DisplayName("PUT /usuarios/{id} - Deve retornar 403 quando o id não é o do usuário do token")
+    void deveRetornar403AoAtualizarOutroUsuario() {
+        // Act & Assert
+        comToken(usuarioId).put().uri("/usuarios/{id}", UUID.randomUUID())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(atualizarUsuarioDto)
+                .exchange()
+                .expectStatus().isForbidden();
+
+        verify(usuarioService, never()).atualizarUsuario(any(UUID.class), any(AtualizarUsuariosDto.class));
+    }
+
+    // ==================== TESTES DE DELETE /usuarios/{id} ====================
+
+    @Test
+    @DisplayName("DELETE /usuarios/{id} - Deve deletar usuário com sucesso")
+    void deveRetornar204AoDeletarUsuario() {
+        // Arrange
+        when(usuarioService.deletarUsuario(usuarioId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        comToken(usuarioId).delete().uri("/usuarios/{id}", usuarioId)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        verify(usuarioService, times(1)).deletarUsuario(usuarioId);
+    }
+
+    // ==================== TESTES DE GET /usuarios/{id}/tarefas ====================
+
+    @Test
+    @DisplayName("GET /usuarios/{id}/tarefas - Deve listar tarefas do usuário com o ETag das versões")
+    void deveRetornar200ComTarefasDoUsuario() {
+        // Arrange
+        TarefaResumoDto tarefa1 = new TarefaResumoDto(UUID.randomUUID(), "Tarefa 1", "Descrição 1", Status.PENDENTE, usuarioId, 2L);
+        TarefaResumoDto tarefa2 = new TarefaResumoDto(UUID.randomUUID(), "Tarefa 2", "Descrição 2", Status.CONCLUIDA, usuarioId, 0L);
+        List<VersaoTarefaDto> versoes = List.of(new VersaoTarefaDto(tarefa1.id(), 2L), new VersaoTarefaDto(tarefa2.id(), 0L));
+        when(usuarioService.listarVersoesDasTarefasDoUsuario(usuarioId)).thenReturn(Flux.fromIterable(versoes));
+        when(usuarioService.listarTarefasDoUsuario(usuarioId)).thenReturn(Flux.just(tarefa1, tarefa2));
+
+        // Act & Assert
+        comToken(usuarioId).get().uri("/usuarios/{id}/tarefas", usuarioId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, Etags.dasVersoes(versoes))
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].titulo").isEqualTo("Tarefa 1")
+                .jsonPath("$[0].status").isEqualTo("PENDENTE")
+                .jsonPath("$[0].usuarioId").isEqualTo(usuarioId.toString())
+                .jsonPath("$[0].versao").doesNotExist()
+                .jsonPath("$[1].titulo").isEqualTo("Tarefa 2")
+                .jsonPath("$[1].status").isEqualTo("CONCLUIDA");
+    }
+
+    @Test
+    @DisplayName("GET /usuarios/{id}/tarefas - Deve retornar 304 sem ler a lista quando o ETag não mudou")
+    void deveRetornar304QuandoTarefasDoUsuarioNaoMudaram() {
+        // Arrange
+        List<VersaoTarefaDto> versoes = List.of(new VersaoTarefaDto(UUID.randomUUID(), 2L));
+        when(usuarioService.listarVersoesDasTarefasDoUsuario(usuarioId)).thenReturn(Flux.fromIterable(versoes));
+        when(usuarioService.listarTarefasDoUsuario(usuarioId))
+                .thenReturn(Flux.error(new IllegalStateException("a lista não deveria ser lida num 304")));
+
+        // Act & Assert
+        comToken(usuarioId).get().uri("/usuarios/{id}/tarefas", usuarioId)
+                .header(HttpHeaders.IF_NONE_MATCH, Etags.dasVersoes(versoes))
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    @DisplayName("GET /usuarios/{id}/tarefas - Deve retornar lista vazia quando usuário não tem tarefas")
+    void deveRetornar200ComListaVaziaDeTarefas() {
+        // Arrange
+        when(usuarioService.listarVersoesDasTarefasDoUsuario(usuarioId)).thenReturn(Flux.empty());
+        when(usuarioService.listarTarefasDoUsuario(usuarioId)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        comToken(usuarioId).get().uri("/usuarios/{id}/tarefas", usuarioId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("GET /usuarios/{id}/tarefas - Deve retornar 403 quando o id não é o do usuário do token")
+    void deveRetornar403AoListarTarefasDeOutroUsuario() {
+        // Act & Assert
+        comToken(usuarioId).get().uri("/usuarios/{id}/tarefas", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isForbidden();
+
+        verifyNoInteractions(usuarioService);
+    }
+
+    // ==================== TESTES DE GET /usuarios/{id}/tarefas/resumo ====================
+
+    @Test
+    @DisplayName("GET /usuarios/{id}/tarefas/resumo - Deve devolver a contagem de tarefas por status")
+    void deveRetornarResumoDasTarefasDoUsuario() {
+        // Arrange
+        when(usuarioService.resumoDasTarefasDoUsuario(usuarioId))
+                .thenReturn(Mono.just(new ResumoTarefasUsuarioDto(usuarioId, 3, 1, 2, 6)));
+
+        // Act & Assert
+        comToken(usuarioId).get().uri("/usuarios/{id}/tarefas/resumo", usuarioId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.usuarioId").isEqualTo(usuarioId.toString())
+                .jsonPath("$.pendentes").isEqualTo(3)
+                .jsonPath("$.emAndamento").isEqualTo(1)
+                .jsonPath("$.concluidas").isEqualTo(2)
+                .jsonPath("$.total").isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("GET /usuarios/{id}/tarefas/resumo - Deve retornar 404 quando usuário não existe")
+    void deveRetornar404NoResumoQuandoUsuarioNaoExiste() {
+        // Arrange
+        when(usuarioService.resumoDasTarefasDoUsuario(usuarioId))
+                .thenReturn(Mono.error(new UsuarioNaoEncontradoException("Usuario não encontrado com ID")));
+
+        // Act & Assert
+        comToken(usuarioId).get().uri("/usuarios/{id}/tarefas/resumo", usuarioId)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    // ==================== TESTES DE VALIDAÇÃO ====================
+
+    @Test
+    @DisplayName("Deve rejeitar UUID inválido no path")
+    void deveRejeitarUUIDInvalido() {
+        // Act & Assert
+        comToken(usuarioId).get().uri("/usuarios/{id}/tarefas", "id-invalido")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(usuarioService);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 para rota inexistente")
+    void deveRetornar404ParaRotaInexistente() {
+        // Act & Assert
+        comToken(usuarioId).get().uri("/rota-completamente-inexistente")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private WebTestClient comToken(UUID usuarioId) {
+        return webTestClient.mutateWith(mockJwt().jwt(token -> token.subject(usuarioId.toString())));
+    }
+}
@@ -0,0 +1,142 @@
+package com.deigo.apiTarefas.Repository;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.ContagemStatusDto;
+import com.deigo.apiTarefas.infrastructure.entitys.ContadorTarefas;
+import com.deigo.apiTarefas.infrastructure.entitys.ContadorTarefasId;
+import com.deigo.apiTarefas.infrastructure.entitys.Tarefas;
+import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.repository.ContadorTarefasRepository;
+import com.deigo.apiTarefas.infrastructure.repository.TarefasRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.test.database.replace=any",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@DisplayName("Testes do ContadorTarefasRepository")
+class ContadorTarefasRepositoryTest {
+
+    @Autowired
+    private ContadorTarefasRepository contadorRepository;
+
+    @Autowired
+    private TarefasRepository tarefasRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        usuario = new Usuario();
+        usuario.setEmail("contador@teste.com");
+        usuario.setNome("Usuario Contador");
+        usuario.setSenha("senha123");
+        usuario = entityManager.persistAndFlush(usuario);
+
+        for (Status status : Status.values()) {
+            entityManager.persist(new ContadorTarefas(new ContadorTarefasId(usuario.getId(), status), 0));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve somar o delta apenas no contador do usuário e status informados")
+    void deveSomarDeltaNoContador() {
+        // Act
+        int alterados = contadorRepository.somar(usuario.getId(), Status.PENDENTE, 3);
+        contadorRepository.somar(usuario.getId(), Status.PENDENTE, -1);
+        entityManager.clear();
+
+        // Assert
+        assertThat(alterados).isEqualTo(1);
+        assertThat(contadorRepository.findByIdUsuarioId(usuario.getId()))
+                .extracting(c -> c.getId().getStatus(), ContadorTarefas::getQuantidade)
+                .containsExactlyInAnyOrder(
+                        tuple(Status.PENDENTE, 2L),
+                        tuple(Status.EM_ANDAMENTO, 0L),
+                        tuple(Status.CONCLUIDA, 0L));
+    }
+
+    @Test
+    @DisplayName("Deve contar as tarefas por status para a reconciliação")
+    void deveContarTarefasPorStatusDosUsuarios() {
+        // Arrange
+        Usuario dono = entityManager.find(Usuario.class, usuario.getId());
+        for (Status status : List.of(Status.PENDENTE, Status.PENDENTE, Status.CONCLUIDA)) {
+            Tarefas tarefa = new Tarefas();
+            tarefa.setTitulo("Tarefa " + status);
+            tarefa.setStatus(status);
+            tarefa.setUsuario(dono);
+            entityManager.persist(tarefa);
+        }
+        entityManager.flush();
+
+        // Act
+        List<ContagemStatusDto> contagens = tarefasRepository.contarPorStatusDosUsuarios(List.of(usuario.getId()));
+
+        // Assert
+        assertThat(contagens).containsExactlyInAnyOrder(
+                new ContagemStatusDto(usuario.getId(), Status.PENDENTE, 2L),
+                new ContagemStatusDto(usuario.getId(), Status.CONCLUIDA, 1L));
+    }
+
+    @Test
+    @DisplayName("Deve travar os contadores na mesma ordem em que o serviço aplica os deltas")
+    void deveTravarNaOrdemDeContadorTarefasId() {
+        // Arrange: ids cujo sinal do long inverteria a ordem de UUID.compareTo
+        List<UUID> ids = List.of(new UUID(0x8000000000000000L, 1), new UUID(1, 0xFFFFFFFFFFFFFFFFL), new UUID(1, 2));
+        for (UUID id : ids) {
+            entityManager.getEntityManager()
+                    .createNativeQuery("insert into usuario (id, nome, email, senha, versao) values (?, ?, ?, ?, 0)")
+                    .setParameter(1, id)
+                    .setParameter(2, "Usuario " + id)
+                    .setParameter(3, id + "@teste.com")
+                    .setParameter(4, "senha123")
+                    .executeUpdate();
+            for (Status status : Status.values()) {
+                entityManager.persist(new ContadorTarefas(new ContadorTarefasId(id, status), 0));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<ContadorTarefasId> travados = contadorRepository.travarDosUsuarios(ids).stream()
+                .map(ContadorTarefas::getId)
+                .toList();
+
+        // Assert
+        assertThat(travados).hasSize(ids.size() * Status.values().length).isSorted();
+    }
+
+    @Test
+    @DisplayName("Deve apagar os contadores junto com o usuário")
+    void deveApagarContadoresComUsuario() {
+        // Act
+        entityManager.remove(entityManager.find(Usuario.class, usuario.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        assertThat(contadorRepository.findByIdUsuarioId(usuario.getId())).isEmpty();
+    }
+}
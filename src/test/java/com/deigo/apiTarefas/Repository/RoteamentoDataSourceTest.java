@@ -0,0 +1,130 @@
+package com.deigo.apiTarefas.Repository;
+
+import com.deigo.apiTarefas.infrastructure.datasource.LeituraAposEscrita;
+import com.deigo.apiTarefas.infrastructure.datasource.RoteamentoDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes do RoteamentoDataSource")
+class RoteamentoDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate leitura;
+    private TransactionTemplate escrita;
+
+    @BeforeEach
+    void setUp() {
+        // Dois H2 independentes; cada um se identifica pela tabela origem
+        String sufixo = UUID.randomUUID().toString();
+        DataSource primario = banco("primario-" + sufixo, "primario");
+        DataSource replica = banco("replica-" + sufixo, "replica");
+
+        RoteamentoDataSource roteamento = new RoteamentoDataSource(List.of("replica-0"),
+                new LeituraAposEscrita(Duration.ofSeconds(5)));
+        roteamento.setTargetDataSources(Map.of(RoteamentoDataSource.PRIMARIO, primario, "replica-0", replica));
+        roteamento.setDefaultTargetDataSource(primario);
+        roteamento.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(roteamento);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+        escrita = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Deve enviar transação somente leitura para a réplica")
+    void deveEnviarLeituraParaReplica() {
+        // Act
+        String origem = leitura.execute(status -> origem());
+
+        // Assert
+        assertThat(origem).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Deve manter transação de escrita no primário")
+    void deveManterEscritaNoPrimario() {
+        // Act
+        String origem = escrita.execute(status -> origem());
+
+        // Assert
+        assertThat(origem).isEqualTo("primario");
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário logo depois de o mesmo cliente escrever")
+    void deveLerDoPrimarioAposEscritaDoMesmoCliente() {
+        // Arrange
+        requisicaoDe("10.0.0.1");
+        escrita.executeWithoutResult(status -> jdbcTemplate.update("update origem set nome = nome"));
+
+        // Act
+        String origemMesmoCliente = leitura.execute(status -> origem());
+        requisicaoDe("10.0.0.2");
+        String origemOutroCliente = leitura.execute(status -> origem());
+
+        // Assert
+        assertThat(origemMesmoCliente).isEqualTo("primario");
+        assertThat(origemOutroCliente).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Não deve ler do primário depois de uma escrita desfeita")
+    void naoDeveFixarPrimarioAposRollback() {
+        // Arrange
+        requisicaoDe("10.0.0.1");
+        escrita.executeWithoutResult(status -> {
+            jdbcTemplate.update("update origem set nome = nome");
+            status.setRollbackOnly();
+        });
+
+        // Act
+        String origem = leitura.execute(status -> origem());
+
+        // Assert
+        assertThat(origem).isEqualTo("replica");
+    }
+
+    private String origem() {
+        return jdbcTemplate.queryForObject("select nome from origem", String.class);
+    }
+
+    private static void requisicaoDe(String enderecoRemoto) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(enderecoRemoto);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static DataSource banco(String nomeBanco, String origem) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + nomeBanco + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table origem (nome varchar(20))");
+        jdbc.update("insert into origem values (?)", origem);
+        return dataSource;
+    }
+}
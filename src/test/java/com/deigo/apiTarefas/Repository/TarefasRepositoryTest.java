@@ -1,6 +1,7 @@
 package com.deigo.apiTarefas.Repository;
 
 
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
 import com.deigo.apiTarefas.infrastructure.entitys.Tarefas;
 import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
 import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
@@ -13,19 +14,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.TestPropertySource;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
 @TestPropertySource(properties = {
         "spring.test.database.replace=any",
-        "spring.jpa.hibernate.ddl-auto=create-drop"
+        "spring.jpa.hibernate.ddl-auto=validate"
 })
 @DisplayName("Testes do TarefasRepository")
 public class TarefasRepositoryTest {
@@ -154,6 +159,24 @@ public class TarefasRepositoryTest {
         entityManager.flush();
     }
 
+    @Test
+    @DisplayName("Deve gerar IDs UUIDv7 crescentes na ordem de inserção")
+    void deveGerarIdsUuidV7Crescentes() {
+        // Arrange
+        Usuario usuario = entityManager.persistAndFlush(usuarioTest);
+        Tarefas primeira = Tarefas.builder().titulo("Primeira").status(Status.PENDENTE).usuario(usuario).build();
+        Tarefas segunda = Tarefas.builder().titulo("Segunda").status(Status.PENDENTE).usuario(usuario).build();
+
+        // Act
+        entityManager.persistAndFlush(primeira);
+        entityManager.persistAndFlush(segunda);
+
+        // Assert
+        assertThat(usuario.getId().version()).isEqualTo(7);
+        assertThat(primeira.getId().version()).isEqualTo(7);
+        assertThat(segunda.getId()).isGreaterThan(primeira.getId());
+    }
+
     @Test
     @DisplayName("Deve encontrar tarefa por ID do usuário quando existir")
     void deveFindByUsuarioIdQuandoTarefaExistir () {
@@ -312,4 +335,242 @@ public class TarefasRepositoryTest {
         assertThat(resultado.get().getStatus()).isEqualTo(Status.EM_ANDAMENTO);
         assertThat(resultado.get().getUsuario().getId()).isEqualTo(usuario.getId());
     }
+
+    @Test
+    @DisplayName("Deve paginar as tarefas do usuário por keyset sem repetir nem pular registros")
+    void devePaginarPorKeyset() {
+        // Arrange
+        Usuario usuario = entityManager.persistAndFlush(usuarioTest);
+        tarefasTest.setUsuario(entityManager.persist(outroUsuario()));
+        entityManager.persist(tarefasTest);
+        for (int i = 0; i < 5; i++) {
+            Tarefas tarefa = new Tarefas();
+            tarefa.setTitulo("Tarefa " + i);
+            tarefa.setStatus(Status.PENDENTE);
+            tarefa.setUsuario(usuario);
+            entityManager.persist(tarefa);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<TarefaResumoDto> primeiraPagina = tarefasRepository.findResumosDoUsuario(usuario.getId(), Limit.of(3));
+        List<TarefaResumoDto> segundaPagina = tarefasRepository.findResumosDoUsuarioApos(
+                usuario.getId(), primeiraPagina.get(2).id(), Limit.of(3));
+
+        // Assert
+        assertThat(primeiraPagina).hasSize(3);
+        assertThat(segundaPagina).hasSize(2);
+        assertThat(primeiraPagina).extracting(TarefaResumoDto::id)
+                .doesNotContainAnyElementsOf(segundaPagina.stream().map(TarefaResumoDto::id).toList());
+        assertThat(primeiraPagina).allMatch(resumo -> usuario.getId().equals(resumo.usuarioId()));
+        assertThat(segundaPagina).allMatch(resumo -> usuario.getId().equals(resumo.usuarioId()));
+    }
+
+    @Test
+    @DisplayName("Deve percorrer por stream só as tarefas do usuário, com o usuário já carregado")
+    void deveStreamByUsuarioIdComUsuario() {
+        // Arrange
+        Usuario usuario = entityManager.persistAndFlush(usuarioTest);
+        tarefasTest.setUsuario(usuario);
+        entityManager.persist(tarefasTest);
+
+        Tarefas deOutro = new Tarefas();
+        deOutro.setTitulo("De outro usuário");
+        deOutro.setUsuario(entityManager.persist(outroUsuario()));
+        entityManager.persistAndFlush(deOutro);
+        entityManager.clear();
+
+        // Act
+        List<Tarefas> resultado;
+        try (Stream<Tarefas> stream = tarefasRepository.streamByUsuarioId(usuario.getId())) {
+            resultado = stream.toList();
+        }
+
+        // Assert
+        assertThat(resultado).hasSize(1);
+        assertThat(resultado.get(0).getUsuario().getId()).isEqualTo(usuario.getId());
+    }
+
+    @Test
+    @DisplayName("Deve projetar tarefa por ID com o ID do usuário")
+    void deveFindResumoByIdComUsuarioId() {
+        // Arrange
+        Usuario usuario = entityManager.persistAndFlush(usuarioTest);
+        tarefasTest.setUsuario(usuario);
+        Tarefas tarefaSalva = entityManager.persistAndFlush(tarefasTest);
+        entityManager.clear();
+
+        // Act
+        Optional<TarefaResumoDto> resultado = tarefasRepository.findResumoById(tarefaSalva.getId());
+
+        // Assert
+        assertThat(resultado).contains(new TarefaResumoDto(
+                tarefaSalva.getId(), "Titulo Teste", "Testando tarefas", Status.PENDENTE, usuario.getId(), 0L));
+    }
+
+    @Test
+    @DisplayName("Deve projetar apenas as tarefas do usuário informado")
+    void deveFindResumosByUsuarioId() {
+        // Arrange
+        Usuario usuario = entityManager.persistAndFlush(usuarioTest);
+        tarefasTest.setUsuario(usuario);
+        entityManager.persistAndFlush(tarefasTest);
+        entityManager.clear();
+
+        // Act
+        List<TarefaResumoDto> resultado = tarefasRepository.findResumosByUsuarioId(usuario.getId());
+        List<TarefaResumoDto> vazio = tarefasRepository.findResumosByUsuarioId(UUID.randomUUID());
+
+        // Assert
+        assertThat(resultado).extracting(TarefaResumoDto::titulo).containsExactly("Titulo Teste");
+        assertThat(vazio).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve mudar o status em massa apenas das tarefas do filtro")
+    void deveAtualizarStatusDoUsuarioEmMassa() {
+        // Arrange
+        Usuario usuario = entityManager.persistAndFlush(usuarioTest);
+        Tarefas emAndamento = new Tarefas();
+        emAndamento.setTitulo("Em andamento");
+        emAndamento.setStatus(Status.EM_ANDAMENTO);
+        emAndamento.setUsuario(usuario);
+        entityManager.persist(emAndamento);
+
+        tarefasTest.setUsuario(usuario);
+        entityManager.persist(tarefasTest);
+        entityManager.flush();
+
+        // Act
+        int atualizadas = tarefasRepository.atualizarStatusDoUsuario(usuario.getId(), Status.EM_ANDAMENTO, Status.CONCLUIDA);
+
+        // Assert
+        assertThat(atualizadas).isEqualTo(1);
+        assertThat(tarefasRepository.findById(emAndamento.getId()).get().getStatus()).isEqualTo(Status.CONCLUIDA);
+        assertThat(tarefasRepository.findById(tarefasTest.getId()).get().getStatus()).isEqualTo(Status.PENDENTE);
+    }
+
+    @Test
+    @DisplayName("Deve mudar o status em massa pelos IDs do usuário ignorando as que já estão no status")
+    void deveAtualizarStatusPorIdsEmMassa() {
+        // Arrange
+        Usuario usuario = entityManager.persistAndFlush(usuarioTest);
+        Tarefas concluida = new Tarefas();
+        concluida.setTitulo("Concluida");
+        concluida.setStatus(Status.CONCLUIDA);
+        concluida.setUsuario(usuario);
+        entityManager.persist(concluida);
+
+        tarefasTest.setUsuario(usuario);
+        entityManager.persist(tarefasTest);
+
+        Tarefas deOutro = new Tarefas();
+        deOutro.setTitulo("De outro usuário");
+        deOutro.setStatus(Status.PENDENTE);
+        deOutro.setUsuario(entityManager.persist(outroUsuario()));
+        entityManager.persist(deOutro);
+        entityManager.flush();
+
+        // Act
+        int atualizadas = tarefasRepository.atualizarStatusPorIds(usuario.getId(),
+                List.of(concluida.getId(), tarefasTest.getId(), deOutro.getId()), Status.CONCLUIDA);
+
+        // Assert
+        assertThat(atualizadas).isEqualTo(1);
+        assertThat(tarefasRepository.findById(deOutro.getId()).get().getStatus()).isEqualTo(Status.PENDENTE);
+        Tarefas atualizada = tarefasRepository.findById(tarefasTest.getId()).get();
+        assertThat(atualizada.getStatus()).isEqualTo(Status.CONCLUIDA);
+        assertThat(atualizada.getVersao()).isEqualTo(1L);
+        assertThat(tarefasRepository.findById(concluida.getId()).get().getVersao()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve travar e devolver o status das tarefas que a transição em massa vai mover")
+    void deveTravarStatusDaTransicao() {
+        // Arrange
+        Usuario usuario = entityManager.persistAndFlush(usuarioTest);
+        Tarefas concluida = new Tarefas();
+        concluida.setTitulo("Concluida");
+        concluida.setStatus(Status.CONCLUIDA);
+        concluida.setUsuario(usuario);
+        entityManager.persist(concluida);
+
+        tarefasTest.setUsuario(usuario);
+        entityManager.persist(tarefasTest);
+
+        Tarefas deOutro = new Tarefas();
+        deOutro.setTitulo("De outro usuário");
+        deOutro.setStatus(Status.PENDENTE);
+        deOutro.setUsuario(entityManager.persist(outroUsuario()));
+        entityManager.persist(deOutro);
+        entityManager.flush();
+
+        // Act
+        List<Status> porIds = tarefasRepository.travarTransicaoPorIds(usuario.getId(),
+                List.of(concluida.getId(), tarefasTest.getId(), deOutro.getId()), Status.CONCLUIDA);
+        List<Status> doUsuario = tarefasRepository.travarTransicaoDoUsuario(usuario.getId(), null, Status.EM_ANDAMENTO);
+
+        // Assert
+        assertThat(porIds).containsExactly(Status.PENDENTE);
+        assertThat(doUsuario).containsExactlyInAnyOrder(Status.PENDENTE, Status.CONCLUIDA);
+    }
+
+    @Test
+    @DisplayName("Deve buscar tarefas do usuário por texto no título ou na descrição filtrando por status")
+    void deveBuscarPorTextoFiltrandoPorStatus() {
+        // Arrange
+        Usuario usuario = entityManager.persistAndFlush(usuarioTest);
+        tarefasTest.setUsuario(usuario);
+        entityManager.persist(tarefasTest);
+
+        Tarefas outra = new Tarefas();
+        outra.setTitulo("Comprar pão");
+        outra.setDescricao("Padaria da esquina");
+        outra.setStatus(Status.PENDENTE);
+        outra.setUsuario(usuario);
+        entityManager.persist(outra);
+
+        Tarefas concluida = new Tarefas();
+        concluida.setTitulo("Relatório");
+        concluida.setDescricao("Revisar tarefas do mês");
+        concluida.setStatus(Status.CONCLUIDA);
+        concluida.setUsuario(usuario);
+        entityManager.persist(concluida);
+
+        Tarefas deOutro = new Tarefas();
+        deOutro.setTitulo("Tarefas de outro usuário");
+        deOutro.setStatus(Status.PENDENTE);
+        deOutro.setUsuario(entityManager.persist(outroUsuario()));
+        entityManager.persist(deOutro);
+        entityManager.flush();
+
+        // Act
+        List<TarefaResumoDto> todas = tarefasRepository.buscarPorTexto("TAREFAS", usuario.getId(), null, Limit.of(10));
+        List<TarefaResumoDto> pendentes = tarefasRepository.buscarPorTexto("tarefas", usuario.getId(), Status.PENDENTE, Limit.of(10));
+
+        // Assert
+        assertThat(todas).extracting(TarefaResumoDto::id)
+                .containsExactlyInAnyOrder(tarefasTest.getId(), concluida.getId());
+        assertThat(pendentes).extracting(TarefaResumoDto::id).containsExactly(tarefasTest.getId());
+    }
+
+    @Test
+    @DisplayName("Deve recusar pela FK tarefa com referência a usuário inexistente")
+    void deveRecusarTarefaComUsuarioInexistente() {
+        // Arrange
+        tarefasTest.setUsuario(usuarioRepository.getReferenceById(UUID.randomUUID()));
+
+        // Act & Assert
+        assertThatThrownBy(() -> tarefasRepository.saveAndFlush(tarefasTest))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private Usuario outroUsuario() {
+        Usuario outro = new Usuario();
+        outro.setEmail("outro@teste.com");
+        outro.setNome("Outro Usuario");
+        outro.setSenha("senha123");
+        return outro;
+    }
 }
@@ -1,7 +1,13 @@
 package com.deigo.apiTarefas.Repository;
 
+import com.deigo.apiTarefas.controller.dtoUsuarios.UsuarioResumoDto;
+import com.deigo.apiTarefas.infrastructure.entitys.Tarefas;
 import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
 import com.deigo.apiTarefas.infrastructure.repository.UsuarioRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,18 +15,25 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
 @TestPropertySource(properties = {
         "spring.test.database.replace=any",
-        "spring.jpa.hibernate.ddl-auto=create-drop"
+        "spring.jpa.hibernate.ddl-auto=validate"
 })
 @DisplayName("Testes do UsuarioRepository")
 class UsuarioRepositoryTest {
@@ -31,6 +44,9 @@ class UsuarioRepositoryTest {
     @Autowired
     private TestEntityManager entityManager;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private Usuario usuarioTeste;
 
     @BeforeEach
@@ -63,6 +79,29 @@ class UsuarioRepositoryTest {
         assertThat(resultado.get().getEmail()).isEqualTo("teste@exemplo.com");
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Deve servir buscas repetidas por ID do cache de segundo nível")
+    void deveBuscarUsuarioDoCacheDeSegundoNivel() {
+        // Arrange
+        UUID id = usuarioRepository.save(usuarioTeste).getId();
+        CacheRegionStatistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getDomainDataRegionStatistics(Usuario.class.getName());
+        long acertosAntes = estatisticas.getHitCount();
+
+        try {
+            // Act
+            usuarioRepository.findById(id);
+            Optional<Usuario> resultado = usuarioRepository.findById(id);
+
+            // Assert
+            assertThat(resultado).isPresent();
+            assertThat(estatisticas.getHitCount() - acertosAntes).isPositive();
+        } finally {
+            usuarioRepository.deleteById(id);
+        }
+    }
+
     @Test
     @DisplayName("Deve retornar Optional vazio quando usuário não existir por ID")
     void deveFindByIdRetornarVazioQuandoNaoExistir() {
@@ -140,12 +179,12 @@ class UsuarioRepositoryTest {
         String email = "teste@exemplo.com";
 
         // Act
-        Optional<Object> resultado = usuarioRepository.findByEmail(email);
+        Optional<Usuario> resultado = usuarioRepository.findByEmail(email);
 
         // Assert
         assertThat(resultado).isPresent();
         assertThat(resultado.get()).isInstanceOf(Usuario.class);
-        Usuario usuario = (Usuario) resultado.get();
+        Usuario usuario = resultado.get();
         assertThat(usuario.getEmail()).isEqualTo(email);
     }
 
@@ -156,7 +195,7 @@ class UsuarioRepositoryTest {
         String emailInexistente = "inexistente@exemplo.com";
 
         // Act
-        Optional<Object> resultado = usuarioRepository.findByEmail(emailInexistente);
+        Optional<Usuario> resultado = usuarioRepository.findByEmail(emailInexistente);
 
         // Assert
         assertThat(resultado).isEmpty();
@@ -170,7 +209,7 @@ class UsuarioRepositoryTest {
         entityManager.clear();
 
         // Act
-        Optional<Object> resultado = usuarioRepository.findByEmail("teste@exemplo.com");
+        Optional<Usuario> resultado = usuarioRepository.findByEmail("teste@exemplo.com");
 
         // Assert
         assertThat(resultado).isPresent();
@@ -214,7 +253,70 @@ class UsuarioRepositoryTest {
         entityManager.persistAndFlush(usuario1);
 
         // Assert
-        Optional<Object> resultado = usuarioRepository.findByEmail("duplicado@exemplo.com");
+        Optional<Usuario> resultado = usuarioRepository.findByEmail("duplicado@exemplo.com");
         assertThat(resultado).isPresent();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve resumir usuários com contagem de tarefas por status")
+    void deveFindResumosComContagemPorStatus() {
+        // Arrange
+        Usuario comTarefas = entityManager.persistAndFlush(usuarioTeste);
+        for (Status status : new Status[]{Status.PENDENTE, Status.PENDENTE, Status.CONCLUIDA}) {
+            Tarefas tarefa = new Tarefas();
+            tarefa.setTitulo("Tarefa " + status);
+            tarefa.setStatus(status);
+            tarefa.setUsuario(comTarefas);
+            entityManager.persist(tarefa);
+        }
+
+        Usuario semTarefas = new Usuario();
+        semTarefas.setEmail("semtarefas@exemplo.com");
+        semTarefas.setNome("Sem Tarefas");
+        semTarefas.setSenha("senha");
+        entityManager.persistAndFlush(semTarefas);
+        entityManager.clear();
+
+        // Act
+        Page<UsuarioResumoDto> resultado = usuarioRepository.findResumos(PageRequest.of(0, 10, Sort.by("email")));
+
+        // Assert
+        assertThat(resultado.getTotalElements()).isEqualTo(2);
+        assertThat(resultado.getContent()).containsExactly(
+                new UsuarioResumoDto(semTarefas.getId(), "Sem Tarefas", "semtarefas@exemplo.com", 0L, 0L, 0L),
+                new UsuarioResumoDto(comTarefas.getId(), "Usuario Teste", "teste@exemplo.com", 2L, 0L, 1L));
+    }
+
+    @Test
+    @DisplayName("Deve recusar pelo índice único um segundo usuário com o mesmo email")
+    void deveRecusarEmailDuplicadoPeloIndiceUnico() {
+        // Arrange
+        usuarioRepository.saveAndFlush(usuarioTeste);
+
+        Usuario duplicado = new Usuario();
+        duplicado.setEmail("teste@exemplo.com");
+        duplicado.setNome("Outro");
+        duplicado.setSenha("senha");
+
+        // Act & Assert
+        assertThatThrownBy(() -> usuarioRepository.saveAndFlush(duplicado))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("Deve trocar a senha só quando a atual ainda é a informada")
+    void deveAtualizarSenhaSoComASenhaAtualEsperada() {
+        // Arrange
+        UUID id = entityManager.persistAndFlush(usuarioTeste).getId();
+        entityManager.clear();
+
+        // Act
+        int desatualizada = usuarioRepository.atualizarSenha(id, "outra", "$2a$12$hash");
+        int atualizada = usuarioRepository.atualizarSenha(id, "senha123", "$2a$12$hash");
+
+        // Assert
+        assertThat(desatualizada).isZero();
+        assertThat(atualizada).isEqualTo(1);
+        assertThat(usuarioRepository.findById(id)).get().extracting(Usuario::getSenha).isEqualTo("$2a$12$hash");
+    }
+}
@@ -0,0 +1,46 @@
+package com.deigo.apiTarefas.Security;
+
+import com.deigo.apiTarefas.infrastructure.Security.JwtConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes do JwtConfig")
+class JwtConfigTest {
+
+    private final ApplicationContextRunner contexto = new ApplicationContextRunner()
+            .withUserConfiguration(JwtConfig.class);
+
+    @Test
+    @DisplayName("Não deve subir sem segredo JWT configurado")
+    void naoDeveSubirSemSegredo() {
+        // Act & Assert
+        contexto.run(aplicacao -> assertThat(aplicacao)
+                .hasFailed()
+                .getFailure()
+                .hasRootCauseInstanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    @DisplayName("Não deve subir com segredo JWT menor que 32 bytes")
+    void naoDeveSubirComSegredoCurto() {
+        // Act & Assert
+        contexto.withPropertyValues("apitarefas.jwt.segredo=curto-demais")
+                .run(aplicacao -> assertThat(aplicacao).hasFailed());
+    }
+
+    @Test
+    @DisplayName("Deve criar encoder e decoder com segredo de pelo menos 32 bytes")
+    void deveSubirComSegredoValido() {
+        // Act & Assert
+        contexto.withPropertyValues("apitarefas.jwt.segredo=segredo-dos-testes-com-mais-de-32-bytes")
+                .run(aplicacao -> assertThat(aplicacao)
+                        .hasNotFailed()
+                        .hasSingleBean(JwtEncoder.class)
+                        .hasSingleBean(JwtDecoder.class));
+    }
+}
@@ -0,0 +1,89 @@
+package com.deigo.apiTarefas.Security;
+
+import com.deigo.apiTarefas.infrastructure.Security.JwtDecoderComCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do JwtDecoderComCache")
+class JwtDecoderComCacheTest {
+
+    @Mock
+    private JwtDecoder delegado;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private JwtDecoderComCache decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new JwtDecoderComCache(delegado, 100, registry);
+    }
+
+    @Test
+    @DisplayName("Deve verificar a assinatura só na primeira vez que o token aparece")
+    void deveVerificarUmaVezPorToken() {
+        // Arrange
+        Jwt jwt = jwtQueExpiraEm(Instant.now().plusSeconds(3600));
+        when(delegado.decode("token")).thenReturn(jwt);
+
+        // Act
+        decoder.decode("token");
+        Jwt resultado = decoder.decode("token");
+
+        // Assert
+        assertThat(resultado).isSameAs(jwt);
+        verify(delegado, times(1)).decode("token");
+        assertThat(registry.get("cache.gets").tag("cache", "jwt.verificados").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Não deve servir do cache um token que já expirou")
+    void naoDeveServirTokenExpirado() {
+        // Arrange
+        Jwt expirado = jwtQueExpiraEm(Instant.now().minusSeconds(1));
+        when(delegado.decode("token")).thenReturn(expirado);
+
+        // Act
+        decoder.decode("token");
+        decoder.decode("token");
+
+        // Assert
+        verify(delegado, times(2)).decode("token");
+    }
+
+    @Test
+    @DisplayName("Não deve guardar token recusado pelo decoder")
+    void naoDeveGuardarTokenRecusado() {
+        // Arrange
+        when(delegado.decode("adulterado")).thenThrow(new BadJwtException("assinatura inválida"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> decoder.decode("adulterado")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("adulterado")).isInstanceOf(BadJwtException.class);
+        verify(delegado, times(2)).decode("adulterado");
+    }
+
+    private static Jwt jwtQueExpiraEm(Instant exp) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject("usuario")
+                .issuedAt(exp.minusSeconds(3600))
+                .expiresAt(exp)
+                .build();
+    }
+}
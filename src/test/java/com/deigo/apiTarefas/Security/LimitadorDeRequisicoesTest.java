@@ -0,0 +1,163 @@
+package com.deigo.apiTarefas.Security;
+
+import com.deigo.apiTarefas.infrastructure.limite.BaldeDeTokens;
+import com.deigo.apiTarefas.infrastructure.limite.LimitadorDeRequisicoes;
+import com.deigo.apiTarefas.infrastructure.limite.LimiteRequisicoesProperties;
+import com.deigo.apiTarefas.infrastructure.limite.LimiteRequisicoesProperties.Limite;
+import com.deigo.apiTarefas.infrastructure.limite.LimiteRequisicoesProperties.Rota;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes do LimitadorDeRequisicoes")
+class LimitadorDeRequisicoesTest {
+
+    private static final long SEGUNDO = 1_000_000_000L;
+
+    private final AtomicLong relogio = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Deve aceitar a rajada da capacidade e pedir para esperar um intervalo depois dela")
+    void deveAceitarRajadaEDepoisRecusar() {
+        // Arrange
+        LimitadorDeRequisicoes limitador = limitador(new Limite(0, 0), new Limite(3, 1), List.of());
+
+        // Act
+        List<Duration> respostas = List.of(
+                limitador.verificar("GET", "/tarefas", "usuario:a"),
+                limitador.verificar("GET", "/tarefas", "usuario:a"),
+                limitador.verificar("GET", "/tarefas", "usuario:a"),
+                limitador.verificar("GET", "/tarefas", "usuario:a"));
+
+        // Assert
+        assertThat(respostas.subList(0, 3)).allMatch(Duration::isZero);
+        assertThat(respostas.get(3)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(registry.get("apitarefas.limite.rejeitadas").tag("limite", "cliente").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve repor os tokens com o passar do tempo")
+    void deveReporTokensComOTempo() {
+        // Arrange
+        LimitadorDeRequisicoes limitador = limitador(new Limite(0, 0), new Limite(2, 2), List.of());
+        limitador.verificar("GET", "/tarefas", "usuario:a");
+        limitador.verificar("GET", "/tarefas", "usuario:a");
+        assertThat(limitador.verificar("GET", "/tarefas", "usuario:a")).isPositive();
+
+        // Act
+        relogio.addAndGet(SEGUNDO / 2);
+        Duration depoisDeMeioSegundo = limitador.verificar("GET", "/tarefas", "usuario:a");
+        Duration semEsperar = limitador.verificar("GET", "/tarefas", "usuario:a");
+
+        // Assert
+        assertThat(depoisDeMeioSegundo).isZero();
+        assertThat(semEsperar).isEqualTo(Duration.ofMillis(500));
+    }
+
+    @Test
+    @DisplayName("Deve manter um balde separado para cada cliente")
+    void deveSepararBaldesPorCliente() {
+        // Arrange
+        LimitadorDeRequisicoes limitador = limitador(new Limite(0, 0), new Limite(1, 1), List.of());
+        limitador.verificar("GET", "/tarefas", "usuario:a");
+
+        // Act
+        Duration mesmoCliente = limitador.verificar("GET", "/tarefas", "usuario:a");
+        Duration outroCliente = limitador.verificar("GET", "/tarefas", "usuario:b");
+        Duration porIp = limitador.verificar("GET", "/tarefas", "ip:10.0.0.1");
+
+        // Assert
+        assertThat(mesmoCliente).isPositive();
+        assertThat(outroCliente).isZero();
+        assertThat(porIp).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar a regra da rota no lugar do limite por cliente, só para o método configurado")
+    void deveAplicarRegraDaRota() {
+        // Arrange
+        Rota login = new Rota("POST", "/auth/login", 1, 0.1);
+        LimitadorDeRequisicoes limitador = limitador(new Limite(0, 0), new Limite(10, 10), List.of(login));
+        limitador.verificar("POST", "/auth/login", "ip:10.0.0.1");
+
+        // Act
+        Duration login2 = limitador.verificar("POST", "/auth/login", "ip:10.0.0.1");
+        Duration outroMetodo = limitador.verificar("GET", "/auth/login", "ip:10.0.0.1");
+        Duration outraRota = limitador.verificar("POST", "/usuarios", "ip:10.0.0.1");
+
+        // Assert
+        assertThat(login2).isEqualTo(Duration.ofSeconds(10));
+        assertThat(outroMetodo).isZero();
+        assertThat(outraRota).isZero();
+        assertThat(registry.get("apitarefas.limite.rejeitadas").tag("limite", "/auth/login").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve recusar pelo limite global mesmo com os baldes dos clientes cheios")
+    void deveRecusarPeloLimiteGlobal() {
+        // Arrange
+        LimitadorDeRequisicoes limitador = limitador(new Limite(2, 1), new Limite(10, 10), List.of());
+        limitador.verificar("GET", "/tarefas", "usuario:a");
+        limitador.verificar("GET", "/tarefas", "usuario:b");
+
+        // Act
+        Duration resultado = limitador.verificar("GET", "/tarefas", "usuario:c");
+
+        // Assert
+        assertThat(resultado).isEqualTo(Duration.ofSeconds(1));
+        assertThat(registry.get("apitarefas.limite.rejeitadas").tag("limite", "global").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar mais que a capacidade com várias threads disputando o mesmo balde")
+    void naoDeveExcederCapacidadeComConcorrencia() throws Exception {
+        // Arrange
+        BaldeDeTokens balde = new BaldeDeTokens(100, 1);
+        int threads = 8;
+        AtomicInteger aceitas = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        CountDownLatch fim = new CountDownLatch(threads);
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    try {
+                        largada.await();
+                        for (int j = 0; j < 1_000; j++) {
+                            if (balde.consumir(0) == 0) {
+                                aceitas.incrementAndGet();
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        fim.countDown();
+                    }
+                });
+            }
+            largada.countDown();
+            fim.await();
+        }
+
+        // Assert
+        assertThat(aceitas.get()).isEqualTo(100);
+    }
+
+    private LimitadorDeRequisicoes limitador(Limite global, Limite porCliente, List<Rota> rotas) {
+        LimiteRequisicoesProperties properties = new LimiteRequisicoesProperties(
+                true, global, porCliente, rotas, 1_000, Duration.ofMinutes(10));
+        return new LimitadorDeRequisicoes(properties, registry, relogio::get);
+    }
+}
@@ -0,0 +1,109 @@
+package com.deigo.apiTarefas.Security;
+
+import com.deigo.apiTarefas.controller.TarefasController;
+import com.deigo.apiTarefas.controller.dtoTarefas.PaginaTarefasDto;
+import com.deigo.apiTarefas.infrastructure.Security.JwtConfig;
+import com.deigo.apiTarefas.infrastructure.Security.SecurityConfig;
+import com.deigo.apiTarefas.infrastructure.limite.LimiteRequisicoesConfig;
+import com.deigo.apiTarefas.service.TarefasService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Balde de 2 requisições e reposição de uma a cada 2s em GET /tarefas; cada teste usa usuário e IP próprios
+@WebMvcTest(value = TarefasController.class, properties = {
+        "apitarefas.limite.global.capacidade=1000",
+        "apitarefas.limite.global.por-segundo=1000",
+        "apitarefas.limite.rotas[0].metodo=GET",
+        "apitarefas.limite.rotas[0].padrao=/tarefas",
+        "apitarefas.limite.rotas[0].capacidade=2",
+        "apitarefas.limite.rotas[0].por-segundo=0.5"
+})
+@ActiveProfiles("test")
+@Import({SecurityConfig.class, JwtConfig.class, LimiteRequisicoesConfig.class})
+@DisplayName("Testes do filtro de limite de requisições")
+class LimiteRequisicoesFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TarefasService tarefasService;
+
+    @Test
+    @DisplayName("Deve retornar 429 com Retry-After depois de esgotar o balde do usuário")
+    void deveRetornar429AoEsgotarBalde() throws Exception {
+        // Arrange
+        UUID usuarioId = UUID.randomUUID();
+        when(tarefasService.listarTarefas(any(), any(), any())).thenReturn(new PaginaTarefasDto(List.of(), null));
+        mockMvc.perform(get("/tarefas").with(comToken(usuarioId))).andExpect(status().isOk());
+        mockMvc.perform(get("/tarefas").with(comToken(usuarioId))).andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(get("/tarefas").with(comToken(usuarioId)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+
+        verify(tarefasService, times(2)).listarTarefas(usuarioId, null, null);
+    }
+
+    @Test
+    @DisplayName("Não deve limitar um usuário pelo consumo de outro")
+    void naoDeveLimitarOutroUsuario() throws Exception {
+        // Arrange
+        UUID usuarioId = UUID.randomUUID();
+        UUID outroUsuarioId = UUID.randomUUID();
+        when(tarefasService.listarTarefas(any(), any(), any())).thenReturn(new PaginaTarefasDto(List.of(), null));
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/tarefas").with(comToken(usuarioId)));
+        }
+
+        // Act & Assert
+        mockMvc.perform(get("/tarefas").with(comToken(outroUsuarioId)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Deve limitar pelo IP quando a requisição não tem token")
+    void deveLimitarPeloIpSemToken() throws Exception {
+        // Arrange
+        RequestPostProcessor ip = comIp("10.0.0.1");
+        mockMvc.perform(get("/tarefas").with(ip)).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/tarefas").with(ip)).andExpect(status().isUnauthorized());
+
+        // Act & Assert
+        mockMvc.perform(get("/tarefas").with(ip))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(get("/tarefas").with(comIp("192.168.0.1")))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(tarefasService);
+    }
+
+    private static RequestPostProcessor comToken(UUID usuarioId) {
+        return jwt().jwt(token -> token.subject(usuarioId.toString()));
+    }
+
+    private static RequestPostProcessor comIp(String ip) {
+        return request -> {
+            request.setRemoteAddr(ip);
+            return request;
+        };
+    }
+}
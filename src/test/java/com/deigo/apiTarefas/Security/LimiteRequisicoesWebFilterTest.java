@@ -0,0 +1,114 @@
+package com.deigo.apiTarefas.Security;
+
+import com.deigo.apiTarefas.controller.TarefasReativoController;
+import com.deigo.apiTarefas.controller.dtoTarefas.PaginaTarefasDto;
+import com.deigo.apiTarefas.infrastructure.Security.JwtConfig;
+import com.deigo.apiTarefas.infrastructure.Security.SecurityReativoConfig;
+import com.deigo.apiTarefas.infrastructure.limite.LimiteRequisicoesConfig;
+import com.deigo.apiTarefas.service.TarefasReativoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockJwt;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.springSecurity;
+
+// Mesmo cenário do LimiteRequisicoesFilterTest, no WebFilter do perfil reativo: balde de 2 requisições e
+// reposição de uma a cada 2s em GET /tarefas; cada teste usa usuário próprio
+@WebFluxTest(value = TarefasReativoController.class, properties = {
+        "apitarefas.limite.global.capacidade=1000",
+        "apitarefas.limite.global.por-segundo=1000",
+        "apitarefas.limite.rotas[0].metodo=GET",
+        "apitarefas.limite.rotas[0].padrao=/tarefas",
+        "apitarefas.limite.rotas[0].capacidade=2",
+        "apitarefas.limite.rotas[0].por-segundo=0.5"
+})
+@ActiveProfiles({"test", "reativo"})
+@Import({SecurityReativoConfig.class, JwtConfig.class, LimiteRequisicoesConfig.class})
+@DisplayName("Testes do WebFilter de limite de requisições")
+class LimiteRequisicoesWebFilterTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @MockBean
+    private TarefasReativoService tarefasService;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToApplicationContext(context)
+                .apply(springSecurity())
+                .configureClient()
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve retornar 429 com Retry-After depois de esgotar o balde do usuário")
+    void deveRetornar429AoEsgotarBalde() {
+        // Arrange
+        UUID usuarioId = UUID.randomUUID();
+        when(tarefasService.listarTarefas(any(), any(), any())).thenReturn(Mono.just(new PaginaTarefasDto(List.of(), null)));
+        comToken(usuarioId).get().uri("/tarefas").exchange().expectStatus().isOk();
+        comToken(usuarioId).get().uri("/tarefas").exchange().expectStatus().isOk();
+
+        // Act & Assert
+        comToken(usuarioId).get().uri("/tarefas")
+                .exchange()
+                .expectStatus().isEqualTo(429)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "2");
+
+        verify(tarefasService, times(2)).listarTarefas(usuarioId, null, null);
+    }
+
+    @Test
+    @DisplayName("Não deve limitar um usuário pelo consumo de outro")
+    void naoDeveLimitarOutroUsuario() {
+        // Arrange
+        UUID usuarioId = UUID.randomUUID();
+        UUID outroUsuarioId = UUID.randomUUID();
+        when(tarefasService.listarTarefas(any(), any(), any())).thenReturn(Mono.just(new PaginaTarefasDto(List.of(), null)));
+        for (int i = 0; i < 3; i++) {
+            comToken(usuarioId).get().uri("/tarefas").exchange();
+        }
+
+        // Act & Assert
+        comToken(outroUsuarioId).get().uri("/tarefas")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("Deve limitar pelo endereço do cliente quando a requisição não tem token")
+    void deveLimitarPeloEnderecoSemToken() {
+        // Arrange
+        webTestClient.get().uri("/tarefas").exchange().expectStatus().isUnauthorized();
+        webTestClient.get().uri("/tarefas").exchange().expectStatus().isUnauthorized();
+
+        // Act & Assert
+        webTestClient.get().uri("/tarefas")
+                .exchange()
+                .expectStatus().isEqualTo(429);
+
+        verifyNoInteractions(tarefasService);
+    }
+
+    private WebTestClient comToken(UUID usuarioId) {
+        return webTestClient.mutateWith(mockJwt().jwt(token -> token.subject(usuarioId.toString())));
+    }
+}
@@ -0,0 +1,146 @@
+package com.deigo.apiTarefas.Security;
+
+import com.deigo.apiTarefas.controller.TarefasController;
+import com.deigo.apiTarefas.controller.UsuarioController;
+import com.deigo.apiTarefas.controller.dtoTarefas.PaginaTarefasDto;
+import com.deigo.apiTarefas.infrastructure.Security.JwtConfig;
+import com.deigo.apiTarefas.infrastructure.Security.SecurityConfig;
+import com.deigo.apiTarefas.service.TarefasService;
+import com.deigo.apiTarefas.service.UsuarioService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Cadeia de segurança real (não a SecurityConfigTest): token emitido e verificado com a chave de JwtConfig
+@WebMvcTest({TarefasController.class, UsuarioController.class})
+@ActiveProfiles("test")
+@Import({SecurityConfig.class, JwtConfig.class})
+@DisplayName("Testes da autenticação JWT do SecurityConfig")
+class SecurityConfigJwtTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtEncoder jwtEncoder;
+
+    @MockBean
+    private TarefasService tarefasService;
+
+    @MockBean
+    private UsuarioService usuarioService;
+
+    @Test
+    @DisplayName("Deve retornar 401 com WWW-Authenticate quando não há token")
+    void deveRetornar401SemToken() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tarefas"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(HttpHeaders.WWW_AUTHENTICATE, "Bearer"));
+
+        verifyNoInteractions(tarefasService);
+    }
+
+    @Test
+    @DisplayName("Deve autenticar pelo token, passar o sub como dono e não criar sessão")
+    void deveAutenticarPeloTokenSemSessao() throws Exception {
+        // Arrange
+        UUID usuarioId = UUID.randomUUID();
+        when(tarefasService.listarTarefas(eq(usuarioId), any(), any())).thenReturn(new PaginaTarefasDto(List.of(), null));
+
+        // Act
+        MvcResult resultado = mockMvc.perform(get("/tarefas")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(usuarioId)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Assert
+        assertThat(resultado.getRequest().getSession(false)).isNull();
+        assertThat(resultado.getResponse().getHeader(HttpHeaders.SET_COOKIE)).isNull();
+        verify(tarefasService, times(1)).listarTarefas(usuarioId, null, null);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 401 quando a assinatura do token foi adulterada")
+    void deveRetornar401ComTokenAdulterado() throws Exception {
+        // Arrange
+        String token = token(UUID.randomUUID());
+        String adulterado = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // Act & Assert
+        mockMvc.perform(get("/tarefas")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + adulterado))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(tarefasService);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 403 ao listar todos os usuários com token sem escopo admin")
+    void deveRetornar403AoListarUsuariosSemEscopoAdmin() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/usuarios")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(UUID.randomUUID())))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(usuarioService);
+    }
+
+    @Test
+    @DisplayName("Deve listar todos os usuários com token de escopo admin")
+    void deveListarUsuariosComEscopoAdmin() throws Exception {
+        // Arrange
+        when(usuarioService.listarUsuarios(any(Pageable.class))).thenReturn(Page.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/usuarios")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(UUID.randomUUID(), "admin")))
+                .andExpect(status().isOk());
+
+        verify(usuarioService, times(1)).listarUsuarios(any(Pageable.class));
+    }
+
+    private String token(UUID usuarioId) {
+        return token(usuarioId, null);
+    }
+
+    private String token(UUID usuarioId, String escopo) {
+        Instant agora = Instant.now();
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
+                .issuer("api-tarefas")
+                .subject(usuarioId.toString())
+                .issuedAt(agora)
+                .expiresAt(agora.plus(Duration.ofMinutes(5)));
+        if (escopo != null) {
+            claims.claim("scope", escopo);
+        }
+        return jwtEncoder.encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims.build()))
+                .getTokenValue();
+    }
+}
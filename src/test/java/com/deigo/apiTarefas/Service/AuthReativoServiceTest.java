@@ -0,0 +1,154 @@
+package com.deigo.apiTarefas.Service;
+
+import com.deigo.apiTarefas.controller.dtoAuth.LoginDto;
+import com.deigo.apiTarefas.infrastructure.Security.JwtProperties;
+import com.deigo.apiTarefas.infrastructure.entitys.UsuarioR2dbc;
+import com.deigo.apiTarefas.infrastructure.exceptions.CredenciaisInvalidasException;
+import com.deigo.apiTarefas.infrastructure.repository.UsuarioReativoRepository;
+import com.deigo.apiTarefas.service.AuthReativoService;
+import com.deigo.apiTarefas.service.SenhaService;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do AuthReativoService")
+class AuthReativoServiceTest {
+
+    private static final SecretKey CHAVE = new SecretKeySpec(
+            "segredo-de-teste-com-mais-de-32-bytes".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+    @Mock
+    private UsuarioReativoRepository usuarioRepository;
+
+    @Mock
+    private SenhaService senhaService;
+
+    private AuthReativoService authService;
+    private UsuarioR2dbc usuario;
+
+    @BeforeEach
+    void setUp() {
+        when(senhaService.codificar(any())).thenReturn("$2a$12$ficticio");
+        JwtProperties properties = new JwtProperties("nao-usado", "api-tarefas", Duration.ofHours(1), 100);
+        authService = new AuthReativoService(usuarioRepository, senhaService,
+                new NimbusJwtEncoder(new ImmutableSecret<>(CHAVE)), properties);
+
+        usuario = UsuarioR2dbc.builder()
+                .id(UUID.randomUUID())
+                .email("teste@exemplo.com")
+                .senha("$2a$12$hash")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve emitir JWT HS256 com o ID do usuário no sub quando a senha confere")
+    void deveEmitirTokenQuandoSenhaConfere() {
+        // Arrange
+        when(usuarioRepository.findByEmail("teste@exemplo.com")).thenReturn(Mono.just(usuario));
+        when(senhaService.confere("senha123", "$2a$12$hash")).thenReturn(true);
+
+        // Act & Assert
+        StepVerifier.create(authService.login(new LoginDto("teste@exemplo.com", "senha123")))
+                .assertNext(token -> {
+                    Jwt jwt = NimbusJwtDecoder.withSecretKey(CHAVE).macAlgorithm(MacAlgorithm.HS256).build()
+                            .decode(token.accessToken());
+                    assertThat(token.tokenType()).isEqualTo("Bearer");
+                    assertThat(token.expiresIn()).isEqualTo(3600);
+                    assertThat(jwt.getSubject()).isEqualTo(usuario.getId().toString());
+                    assertThat(jwt.getClaimAsString("iss")).isEqualTo("api-tarefas");
+                    assertThat(jwt.hasClaim("scope")).isFalse();
+                })
+                .verifyComplete();
+
+        verify(usuarioRepository, never()).atualizarSenha(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar senha legada em texto puro e gravar o hash BCrypt no lugar")
+    void deveAceitarSenhaLegadaERecodificar() {
+        // Arrange
+        usuario.setSenha("senha123");
+        when(usuarioRepository.findByEmail("teste@exemplo.com")).thenReturn(Mono.just(usuario));
+        when(senhaService.confere("senha123", "senha123")).thenReturn(true);
+        when(senhaService.precisaRecodificar("senha123")).thenReturn(true);
+        when(senhaService.codificar("senha123")).thenReturn("$2a$12$novo");
+        when(usuarioRepository.atualizarSenha(usuario.getId(), "senha123", "$2a$12$novo")).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(authService.login(new LoginDto("teste@exemplo.com", "senha123")))
+                .assertNext(token -> assertThat(token.accessToken()).isNotBlank())
+                .verifyComplete();
+
+        verify(usuarioRepository, times(1)).atualizarSenha(usuario.getId(), "senha123", "$2a$12$novo");
+    }
+
+    @Test
+    @DisplayName("Deve incluir o escopo admin no token de uma conta marcada como administradora")
+    void deveIncluirEscopoAdminParaAdministrador() {
+        // Arrange
+        usuario.setAdministrador(true);
+        when(usuarioRepository.findByEmail("teste@exemplo.com")).thenReturn(Mono.just(usuario));
+        when(senhaService.confere("senha123", "$2a$12$hash")).thenReturn(true);
+
+        // Act & Assert
+        StepVerifier.create(authService.login(new LoginDto("teste@exemplo.com", "senha123")))
+                .assertNext(token -> {
+                    Jwt jwt = NimbusJwtDecoder.withSecretKey(CHAVE).macAlgorithm(MacAlgorithm.HS256).build()
+                            .decode(token.accessToken());
+                    assertThat(jwt.getClaimAsString("scope")).isEqualTo("admin");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando a senha não confere")
+    void deveLancarExcecaoQuandoSenhaNaoConfere() {
+        // Arrange
+        when(usuarioRepository.findByEmail("teste@exemplo.com")).thenReturn(Mono.just(usuario));
+        when(senhaService.confere("errada", "$2a$12$hash")).thenReturn(false);
+
+        // Act & Assert
+        StepVerifier.create(authService.login(new LoginDto("teste@exemplo.com", "errada")))
+                .expectErrorSatisfies(erro -> assertThat(erro)
+                        .isInstanceOf(CredenciaisInvalidasException.class)
+                        .hasMessage("Email ou senha inválidos"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Deve conferir contra o hash fictício quando o email não existe, com a mesma exceção")
+    void deveConferirHashFicticioQuandoEmailNaoExiste() {
+        // Arrange
+        when(usuarioRepository.findByEmail("inexistente@exemplo.com")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(authService.login(new LoginDto("inexistente@exemplo.com", "senha123")))
+                .expectErrorSatisfies(erro -> assertThat(erro)
+                        .isInstanceOf(CredenciaisInvalidasException.class)
+                        .hasMessage("Email ou senha inválidos"))
+                .verify();
+
+        verify(senhaService, times(1)).confere("senha123", "$2a$12$ficticio");
+    }
+}
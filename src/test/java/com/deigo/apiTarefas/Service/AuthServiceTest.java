@@ -0,0 +1,157 @@
+package com.deigo.apiTarefas.Service;
+
+import com.deigo.apiTarefas.controller.dtoAuth.LoginDto;
+import com.deigo.apiTarefas.controller.dtoAuth.TokenDto;
+import com.deigo.apiTarefas.infrastructure.Security.JwtProperties;
+import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
+import com.deigo.apiTarefas.infrastructure.exceptions.CredenciaisInvalidasException;
+import com.deigo.apiTarefas.infrastructure.repository.UsuarioRepository;
+import com.deigo.apiTarefas.service.AuthService;
+import com.deigo.apiTarefas.service.SenhaService;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do AuthService")
+class AuthServiceTest {
+
+    private static final SecretKey CHAVE = new SecretKeySpec(
+            "segredo-de-teste-com-mais-de-32-bytes".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private SenhaService senhaService;
+
+    private AuthService authService;
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        when(senhaService.codificar(any())).thenReturn("$2a$12$ficticio");
+        JwtProperties properties = new JwtProperties("nao-usado", "api-tarefas", Duration.ofHours(1), 100);
+        authService = new AuthService(usuarioRepository, senhaService, new NimbusJwtEncoder(new ImmutableSecret<>(CHAVE)), properties);
+
+        usuario = new Usuario();
+        usuario.setId(UUID.randomUUID());
+        usuario.setEmail("teste@exemplo.com");
+        usuario.setSenha("$2a$12$hash");
+    }
+
+    @Test
+    @DisplayName("Deve emitir JWT HS256 com o ID do usuário no sub quando a senha confere")
+    void deveEmitirTokenQuandoSenhaConfere() {
+        // Arrange
+        when(usuarioRepository.findByEmail("teste@exemplo.com")).thenReturn(Optional.of(usuario));
+        when(senhaService.confere("senha123", "$2a$12$hash")).thenReturn(true);
+
+        // Act
+        TokenDto token = authService.login(new LoginDto("teste@exemplo.com", "senha123"));
+
+        // Assert
+        Jwt jwt = NimbusJwtDecoder.withSecretKey(CHAVE).macAlgorithm(MacAlgorithm.HS256).build().decode(token.accessToken());
+        assertThat(token.tokenType()).isEqualTo("Bearer");
+        assertThat(token.expiresIn()).isEqualTo(3600);
+        assertThat(jwt.getSubject()).isEqualTo(usuario.getId().toString());
+        assertThat(jwt.getClaimAsString("iss")).isEqualTo("api-tarefas");
+        assertThat(jwt.hasClaim("scope")).isFalse();
+        assertThat(Duration.between(jwt.getIssuedAt(), jwt.getExpiresAt())).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar senha legada em texto puro e gravar o hash BCrypt no lugar")
+    void deveAceitarSenhaLegadaERecodificar() {
+        // Arrange
+        usuario.setSenha("senha123");
+        when(usuarioRepository.findByEmail("teste@exemplo.com")).thenReturn(Optional.of(usuario));
+        when(senhaService.confere("senha123", "senha123")).thenReturn(true);
+        when(senhaService.precisaRecodificar("senha123")).thenReturn(true);
+        when(senhaService.codificar("senha123")).thenReturn("$2a$12$novo");
+
+        // Act
+        TokenDto token = authService.login(new LoginDto("teste@exemplo.com", "senha123"));
+
+        // Assert
+        assertThat(token.accessToken()).isNotBlank();
+        verify(usuarioRepository, times(1)).atualizarSenha(usuario.getId(), "senha123", "$2a$12$novo");
+    }
+
+    @Test
+    @DisplayName("Não deve regravar a senha quando o hash já está no formato atual")
+    void naoDeveRecodificarHashAtual() {
+        // Arrange
+        when(usuarioRepository.findByEmail("teste@exemplo.com")).thenReturn(Optional.of(usuario));
+        when(senhaService.confere("senha123", "$2a$12$hash")).thenReturn(true);
+
+        // Act
+        authService.login(new LoginDto("teste@exemplo.com", "senha123"));
+
+        // Assert
+        verify(usuarioRepository, never()).atualizarSenha(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve incluir o escopo admin no token de uma conta marcada como administradora")
+    void deveIncluirEscopoAdminParaAdministrador() {
+        // Arrange
+        usuario.setAdministrador(true);
+        when(usuarioRepository.findByEmail("teste@exemplo.com")).thenReturn(Optional.of(usuario));
+        when(senhaService.confere("senha123", "$2a$12$hash")).thenReturn(true);
+
+        // Act
+        TokenDto token = authService.login(new LoginDto("teste@exemplo.com", "senha123"));
+
+        // Assert
+        Jwt jwt = NimbusJwtDecoder.withSecretKey(CHAVE).macAlgorithm(MacAlgorithm.HS256).build().decode(token.accessToken());
+        assertThat(jwt.getClaimAsString("scope")).isEqualTo("admin");
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando a senha não confere")
+    void deveLancarExcecaoQuandoSenhaNaoConfere() {
+        // Arrange
+        when(usuarioRepository.findByEmail("teste@exemplo.com")).thenReturn(Optional.of(usuario));
+        when(senhaService.confere("errada", "$2a$12$hash")).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> authService.login(new LoginDto("teste@exemplo.com", "errada")))
+                .isInstanceOf(CredenciaisInvalidasException.class)
+                .hasMessage("Email ou senha inválidos");
+    }
+
+    @Test
+    @DisplayName("Deve conferir contra o hash fictício quando o email não existe, com a mesma exceção")
+    void deveConferirHashFicticioQuandoEmailNaoExiste() {
+        // Arrange
+        when(usuarioRepository.findByEmail("inexistente@exemplo.com")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> authService.login(new LoginDto("inexistente@exemplo.com", "senha123")))
+                .isInstanceOf(CredenciaisInvalidasException.class)
+                .hasMessage("Email ou senha inválidos");
+
+        verify(senhaService, times(1)).confere("senha123", "$2a$12$ficticio");
+    }
+}
@@ -0,0 +1,151 @@
+package com.deigo.apiTarefas.Service;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.ContagemStatusDto;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.exceptions.UsuarioNaoEncontradoException;
+import com.deigo.apiTarefas.infrastructure.repository.ContadorTarefasReativoRepository;
+import com.deigo.apiTarefas.infrastructure.repository.UsuarioReativoRepository;
+import com.deigo.apiTarefas.service.ContadorTarefasReativoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ContadorTarefasReativoService")
+class ContadorTarefasReativoServiceTest {
+
+    @Mock
+    private ContadorTarefasReativoRepository contadorRepository;
+
+    @Mock
+    private UsuarioReativoRepository usuarioRepository;
+
+    @InjectMocks
+    private ContadorTarefasReativoService contadorTarefasService;
+
+    private UUID usuarioId;
+
+    @BeforeEach
+    void setUp() {
+        usuarioId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Deve criar um contador zerado para cada status do novo usuário, em ordem")
+    void deveInicializarContadoresDoUsuario() {
+        // Arrange
+        when(contadorRepository.inicializar(any(), any())).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(contadorTarefasService.inicializar(usuarioId))
+                .verifyComplete();
+
+        InOrder ordem = inOrder(contadorRepository);
+        for (Status status : Status.values()) {
+            ordem.verify(contadorRepository).inicializar(usuarioId, status);
+        }
+        verifyNoMoreInteractions(contadorRepository);
+    }
+
+    @Test
+    @DisplayName("Deve mover uma unidade do status anterior para o novo")
+    void deveRegistrarTransicaoDeStatus() {
+        // Arrange
+        when(contadorRepository.somar(any(), any(), anyLong())).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(contadorTarefasService.registrarTransicao(usuarioId, Status.PENDENTE, Status.CONCLUIDA))
+                .verifyComplete();
+
+        verify(contadorRepository, times(1)).somar(usuarioId, Status.PENDENTE, -1L);
+        verify(contadorRepository, times(1)).somar(usuarioId, Status.CONCLUIDA, 1L);
+    }
+
+    @Test
+    @DisplayName("Não deve tocar nos contadores quando o status não muda")
+    void naoDeveRegistrarQuandoStatusNaoMuda() {
+        // Act & Assert
+        StepVerifier.create(contadorTarefasService.registrarTransicao(usuarioId, Status.PENDENTE, Status.PENDENTE))
+                .verifyComplete();
+        StepVerifier.create(contadorTarefasService.registrarTransicao(null, null, Status.PENDENTE))
+                .verifyComplete();
+
+        verifyNoInteractions(contadorRepository);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar os deltas da transição em massa um por vez, em ordem de chave")
+    void deveRegistrarTransicoesEmOrdemDeChave() {
+        // Arrange
+        UUID outroUsuario = new UUID(0, 1);
+        usuarioId = new UUID(0, 2);
+        List<ContagemStatusDto> anteriores = List.of(
+                new ContagemStatusDto(usuarioId, Status.PENDENTE, 4L),
+                new ContagemStatusDto(outroUsuario, Status.EM_ANDAMENTO, 2L),
+                new ContagemStatusDto(outroUsuario, null, 1L));
+        when(contadorRepository.somar(any(), any(), anyLong())).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(contadorTarefasService.registrarTransicoes(anteriores, Status.CONCLUIDA))
+                .verifyComplete();
+
+        InOrder ordem = inOrder(contadorRepository);
+        ordem.verify(contadorRepository).somar(outroUsuario, Status.CONCLUIDA, 3L);
+        ordem.verify(contadorRepository).somar(outroUsuario, Status.EM_ANDAMENTO, -2L);
+        ordem.verify(contadorRepository).somar(usuarioId, Status.CONCLUIDA, 4L);
+        ordem.verify(contadorRepository).somar(usuarioId, Status.PENDENTE, -4L);
+        verifyNoMoreInteractions(contadorRepository);
+    }
+
+    @Test
+    @DisplayName("Deve montar o resumo a partir dos contadores")
+    void deveMontarResumoDosContadores() {
+        // Arrange
+        when(contadorRepository.findByUsuarioId(usuarioId)).thenReturn(Flux.just(
+                new ContagemStatusDto(usuarioId, Status.PENDENTE, 3L),
+                new ContagemStatusDto(usuarioId, Status.EM_ANDAMENTO, 1L),
+                new ContagemStatusDto(usuarioId, Status.CONCLUIDA, 2L)));
+
+        // Act & Assert
+        StepVerifier.create(contadorTarefasService.resumoDoUsuario(usuarioId))
+                .assertNext(resumo -> {
+                    assertThat(resumo.usuarioId()).isEqualTo(usuarioId);
+                    assertThat(resumo.pendentes()).isEqualTo(3);
+                    assertThat(resumo.emAndamento()).isEqualTo(1);
+                    assertThat(resumo.concluidas()).isEqualTo(2);
+                    assertThat(resumo.total()).isEqualTo(6);
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(usuarioRepository);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção no resumo quando usuário não existe")
+    void deveLancarExcecaoNoResumoQuandoUsuarioNaoExiste() {
+        // Arrange
+        when(contadorRepository.findByUsuarioId(usuarioId)).thenReturn(Flux.empty());
+        when(usuarioRepository.existsById(usuarioId)).thenReturn(Mono.just(false));
+
+        // Act & Assert
+        StepVerifier.create(contadorTarefasService.resumoDoUsuario(usuarioId))
+                .expectError(UsuarioNaoEncontradoException.class)
+                .verify();
+    }
+}
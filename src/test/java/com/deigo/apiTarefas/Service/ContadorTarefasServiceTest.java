@@ -0,0 +1,196 @@
+package com.deigo.apiTarefas.Service;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.ContagemStatusDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.ResumoTarefasUsuarioDto;
+import com.deigo.apiTarefas.infrastructure.entitys.ContadorTarefas;
+import com.deigo.apiTarefas.infrastructure.entitys.ContadorTarefasId;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.exceptions.UsuarioNaoEncontradoException;
+import com.deigo.apiTarefas.infrastructure.repository.ContadorTarefasRepository;
+import com.deigo.apiTarefas.infrastructure.repository.TarefasRepository;
+import com.deigo.apiTarefas.infrastructure.repository.UsuarioRepository;
+import com.deigo.apiTarefas.service.ContadorTarefasService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ContadorTarefasService")
+class ContadorTarefasServiceTest {
+
+    @Mock
+    private ContadorTarefasRepository contadorRepository;
+
+    @Mock
+    private TarefasRepository tarefasRepository;
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private ContadorTarefasService contadorTarefasService;
+
+    private UUID usuarioId;
+
+    @BeforeEach
+    void setUp() {
+        usuarioId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Deve criar um contador zerado para cada status do novo usuário")
+    void deveInicializarContadoresDoUsuario() {
+        // Act
+        contadorTarefasService.inicializar(usuarioId);
+
+        // Assert
+        ArgumentCaptor<ContadorTarefas> captor = ArgumentCaptor.forClass(ContadorTarefas.class);
+        verify(entityManager, times(Status.values().length)).persist(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(c -> c.getId().getStatus())
+                .containsExactly(Status.values());
+        assertThat(captor.getAllValues()).allMatch(c -> c.getQuantidade() == 0);
+    }
+
+    @Test
+    @DisplayName("Deve mover uma unidade do status anterior para o novo")
+    void deveRegistrarTransicaoDeStatus() {
+        // Act
+        contadorTarefasService.registrarTransicao(usuarioId, Status.PENDENTE, Status.CONCLUIDA);
+
+        // Assert
+        verify(contadorRepository, times(1)).somar(usuarioId, Status.PENDENTE, -1L);
+        verify(contadorRepository, times(1)).somar(usuarioId, Status.CONCLUIDA, 1L);
+    }
+
+    @Test
+    @DisplayName("Não deve tocar nos contadores quando o status não muda")
+    void naoDeveRegistrarQuandoStatusNaoMuda() {
+        // Act
+        contadorTarefasService.registrarTransicao(usuarioId, Status.PENDENTE, Status.PENDENTE);
+        contadorTarefasService.registrarTransicao(null, null, Status.PENDENTE);
+
+        // Assert
+        verifyNoInteractions(contadorRepository);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar os deltas da transição em massa em ordem de chave")
+    void deveRegistrarTransicoesEmOrdemDeChave() {
+        // Arrange
+        UUID outroUsuario = new UUID(0, 1);
+        usuarioId = new UUID(0, 2);
+        List<ContagemStatusDto> anteriores = List.of(
+                new ContagemStatusDto(usuarioId, Status.PENDENTE, 4L),
+                new ContagemStatusDto(outroUsuario, Status.EM_ANDAMENTO, 2L),
+                new ContagemStatusDto(outroUsuario, null, 1L));
+
+        // Act
+        contadorTarefasService.registrarTransicoes(anteriores, Status.CONCLUIDA);
+
+        // Assert
+        InOrder ordem = inOrder(contadorRepository);
+        ordem.verify(contadorRepository).somar(outroUsuario, Status.CONCLUIDA, 3L);
+        ordem.verify(contadorRepository).somar(outroUsuario, Status.EM_ANDAMENTO, -2L);
+        ordem.verify(contadorRepository).somar(usuarioId, Status.CONCLUIDA, 4L);
+        ordem.verify(contadorRepository).somar(usuarioId, Status.PENDENTE, -4L);
+        verifyNoMoreInteractions(contadorRepository);
+    }
+
+    @Test
+    @DisplayName("Deve travar os contadores na ordem da chave primária: bytes sem sinal do usuário e nome do status")
+    void deveAplicarDeltasNaOrdemDaChavePrimaria() {
+        // Arrange: com sinal, o primeiro usuário viria antes (msb negativo); sem sinal, 0x80... vem depois
+        UUID msbAlto = new UUID(0x8000000000000000L, 1);
+        UUID msbBaixo = new UUID(1, 0xFFFFFFFFFFFFFFFFL);
+        List<ContagemStatusDto> anteriores = List.of(
+                new ContagemStatusDto(msbAlto, Status.PENDENTE, 1L),
+                new ContagemStatusDto(msbBaixo, Status.PENDENTE, 2L));
+
+        // Act
+        contadorTarefasService.registrarTransicoes(anteriores, Status.EM_ANDAMENTO);
+
+        // Assert: CONCLUIDA < EM_ANDAMENTO < PENDENTE, como o VARCHAR na chave primária
+        InOrder ordem = inOrder(contadorRepository);
+        ordem.verify(contadorRepository).somar(msbBaixo, Status.EM_ANDAMENTO, 2L);
+        ordem.verify(contadorRepository).somar(msbBaixo, Status.PENDENTE, -2L);
+        ordem.verify(contadorRepository).somar(msbAlto, Status.EM_ANDAMENTO, 1L);
+        ordem.verify(contadorRepository).somar(msbAlto, Status.PENDENTE, -1L);
+        verifyNoMoreInteractions(contadorRepository);
+    }
+
+    @Test
+    @DisplayName("Deve montar o resumo a partir dos contadores")
+    void deveMontarResumoDosContadores() {
+        // Arrange
+        when(contadorRepository.findByIdUsuarioId(usuarioId)).thenReturn(List.of(
+                new ContadorTarefas(new ContadorTarefasId(usuarioId, Status.PENDENTE), 3),
+                new ContadorTarefas(new ContadorTarefasId(usuarioId, Status.CONCLUIDA), 5)));
+
+        // Act
+        ResumoTarefasUsuarioDto resumo = contadorTarefasService.resumoDoUsuario(usuarioId);
+
+        // Assert
+        assertThat(resumo).isEqualTo(new ResumoTarefasUsuarioDto(usuarioId, 3, 0, 5, 8));
+        verify(usuarioRepository, never()).existsById(any(UUID.class));
+        verifyNoInteractions(tarefasRepository);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção no resumo quando usuário não existe")
+    void deveLancarExcecaoNoResumoQuandoUsuarioNaoExiste() {
+        // Arrange
+        when(contadorRepository.findByIdUsuarioId(usuarioId)).thenReturn(List.of());
+        when(usuarioRepository.existsById(usuarioId)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> contadorTarefasService.resumoDoUsuario(usuarioId))
+                .isInstanceOf(UsuarioNaoEncontradoException.class);
+    }
+
+    @Test
+    @DisplayName("Deve corrigir contadores divergentes e criar os que faltam na reconciliação")
+    void deveReconciliarContadores() {
+        // Arrange
+        ContadorTarefas pendentes = new ContadorTarefas(new ContadorTarefasId(usuarioId, Status.PENDENTE), 7);
+        ContadorTarefas emAndamento = new ContadorTarefas(new ContadorTarefasId(usuarioId, Status.EM_ANDAMENTO), 1);
+        when(contadorRepository.travarDosUsuarios(List.of(usuarioId))).thenReturn(List.of(pendentes, emAndamento));
+        when(tarefasRepository.contarPorStatusDosUsuarios(List.of(usuarioId))).thenReturn(List.of(
+                new ContagemStatusDto(usuarioId, Status.PENDENTE, 5L),
+                new ContagemStatusDto(usuarioId, Status.EM_ANDAMENTO, 1L),
+                new ContagemStatusDto(usuarioId, Status.CONCLUIDA, 2L)));
+
+        // Act
+        int corrigidos = contadorTarefasService.reconciliar(List.of(usuarioId));
+
+        // Assert
+        assertThat(corrigidos).isEqualTo(2);
+        assertThat(pendentes.getQuantidade()).isEqualTo(5);
+        assertThat(emAndamento.getQuantidade()).isEqualTo(1);
+
+        ArgumentCaptor<ContadorTarefas> captor = ArgumentCaptor.forClass(ContadorTarefas.class);
+        verify(entityManager, times(1)).persist(captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo(new ContadorTarefasId(usuarioId, Status.CONCLUIDA));
+        assertThat(captor.getValue().getQuantidade()).isEqualTo(2);
+        verify(contadorRepository, never()).somar(any(), any(), anyLong());
+    }
+}
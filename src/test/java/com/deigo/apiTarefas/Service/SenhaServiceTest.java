@@ -0,0 +1,103 @@
+package com.deigo.apiTarefas.Service;
+
+import com.deigo.apiTarefas.infrastructure.Security.SenhaProperties;
+import com.deigo.apiTarefas.infrastructure.exceptions.ServicoSobrecarregadoException;
+import com.deigo.apiTarefas.service.SenhaService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes do SenhaService")
+class SenhaServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private SenhaService senhaService;
+
+    @AfterEach
+    void tearDown() {
+        if (senhaService != null) {
+            senhaService.encerrar();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gerar hash BCrypt com o custo configurado e conferir a senha")
+    void deveCodificarEConferirSenha() {
+        // Arrange
+        senhaService = new SenhaService(new BCryptPasswordEncoder(4), new SenhaProperties(4, 1, 4, Duration.ofSeconds(5)), registry);
+
+        // Act
+        String hash = senhaService.codificar("senha123");
+
+        // Assert
+        assertThat(hash).startsWith("$2a$04$").isNotEqualTo("senha123");
+        assertThat(senhaService.confere("senha123", hash)).isTrue();
+        assertThat(senhaService.confere("outra", hash)).isFalse();
+        assertThat(registry.get("executor").tag("name", "hash-senha").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve conferir senha legada em texto puro e pedir para recodificá-la")
+    void deveConferirSenhaLegadaEmTextoPuro() {
+        // Arrange
+        senhaService = new SenhaService(new BCryptPasswordEncoder(4), new SenhaProperties(4, 1, 4, Duration.ofSeconds(5)), registry);
+        String hashAtual = senhaService.codificar("senha123");
+
+        // Act & Assert
+        assertThat(senhaService.confere("senha123", "senha123")).isTrue();
+        assertThat(senhaService.confere("outra", "senha123")).isFalse();
+        assertThat(senhaService.confere("senha123", null)).isFalse();
+        assertThat(senhaService.precisaRecodificar("senha123")).isTrue();
+        assertThat(senhaService.precisaRecodificar(hashAtual)).isFalse();
+        assertThat(senhaService.precisaRecodificar(new BCryptPasswordEncoder(4).encode("senha123"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve recusar com 503 quando a fila do executor está cheia")
+    void deveRecusarQuandoFilaCheia() throws Exception {
+        // Arrange
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch ocupado = new CountDownLatch(1);
+        PasswordEncoder lento = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence senha) {
+                ocupado.countDown();
+                try {
+                    liberar.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(senha);
+            }
+        };
+        senhaService = new SenhaService(lento, new SenhaProperties(4, 1, 1, Duration.ofSeconds(5)), registry);
+
+        // Act: uma senha ocupa a única thread e outra ocupa a única vaga da fila
+        CompletableFuture<String> primeira = CompletableFuture.supplyAsync(() -> senhaService.codificar("a"));
+        ocupado.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> segunda = CompletableFuture.supplyAsync(() -> senhaService.codificar("b"));
+        while (registry.get("executor.queued").tag("name", "hash-senha").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // Assert
+        assertThatThrownBy(() -> senhaService.codificar("c"))
+                .isInstanceOf(ServicoSobrecarregadoException.class);
+        assertThat(registry.get("apitarefas.senha.rejeitadas").counter().count()).isEqualTo(1);
+
+        liberar.countDown();
+        assertThat(primeira.get(5, TimeUnit.SECONDS)).startsWith("$2a$04$");
+        assertThat(segunda.get(5, TimeUnit.SECONDS)).startsWith("$2a$04$");
+    }
+}
@@ -0,0 +1,489 @@
+package com.deigo.apiTarefas.Service;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarStatusEmLoteDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ContagemStatusDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.CriarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.PaginaTarefasDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.StatusTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.infrastructure.entitys.ContadorTarefasId;
+import com.deigo.apiTarefas.infrastructure.entitys.TarefasR2dbc;
+import com.deigo.apiTarefas.infrastructure.entitys.UsuarioR2dbc;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.exceptions.AcessoNegadoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.BuscaInvalidaException;
+import com.deigo.apiTarefas.infrastructure.exceptions.CursorInvalidoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.LoteInvalidoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.TarefaNaoEncontradaException;
+import com.deigo.apiTarefas.infrastructure.exceptions.UsuarioNaoEncontradoException;
+import com.deigo.apiTarefas.infrastructure.repository.TarefasReativoRepository;
+import com.deigo.apiTarefas.infrastructure.repository.UsuarioReativoRepository;
+import com.deigo.apiTarefas.service.ContadorTarefasReativoService;
+import com.deigo.apiTarefas.service.TarefasReativoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.r2dbc.dialect.H2Dialect;
+import org.springframework.data.r2dbc.dialect.MySqlDialect;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// Sem @InjectMocks: o dialeto decide entre busca no índice FULLTEXT e por substring
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do TarefasReativoService")
+class TarefasReativoServiceTest {
+
+    @Mock
+    private TarefasReativoRepository tarefasRepository;
+
+    @Mock
+    private UsuarioReativoRepository usuarioRepository;
+
+    @Mock
+    private ContadorTarefasReativoService contadorTarefasService;
+
+    private TarefasReativoService tarefasService;
+    private TarefasR2dbc tarefa;
+    private CriarTarefaDto criarTarefaDto;
+    private UUID usuarioId;
+    private UUID tarefaId;
+
+    @BeforeEach
+    void setUp() {
+        tarefasService = new TarefasReativoService(tarefasRepository, usuarioRepository, contadorTarefasService,
+                H2Dialect.INSTANCE);
+
+        usuarioId = UUID.randomUUID();
+        tarefaId = UUID.randomUUID();
+
+        tarefa = TarefasR2dbc.builder()
+                .id(tarefaId)
+                .titulo("Tarefa Teste")
+                .descricao("Descrição Teste")
+                .status(Status.PENDENTE)
+                .usuarioId(usuarioId)
+                .versao(0L)
+                .build();
+
+        criarTarefaDto = new CriarTarefaDto(
+                "Nova Tarefa",
+                "Descrição da nova tarefa",
+                Status.PENDENTE,
+                usuarioId
+        );
+    }
+
+    @Test
+    @DisplayName("Deve criar tarefa com ID v7 e registrar a transição no contador")
+    void deveCriarTarefaComSucesso() {
+        // Arrange
+        when(tarefasRepository.save(any(TarefasR2dbc.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(contadorTarefasService.registrarTransicao(usuarioId, null, Status.PENDENTE)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.criarTarefa(criarTarefaDto))
+                .assertNext(salva -> {
+                    assertThat(salva.getId()).isNotNull();
+                    assertThat(salva.getId().version()).isEqualTo(7);
+                    assertThat(salva.getTitulo()).isEqualTo("Nova Tarefa");
+                    assertThat(salva.getDescricao()).isEqualTo("Descrição da nova tarefa");
+                    assertThat(salva.getStatus()).isEqualTo(Status.PENDENTE);
+                    assertThat(salva.getUsuarioId()).isEqualTo(usuarioId);
+                })
+                .verifyComplete();
+
+        verify(usuarioRepository, never()).findById(any(UUID.class));
+        verify(contadorTarefasService, times(1)).registrarTransicao(usuarioId, null, Status.PENDENTE);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando usuário não existe ao criar tarefa")
+    void deveLancarExcecaoQuandoUsuarioNaoExisteAoCriarTarefa() {
+        // Arrange
+        when(tarefasRepository.save(any(TarefasR2dbc.class))).thenReturn(Mono.error(new DataIntegrityViolationException(
+                "Referential integrity constraint violation: \"FK_TAREFAS_USUARIO: PUBLIC.TAREFAS FOREIGN KEY(USUARIO_ID)\"")));
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.criarTarefa(criarTarefaDto))
+                .expectErrorSatisfies(erro -> assertThat(erro)
+                        .isInstanceOf(UsuarioNaoEncontradoException.class)
+                        .hasMessage("Usuario não encontrado com ID"))
+                .verify();
+
+        verifyNoInteractions(contadorTarefasService);
+    }
+
+    @Test
+    @DisplayName("Deve propagar violação que não é da FK do usuário ao criar tarefa")
+    void devePropagarOutraViolacaoAoCriarTarefa() {
+        // Arrange
+        DataIntegrityViolationException tituloLongo =
+                new DataIntegrityViolationException("Data too long for column 'titulo' at row 1");
+        when(tarefasRepository.save(any(TarefasR2dbc.class))).thenReturn(Mono.error(tituloLongo));
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.criarTarefa(criarTarefaDto))
+                .expectErrorSatisfies(erro -> assertThat(erro).isSameAs(tituloLongo))
+                .verify();
+
+        verifyNoInteractions(contadorTarefasService);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando usuarioId não é informado")
+    void deveLancarExcecaoQuandoUsuarioIdNulo() {
+        // Arrange
+        CriarTarefaDto semUsuario = new CriarTarefaDto("Tarefa", null, Status.PENDENTE, null);
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.criarTarefa(semUsuario))
+                .expectError(UsuarioNaoEncontradoException.class)
+                .verify();
+
+        verifyNoInteractions(tarefasRepository);
+    }
+
+    @Test
+    @DisplayName("Deve criar lote validando usuários com uma única consulta")
+    void deveCriarLoteValidandoUsuariosComUmaConsulta() {
+        // Arrange
+        UUID usuarioInexistente = UUID.randomUUID();
+        CriarTarefaDto dtoInvalido = new CriarTarefaDto("Sem dono", null, Status.PENDENTE, usuarioInexistente);
+        List<CriarTarefaDto> lote = List.of(criarTarefaDto, dtoInvalido, criarTarefaDto);
+
+        when(usuarioRepository.findAllById(Set.of(usuarioId, usuarioInexistente)))
+                .thenReturn(Flux.just(UsuarioR2dbc.builder().id(usuarioId).build()));
+        when(tarefasRepository.saveAll(anyList())).thenAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)));
+        when(contadorTarefasService.aplicar(any())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.criarTarefasEmLote(lote))
+                .assertNext(resultado -> {
+                    assertThat(resultado).hasSize(3);
+                    assertThat(resultado.get(0).id()).isNotNull();
+                    assertThat(resultado.get(1).id()).isNull();
+                    assertThat(resultado.get(1).erro()).isEqualTo("Usuario não encontrado com ID");
+                    assertThat(resultado.get(2).indice()).isEqualTo(2);
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<List<TarefasR2dbc>> captor = ArgumentCaptor.forClass(List.class);
+        verify(tarefasRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+        verify(tarefasRepository, never()).save(any(TarefasR2dbc.class));
+        verify(contadorTarefasService, times(1)).aplicar(Map.of(new ContadorTarefasId(usuarioId, Status.PENDENTE), 2L));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote acima do limite")
+    void deveRejeitarLoteAcimaDoLimite() {
+        // Arrange
+        List<CriarTarefaDto> lote = Collections.nCopies(5001, criarTarefaDto);
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.criarTarefasEmLote(lote))
+                .expectError(LoteInvalidoException.class)
+                .verify();
+
+        verifyNoInteractions(tarefasRepository, usuarioRepository);
+    }
+
+    @Test
+    @DisplayName("Deve buscar tarefa por ID convertendo a String para UUID")
+    void deveBuscarTarefaPorId() {
+        // Arrange
+        TarefaResumoDto resumo = TarefaResumoDto.de(tarefa);
+        when(tarefasRepository.findResumoById(tarefaId)).thenReturn(Mono.just(resumo));
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.buscarTarefaPeloId(tarefaId.toString()))
+                .expectNext(resumo)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Deve devolver cursor da próxima página e continuar a partir dele")
+    void deveDevolverCursorEContinuarAPartirDele() {
+        // Arrange
+        TarefaResumoDto resumo1 = TarefaResumoDto.de(tarefa);
+        TarefaResumoDto resumo2 = new TarefaResumoDto(UUID.randomUUID(), "Tarefa 2", null, null, usuarioId, 0L);
+        TarefaResumoDto resumo3 = new TarefaResumoDto(UUID.randomUUID(), "Tarefa 3", null, null, usuarioId, 0L);
+        when(tarefasRepository.findResumosDoUsuario(usuarioId, 3)).thenReturn(Flux.just(resumo1, resumo2, resumo3));
+        when(tarefasRepository.findResumosDoUsuarioApos(usuarioId, resumo2.id(), 3)).thenReturn(Flux.just(resumo3));
+
+        // Act
+        PaginaTarefasDto primeira = tarefasService.listarTarefas(usuarioId, null, 2).block();
+        PaginaTarefasDto segunda = tarefasService.listarTarefas(usuarioId, primeira.next(), 2).block();
+
+        // Assert
+        assertThat(primeira.itens()).containsExactly(resumo1, resumo2);
+        assertThat(primeira.next()).isNotBlank();
+        assertThat(segunda.itens()).containsExactly(resumo3);
+        assertThat(segunda.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página ao máximo permitido")
+    void deveLimitarTamanhoDaPagina() {
+        // Arrange
+        when(tarefasRepository.findResumosDoUsuario(eq(usuarioId), anyInt())).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.listarTarefas(usuarioId, null, 10_000))
+                .assertNext(pagina -> {
+                    assertThat(pagina.itens()).isEmpty();
+                    assertThat(pagina.next()).isNull();
+                })
+                .verifyComplete();
+
+        verify(tarefasRepository, times(1)).findResumosDoUsuario(usuarioId, 101);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando cursor é inválido")
+    void deveLancarExcecaoQuandoCursorInvalido() {
+        // Act & Assert
+        StepVerifier.create(tarefasService.listarTarefas(usuarioId, "cursor-invalido", 10))
+                .expectError(CursorInvalidoException.class)
+                .verify();
+
+        verifyNoInteractions(tarefasRepository);
+    }
+
+    @Test
+    @DisplayName("Deve buscar por substring fora do MySQL, com termo aparado e limite no máximo permitido")
+    void deveBuscarTarefasPorTrecho() {
+        // Arrange
+        when(tarefasRepository.buscarPorTrecho(any(), any(), any(), anyInt())).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.buscarTarefas(usuarioId, "  relatório ", Status.PENDENTE, 10_000))
+                .verifyComplete();
+
+        verify(tarefasRepository, times(1)).buscarPorTrecho("relatório", usuarioId, Status.PENDENTE, 100);
+        verify(tarefasRepository, never()).buscarPorTextoNoIndice(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve buscar no índice FULLTEXT quando o dialeto é MySQL")
+    void deveBuscarTarefasNoIndiceNoMySql() {
+        // Arrange
+        TarefasReativoService noMySql = new TarefasReativoService(tarefasRepository, usuarioRepository,
+                contadorTarefasService, MySqlDialect.INSTANCE);
+        when(tarefasRepository.buscarPorTextoNoIndice(any(), any(), any(), anyInt())).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(noMySql.buscarTarefas(usuarioId, "relatório", null, null))
+                .verifyComplete();
+
+        verify(tarefasRepository, times(1)).buscarPorTextoNoIndice("relatório", usuarioId, null, 20);
+        verify(tarefasRepository, never()).buscarPorTrecho(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando termo de busca está em branco")
+    void deveLancarExcecaoQuandoTermoDeBuscaEmBranco() {
+        // Act & Assert
+        StepVerifier.create(tarefasService.buscarTarefas(usuarioId, "   ", null, null))
+                .expectError(BuscaInvalidaException.class)
+                .verify();
+
+        verifyNoInteractions(tarefasRepository);
+    }
+
+    @Test
+    @DisplayName("Deve exportar as tarefas do usuário como resumo")
+    void deveExportarTarefas() {
+        // Arrange
+        TarefaResumoDto resumo = TarefaResumoDto.de(tarefa);
+        when(tarefasRepository.streamByUsuarioId(usuarioId)).thenReturn(Flux.just(resumo));
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.exportarTarefas(usuarioId))
+                .expectNext(resumo)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Deve atualizar apenas os campos informados e registrar a transição de status")
+    void deveAtualizarTarefa() {
+        // Arrange
+        when(tarefasRepository.findById(tarefaId)).thenReturn(Mono.just(tarefa));
+        when(tarefasRepository.save(any(TarefasR2dbc.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(contadorTarefasService.registrarTransicao(usuarioId, Status.PENDENTE, Status.CONCLUIDA)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.atualizarTarefaPeloId(usuarioId, tarefaId,
+                        new AtualizarTarefaDto(null, "Nova descrição", Status.CONCLUIDA)))
+                .assertNext(atualizada -> {
+                    assertThat(atualizada.getTitulo()).isEqualTo("Tarefa Teste");
+                    assertThat(atualizada.getDescricao()).isEqualTo("Nova descrição");
+                    assertThat(atualizada.getStatus()).isEqualTo(Status.CONCLUIDA);
+                })
+                .verifyComplete();
+
+        verify(contadorTarefasService, times(1)).registrarTransicao(usuarioId, Status.PENDENTE, Status.CONCLUIDA);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao atualizar tarefa inexistente")
+    void deveLancarExcecaoAoAtualizarTarefaInexistente() {
+        // Arrange
+        when(tarefasRepository.findById(tarefaId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.atualizarTarefaPeloId(usuarioId, tarefaId,
+                        new AtualizarTarefaDto("Título", null, null)))
+                .expectErrorSatisfies(erro -> assertThat(erro)
+                        .isInstanceOf(TarefaNaoEncontradaException.class)
+                        .hasMessage("Tarefa não encontrada"))
+                .verify();
+
+        verify(tarefasRepository, never()).save(any(TarefasR2dbc.class));
+    }
+
+    @Test
+    @DisplayName("Deve tratar tarefa de outro usuário como inexistente ao atualizar")
+    void deveTratarTarefaDeOutroUsuarioComoInexistente() {
+        // Arrange
+        when(tarefasRepository.findById(tarefaId)).thenReturn(Mono.just(tarefa));
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.atualizarTarefaPeloId(UUID.randomUUID(), tarefaId,
+                        new AtualizarTarefaDto("Título", null, null)))
+                .expectError(TarefaNaoEncontradaException.class)
+                .verify();
+
+        verify(tarefasRepository, never()).save(any(TarefasR2dbc.class));
+        verifyNoInteractions(contadorTarefasService);
+    }
+
+    @Test
+    @DisplayName("Deve contar por status, inclusive sem status, as tarefas travadas antes do UPDATE em lote")
+    void deveContarPorStatusAsTarefasTravadas() {
+        // Arrange
+        List<UUID> ids = List.of(tarefaId, UUID.randomUUID(), UUID.randomUUID());
+        when(tarefasRepository.travarTransicaoPorIds(usuarioId, ids, Status.CONCLUIDA)).thenReturn(Flux.just(
+                new StatusTarefaDto(Status.PENDENTE), new StatusTarefaDto(null), new StatusTarefaDto(Status.PENDENTE)));
+        when(tarefasRepository.atualizarStatusPorIds(usuarioId, ids, Status.CONCLUIDA)).thenReturn(Mono.just(3));
+        when(contadorTarefasService.registrarTransicoes(anyList(), eq(Status.CONCLUIDA))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.atualizarStatusEmLote(usuarioId,
+                        new AtualizarStatusEmLoteDto(Status.CONCLUIDA, ids, null, null)))
+                .assertNext(resultado -> assertThat(resultado.atualizadas()).isEqualTo(3))
+                .verifyComplete();
+
+        ArgumentCaptor<List<ContagemStatusDto>> captor = ArgumentCaptor.forClass(List.class);
+        InOrder ordem = inOrder(tarefasRepository, contadorTarefasService);
+        ordem.verify(tarefasRepository).travarTransicaoPorIds(usuarioId, ids, Status.CONCLUIDA);
+        ordem.verify(tarefasRepository).atualizarStatusPorIds(usuarioId, ids, Status.CONCLUIDA);
+        ordem.verify(contadorTarefasService).registrarTransicoes(captor.capture(), eq(Status.CONCLUIDA));
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(
+                new ContagemStatusDto(usuarioId, Status.PENDENTE, 2L),
+                new ContagemStatusDto(usuarioId, null, 1L));
+    }
+
+    @Test
+    @DisplayName("Deve atualizar status em lote pelo filtro de usuário e status atual")
+    void deveAtualizarStatusEmLotePorFiltro() {
+        // Arrange
+        when(tarefasRepository.travarTransicaoDoUsuario(usuarioId, Status.EM_ANDAMENTO, Status.CONCLUIDA))
+                .thenReturn(Flux.fromIterable(Collections.nCopies(7, new StatusTarefaDto(Status.EM_ANDAMENTO))));
+        when(tarefasRepository.atualizarStatusDoUsuario(usuarioId, Status.EM_ANDAMENTO, Status.CONCLUIDA)).thenReturn(Mono.just(7));
+        when(contadorTarefasService.registrarTransicoes(anyList(), eq(Status.CONCLUIDA))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.atualizarStatusEmLote(usuarioId,
+                        new AtualizarStatusEmLoteDto(Status.CONCLUIDA, null, usuarioId, Status.EM_ANDAMENTO)))
+                .assertNext(resultado -> assertThat(resultado.atualizadas()).isEqualTo(7))
+                .verifyComplete();
+
+        verify(tarefasRepository, never()).atualizarStatusPorIds(any(), any(), any());
+        verify(contadorTarefasService, times(1)).registrarTransicoes(
+                List.of(new ContagemStatusDto(usuarioId, Status.EM_ANDAMENTO, 7L)), Status.CONCLUIDA);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar atualização em lote sem alvo ou sem novo status")
+    void deveRejeitarAtualizacaoEmLoteInvalida() {
+        // Act & Assert
+        StepVerifier.create(tarefasService.atualizarStatusEmLote(usuarioId,
+                        new AtualizarStatusEmLoteDto(Status.CONCLUIDA, List.of(), null, null)))
+                .expectErrorMessage("Informe ids ou usuarioId")
+                .verify();
+        StepVerifier.create(tarefasService.atualizarStatusEmLote(usuarioId,
+                        new AtualizarStatusEmLoteDto(Status.CONCLUIDA, List.of(tarefaId), usuarioId, null)))
+                .expectErrorMessage("Informe ids ou usuarioId, não ambos")
+                .verify();
+        StepVerifier.create(tarefasService.atualizarStatusEmLote(usuarioId,
+                        new AtualizarStatusEmLoteDto(null, List.of(tarefaId), null, null)))
+                .expectError(LoteInvalidoException.class)
+                .verify();
+
+        verifyNoInteractions(tarefasRepository);
+    }
+
+    @Test
+    @DisplayName("Deve negar atualização em lote pelo filtro de outro usuário")
+    void deveNegarAtualizacaoEmLoteDeOutroUsuario() {
+        // Act & Assert
+        StepVerifier.create(tarefasService.atualizarStatusEmLote(UUID.randomUUID(),
+                        new AtualizarStatusEmLoteDto(Status.CONCLUIDA, null, usuarioId, null)))
+                .expectError(AcessoNegadoException.class)
+                .verify();
+
+        verifyNoInteractions(tarefasRepository, contadorTarefasService);
+    }
+
+    @Test
+    @DisplayName("Deve deletar tarefa e descontar do contador do status dela")
+    void deveDeletarTarefaQuandoExiste() {
+        // Arrange
+        when(tarefasRepository.findById(tarefaId)).thenReturn(Mono.just(tarefa));
+        when(tarefasRepository.delete(tarefa)).thenReturn(Mono.empty());
+        when(contadorTarefasService.registrarTransicao(usuarioId, Status.PENDENTE, null)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.deletarPeloId(usuarioId, tarefaId.toString()))
+                .verifyComplete();
+
+        verify(tarefasRepository, times(1)).delete(tarefa);
+        verify(contadorTarefasService, times(1)).registrarTransicao(usuarioId, Status.PENDENTE, null);
+    }
+
+    @Test
+    @DisplayName("Não deve deletar tarefa de outro usuário")
+    void naoDeveDeletarTarefaDeOutroUsuario() {
+        // Arrange
+        when(tarefasRepository.findById(tarefaId)).thenReturn(Mono.just(tarefa));
+
+        // Act & Assert
+        StepVerifier.create(tarefasService.deletarPeloId(UUID.randomUUID(), tarefaId.toString()))
+                .verifyComplete();
+
+        verify(tarefasRepository, never()).delete(any(TarefasR2dbc.class));
+        verifyNoInteractions(contadorTarefasService);
+    }
+}
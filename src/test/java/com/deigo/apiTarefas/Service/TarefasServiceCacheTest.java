@@ -0,0 +1,155 @@
+package com.deigo.apiTarefas.Service;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.infrastructure.cache.CacheConfig;
+import com.deigo.apiTarefas.infrastructure.entitys.Tarefas;
+import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.repository.TarefasRepository;
+import com.deigo.apiTarefas.infrastructure.repository.UsuarioRepository;
+import com.deigo.apiTarefas.service.ContadorTarefasService;
+import com.deigo.apiTarefas.service.TarefasService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(classes = {TarefasService.class, CacheConfig.class}, properties = {
+        "spring.cache.type=caffeine",
+        "spring.cache.cache-names=tarefas"
+})
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+@DisplayName("Testes do cache de TarefasService")
+class TarefasServiceCacheTest {
+
+    @Autowired
+    private TarefasService tarefasService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private TarefasRepository tarefasRepository;
+
+    @MockBean
+    private UsuarioRepository usuarioRepository;
+
+    @MockBean
+    private EntityManager entityManager;
+
+    @MockBean
+    private ContadorTarefasService contadorTarefasService;
+
+    private UUID tarefaId;
+    private TarefaResumoDto resumo;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.TAREFAS).clear();
+        tarefaId = UUID.randomUUID();
+        resumo = new TarefaResumoDto(tarefaId, "Tarefa", "Descrição", Status.PENDENTE, UUID.randomUUID(), 0L);
+        when(tarefasRepository.findResumoById(tarefaId)).thenReturn(Optional.of(resumo));
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco apenas uma vez para leituras repetidas")
+    void deveServirLeiturasRepetidasDoCache() {
+        // Act
+        tarefasService.buscarTarefaPeloId(tarefaId.toString());
+        Optional<TarefaResumoDto> resultado = tarefasService.buscarTarefaPeloId(tarefaId.toString().toUpperCase());
+
+        // Assert
+        assertThat(resultado).contains(resumo);
+        verify(tarefasRepository, times(1)).findResumoById(tarefaId);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar tarefa inexistente no cache")
+    void naoDeveGuardarTarefaInexistente() {
+        // Arrange
+        UUID inexistente = UUID.randomUUID();
+        when(tarefasRepository.findResumoById(inexistente)).thenReturn(Optional.empty());
+
+        // Act
+        tarefasService.buscarTarefaPeloId(inexistente.toString());
+        tarefasService.buscarTarefaPeloId(inexistente.toString());
+
+        // Assert
+        verify(tarefasRepository, times(2)).findResumoById(inexistente);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a entrada ao atualizar a tarefa")
+    void deveInvalidarAoAtualizar() {
+        // Arrange
+        Tarefas tarefa = Tarefas.builder().id(tarefaId).titulo("Tarefa").usuario(dono()).build();
+        when(tarefasRepository.findById(tarefaId)).thenReturn(Optional.of(tarefa));
+        when(tarefasRepository.saveAndFlush(any(Tarefas.class))).thenReturn(tarefa);
+        tarefasService.buscarTarefaPeloId(tarefaId.toString());
+
+        // Act
+        tarefasService.atualizarTarefaPeloId(resumo.usuarioId(), tarefaId, new AtualizarTarefaDto("Novo", null, null));
+        tarefasService.buscarTarefaPeloId(tarefaId.toString());
+
+        // Assert
+        verify(tarefasRepository, times(2)).findResumoById(tarefaId);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a entrada ao deletar a tarefa")
+    void deveInvalidarAoDeletar() {
+        // Arrange
+        when(tarefasRepository.findById(tarefaId)).thenReturn(Optional.of(Tarefas.builder().id(tarefaId).usuario(dono()).build()));
+        tarefasService.buscarTarefaPeloId(tarefaId.toString());
+
+        // Act
+        tarefasService.deletarPeloId(resumo.usuarioId(), tarefaId.toString());
+        tarefasService.buscarTarefaPeloId(tarefaId.toString());
+
+        // Assert
+        verify(tarefasRepository, times(2)).findResumoById(tarefaId);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a entrada só depois do commit da transação")
+    void deveInvalidarSoDepoisDoCommit() {
+        // Arrange
+        when(tarefasRepository.findById(tarefaId)).thenReturn(Optional.of(Tarefas.builder().id(tarefaId).usuario(dono()).build()));
+        tarefasService.buscarTarefaPeloId(tarefaId.toString());
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // Act
+            tarefasService.deletarPeloId(resumo.usuarioId(), tarefaId.toString());
+
+            // Assert
+            assertThat(cacheManager.getCache(CacheConfig.TAREFAS).get(tarefaId)).isNotNull();
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(cacheManager.getCache(CacheConfig.TAREFAS).get(tarefaId)).isNull();
+    }
+
+    private Usuario dono() {
+        Usuario usuario = new Usuario();
+        usuario.setId(resumo.usuarioId());
+        return usuario;
+    }
+}
@@ -1,26 +1,52 @@
 package com.deigo.apiTarefas.Service;
 
+import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarStatusEmLoteDto;
 import com.deigo.apiTarefas.controller.dtoTarefas.AtualizarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ContagemStatusDto;
 import com.deigo.apiTarefas.controller.dtoTarefas.CriarTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.PaginaTarefasDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ResultadoAtualizacaoEmLoteDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.ResultadoLoteTarefaDto;
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
 import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.entitys.ContadorTarefasId;
 import com.deigo.apiTarefas.infrastructure.entitys.Tarefas;
 import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
+import com.deigo.apiTarefas.infrastructure.exceptions.AcessoNegadoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.BuscaInvalidaException;
+import com.deigo.apiTarefas.infrastructure.exceptions.CursorInvalidoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.LoteInvalidoException;
+import com.deigo.apiTarefas.infrastructure.exceptions.TarefaNaoEncontradaException;
+import com.deigo.apiTarefas.infrastructure.exceptions.UsuarioNaoEncontradoException;
 import com.deigo.apiTarefas.infrastructure.repository.TarefasRepository;
 import com.deigo.apiTarefas.infrastructure.repository.UsuarioRepository;
+import com.deigo.apiTarefas.service.ContadorTarefasService;
 import com.deigo.apiTarefas.service.TarefasService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.DataException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -37,6 +63,12 @@ class TarefasServiceTest {
     @Mock
     private UsuarioRepository usuarioRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ContadorTarefasService contadorTarefasService;
+
     @InjectMocks
     private TarefasService tarefasService;
 
@@ -77,7 +109,7 @@ class TarefasServiceTest {
     @DisplayName("Deve criar tarefa com sucesso quando usuário existe")
     void deveCriarTarefaComSucesso() {
         // Arrange
-        when(usuarioRepository.findById(usuarioId)).thenReturn(Optional.of(usuario));
+        when(usuarioRepository.getReferenceById(usuarioId)).thenReturn(usuario);
         when(tarefasRepository.saveAndFlush(any(Tarefas.class))).thenReturn(tarefa);
 
         // Act
@@ -85,7 +117,8 @@ class TarefasServiceTest {
 
         // Assert
         ArgumentCaptor<Tarefas> tarefaCaptor = ArgumentCaptor.forClass(Tarefas.class);
-        verify(usuarioRepository, times(1)).findById(usuarioId);
+        verify(usuarioRepository, times(1)).getReferenceById(usuarioId);
+        verify(usuarioRepository, never()).findById(any(UUID.class));
         verify(tarefasRepository, times(1)).saveAndFlush(tarefaCaptor.capture());
 
         Tarefas tarefaSalva = tarefaCaptor.getValue();
@@ -94,20 +127,53 @@ class TarefasServiceTest {
         assertThat(tarefaSalva.getStatus()).isEqualTo(Status.PENDENTE);
         assertThat(tarefaSalva.getUsuario()).isEqualTo(usuario);
         assertThat(resultado).isNotNull();
+        verify(contadorTarefasService, times(1)).registrarTransicao(usuarioId, null, Status.PENDENTE);
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando usuário não existe ao criar tarefa")
     void deveLancarExcecaoQuandoUsuarioNaoExisteAoCriarTarefa() {
         // Arrange
-        when(usuarioRepository.findById(usuarioId)).thenReturn(Optional.empty());
+        when(usuarioRepository.getReferenceById(usuarioId)).thenReturn(usuario);
+        when(tarefasRepository.saveAndFlush(any(Tarefas.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement",
+                        new ConstraintViolationException("Referential integrity constraint violation",
+                                new SQLException(), "PUBLIC.FK_TAREFAS_USUARIO")));
 
         // Act & Assert
         assertThatThrownBy(() -> tarefasService.criarTarefa(criarTarefaDto))
-                .isInstanceOf(RuntimeException.class)
+                .isInstanceOf(UsuarioNaoEncontradoException.class)
                 .hasMessage("Usuario não encontrado com ID");
 
-        verify(usuarioRepository, times(1)).findById(usuarioId);
+        verify(usuarioRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Deve propagar violação que não é da FK do usuário ao criar tarefa")
+    void devePropagarOutraViolacaoAoCriarTarefa() {
+        // Arrange
+        DataIntegrityViolationException tituloLongo = new DataIntegrityViolationException("could not execute statement",
+                new DataException("Data too long for column 'titulo' at row 1", new SQLException()));
+        when(usuarioRepository.getReferenceById(usuarioId)).thenReturn(usuario);
+        when(tarefasRepository.saveAndFlush(any(Tarefas.class))).thenThrow(tituloLongo);
+
+        // Act & Assert
+        assertThatThrownBy(() -> tarefasService.criarTarefa(criarTarefaDto))
+                .isSameAs(tituloLongo);
+
+        verify(contadorTarefasService, never()).registrarTransicao(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando usuarioId não é informado")
+    void deveLancarExcecaoQuandoUsuarioIdNulo() {
+        // Arrange
+        CriarTarefaDto semUsuario = new CriarTarefaDto("Tarefa", null, Status.PENDENTE, null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> tarefasService.criarTarefa(semUsuario))
+                .isInstanceOf(UsuarioNaoEncontradoException.class);
+
         verify(tarefasRepository, never()).saveAndFlush(any(Tarefas.class));
     }
 
@@ -129,7 +195,7 @@ class TarefasServiceTest {
                 .usuario(usuario)
                 .build();
 
-        when(usuarioRepository.findById(usuarioId)).thenReturn(Optional.of(usuario));
+        when(usuarioRepository.getReferenceById(usuarioId)).thenReturn(usuario);
         when(tarefasRepository.saveAndFlush(any(Tarefas.class))).thenReturn(tarefaEmAndamento);
 
         // Act
@@ -141,21 +207,69 @@ class TarefasServiceTest {
         assertThat(captor.getValue().getStatus()).isEqualTo(Status.EM_ANDAMENTO);
     }
 
+    @Test
+    @DisplayName("Deve criar lote validando usuários com uma única consulta")
+    void deveCriarLoteValidandoUsuariosComUmaConsulta() {
+        // Arrange
+        UUID usuarioInexistente = UUID.randomUUID();
+        CriarTarefaDto dtoInvalido = new CriarTarefaDto("Sem dono", null, Status.PENDENTE, usuarioInexistente);
+        List<CriarTarefaDto> lote = List.of(criarTarefaDto, dtoInvalido, criarTarefaDto);
+
+        when(usuarioRepository.findIdsExistentes(any())).thenReturn(Set.of(usuarioId));
+        when(usuarioRepository.getReferenceById(usuarioId)).thenReturn(usuario);
+        when(tarefasRepository.save(any(Tarefas.class))).thenAnswer(invocation -> {
+            Tarefas salva = invocation.getArgument(0);
+            salva.setId(UUID.randomUUID());
+            return salva;
+        });
+
+        // Act
+        List<ResultadoLoteTarefaDto> resultado = tarefasService.criarTarefasEmLote(lote);
+
+        // Assert
+        assertThat(resultado).hasSize(3);
+        assertThat(resultado.get(0).id()).isNotNull();
+        assertThat(resultado.get(1).id()).isNull();
+        assertThat(resultado.get(1).erro()).isEqualTo("Usuario não encontrado com ID");
+        assertThat(resultado.get(2).indice()).isEqualTo(2);
+        verify(usuarioRepository, times(1)).findIdsExistentes(Set.of(usuarioId, usuarioInexistente));
+        verify(usuarioRepository, never()).findById(any(UUID.class));
+        verify(tarefasRepository, times(2)).save(any(Tarefas.class));
+        verify(tarefasRepository, never()).saveAndFlush(any(Tarefas.class));
+        verify(entityManager, atLeastOnce()).flush();
+        verify(contadorTarefasService, times(1)).aplicar(Map.of(new ContadorTarefasId(usuarioId, Status.PENDENTE), 2L));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote acima do limite")
+    void deveRejeitarLoteAcimaDoLimite() {
+        // Arrange
+        List<CriarTarefaDto> lote = Collections.nCopies(5001, criarTarefaDto);
+
+        // Act & Assert
+        assertThatThrownBy(() -> tarefasService.criarTarefasEmLote(lote))
+                .isInstanceOf(LoteInvalidoException.class);
+
+        verify(tarefasRepository, never()).save(any(Tarefas.class));
+    }
+
     @Test
     @DisplayName("Deve buscar tarefa por ID quando existe")
     void deveBuscarTarefaPorIdQuandoExiste() {
         // Arrange
         String tarefaIdString = tarefaId.toString();
-        when(tarefasRepository.findById(tarefaId)).thenReturn(Optional.of(tarefa));
+        when(tarefasRepository.findResumoById(tarefaId)).thenReturn(Optional.of(TarefaResumoDto.de(tarefa)));
 
         // Act
-        Optional<Tarefas> resultado = tarefasService.buscarTarefaPeloId(tarefaIdString);
+        Optional<TarefaResumoDto> resultado = tarefasService.buscarTarefaPeloId(tarefaIdString);
 
         // Assert
         assertThat(resultado).isPresent();
-        assertThat(resultado.get().getId()).isEqualTo(tarefaId);
-        assertThat(resultado.get().getTitulo()).isEqualTo("Tarefa Teste");
-        verify(tarefasRepository, times(1)).findById(tarefaId);
+        assertThat(resultado.get().id()).isEqualTo(tarefaId);
+        assertThat(resultado.get().titulo()).isEqualTo("Tarefa Teste");
+        assertThat(resultado.get().usuarioId()).isEqualTo(usuarioId);
+        verify(tarefasRepository, times(1)).findResumoById(tarefaId);
+        verify(tarefasRepository, never()).findById(any(UUID.class));
     }
 
     @Test
@@ -163,14 +277,14 @@ class TarefasServiceTest {
     void deveRetornarOptionalVazioQuandoTarefaNaoExiste() {
         // Arrange
         String tarefaIdString = tarefaId.toString();
-        when(tarefasRepository.findById(tarefaId)).thenReturn(Optional.empty());
+        when(tarefasRepository.findResumoById(tarefaId)).thenReturn(Optional.empty());
 
         // Act
-        Optional<Tarefas> resultado = tarefasService.buscarTarefaPeloId(tarefaIdString);
+        Optional<TarefaResumoDto> resultado = tarefasService.buscarTarefaPeloId(tarefaIdString);
 
         // Assert
         assertThat(resultado).isEmpty();
-        verify(tarefasRepository, times(1)).findById(tarefaId);
+        verify(tarefasRepository, times(1)).findResumoById(tarefaId);
     }
 
     @Test
@@ -180,58 +294,148 @@ class TarefasServiceTest {
         String uuidValido = "550e8400-e29b-41d4-a716-446655440000";
         UUID uuidEsperado = UUID.fromString(uuidValido);
 
-        Tarefas tarefaEsperada = Tarefas.builder()
-                .id(uuidEsperado)
-                .titulo("Tarefa UUID")
-                .build();
+        TarefaResumoDto tarefaEsperada = new TarefaResumoDto(uuidEsperado, "Tarefa UUID", null, null, null, 0L);
 
-        when(tarefasRepository.findById(uuidEsperado)).thenReturn(Optional.of(tarefaEsperada));
+        when(tarefasRepository.findResumoById(uuidEsperado)).thenReturn(Optional.of(tarefaEsperada));
 
         // Act
-        Optional<Tarefas> resultado = tarefasService.buscarTarefaPeloId(uuidValido);
+        Optional<TarefaResumoDto> resultado = tarefasService.buscarTarefaPeloId(uuidValido);
 
         // Assert
         assertThat(resultado).isPresent();
-        assertThat(resultado.get().getId()).isEqualTo(uuidEsperado);
-        verify(tarefasRepository, times(1)).findById(uuidEsperado);
+        assertThat(resultado.get().id()).isEqualTo(uuidEsperado);
+        verify(tarefasRepository, times(1)).findResumoById(uuidEsperado);
     }
 
     @Test
-    @DisplayName("Deve listar todas as tarefas")
-    void deveListarTodasTarefas() {
+    @DisplayName("Deve listar a primeira página de tarefas sem cursor")
+    void deveListarPrimeiraPaginaSemCursor() {
         // Arrange
-        Tarefas tarefa2 = Tarefas.builder()
-                .id(UUID.randomUUID())
-                .titulo("Tarefa 2")
-                .descricao("Descrição 2")
-                .status(Status.CONCLUIDA)
-                .usuario(usuario)
-                .build();
+        TarefaResumoDto resumo1 = TarefaResumoDto.de(tarefa);
+        TarefaResumoDto resumo2 = new TarefaResumoDto(UUID.randomUUID(), "Tarefa 2", "Descrição 2", Status.CONCLUIDA, usuarioId, 0L);
 
-        List<Tarefas> tarefas = Arrays.asList(tarefa, tarefa2);
-        when(tarefasRepository.findAll()).thenReturn(tarefas);
+        List<TarefaResumoDto> tarefas = Arrays.asList(resumo1, resumo2);
+        when(tarefasRepository.findResumosDoUsuario(usuarioId, Limit.of(21))).thenReturn(tarefas);
 
         // Act
-        List<Tarefas> resultado = tarefasService.listarTarefas();
+        PaginaTarefasDto resultado = tarefasService.listarTarefas(usuarioId, null, null);
 
         // Assert
-        assertThat(resultado).hasSize(2);
-        assertThat(resultado).containsExactly(tarefa, tarefa2);
-        verify(tarefasRepository, times(1)).findAll();
+        assertThat(resultado.itens()).containsExactly(resumo1, resumo2);
+        assertThat(resultado.next()).isNull();
+        verify(tarefasRepository, times(1)).findResumosDoUsuario(usuarioId, Limit.of(21));
+        verify(tarefasRepository, never()).findAll();
     }
 
     @Test
-    @DisplayName("Deve retornar lista vazia quando não há tarefas")
+    @DisplayName("Deve retornar página vazia quando não há tarefas")
     void deveRetornarListaVaziaQuandoNaoHaTarefas() {
         // Arrange
-        when(tarefasRepository.findAll()).thenReturn(List.of());
+        when(tarefasRepository.findResumosDoUsuario(eq(usuarioId), any(Limit.class))).thenReturn(List.of());
 
         // Act
-        List<Tarefas> resultado = tarefasService.listarTarefas();
+        PaginaTarefasDto resultado = tarefasService.listarTarefas(usuarioId, null, 10);
 
         // Assert
-        assertThat(resultado).isEmpty();
-        verify(tarefasRepository, times(1)).findAll();
+        assertThat(resultado.itens()).isEmpty();
+        assertThat(resultado.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve devolver cursor da próxima página e continuar a partir dele")
+    void deveDevolverCursorEContinuarAPartirDele() {
+        // Arrange
+        TarefaResumoDto resumo1 = TarefaResumoDto.de(tarefa);
+        TarefaResumoDto resumo2 = new TarefaResumoDto(UUID.randomUUID(), "Tarefa 2", null, null, usuarioId, 0L);
+        TarefaResumoDto resumo3 = new TarefaResumoDto(UUID.randomUUID(), "Tarefa 3", null, null, usuarioId, 0L);
+        when(tarefasRepository.findResumosDoUsuario(usuarioId, Limit.of(3))).thenReturn(List.of(resumo1, resumo2, resumo3));
+        when(tarefasRepository.findResumosDoUsuarioApos(usuarioId, resumo2.id(), Limit.of(3))).thenReturn(List.of(resumo3));
+
+        // Act
+        PaginaTarefasDto primeira = tarefasService.listarTarefas(usuarioId, null, 2);
+        PaginaTarefasDto segunda = tarefasService.listarTarefas(usuarioId, primeira.next(), 2);
+
+        // Assert
+        assertThat(primeira.itens()).containsExactly(resumo1, resumo2);
+        assertThat(primeira.next()).isNotBlank();
+        assertThat(segunda.itens()).containsExactly(resumo3);
+        assertThat(segunda.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página ao máximo permitido")
+    void deveLimitarTamanhoDaPagina() {
+        // Arrange
+        when(tarefasRepository.findResumosDoUsuario(eq(usuarioId), any(Limit.class))).thenReturn(List.of());
+
+        // Act
+        tarefasService.listarTarefas(usuarioId, null, 10_000);
+
+        // Assert
+        verify(tarefasRepository, times(1)).findResumosDoUsuario(usuarioId, Limit.of(101));
+    }
+
+    @Test
+    @DisplayName("Deve buscar por texto com termo aparado e limite no máximo permitido")
+    void deveBuscarTarefasPorTexto() {
+        // Arrange
+        when(tarefasRepository.buscarPorTexto(any(), any(), any(), any(Limit.class))).thenReturn(List.of());
+
+        // Act
+        tarefasService.buscarTarefas(usuarioId, "  relatório ", Status.PENDENTE, 10_000);
+
+        // Assert
+        verify(tarefasRepository, times(1)).buscarPorTexto("relatório", usuarioId, Status.PENDENTE, Limit.of(100));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando termo de busca está em branco")
+    void deveLancarExcecaoQuandoTermoDeBuscaEmBranco() {
+        // Act & Assert
+        assertThatThrownBy(() -> tarefasService.buscarTarefas(usuarioId, "   ", null, null))
+                .isInstanceOf(BuscaInvalidaException.class);
+        verifyNoInteractions(tarefasRepository);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando cursor é inválido")
+    void deveLancarExcecaoQuandoCursorInvalido() {
+        // Act & Assert
+        assertThatThrownBy(() -> tarefasService.listarTarefas(usuarioId, "cursor-invalido", 10))
+                .isInstanceOf(CursorInvalidoException.class);
+
+        verify(tarefasRepository, never()).findResumosDoUsuarioApos(any(UUID.class), any(UUID.class), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Deve exportar tarefas como resumo e fechar o stream")
+    void deveExportarTarefasComoResumo() {
+        // Arrange
+        Stream<Tarefas> stream = Stream.of(tarefa);
+        List<TarefaResumoDto> exportadas = new ArrayList<>();
+        when(tarefasRepository.streamByUsuarioId(usuarioId)).thenReturn(stream);
+
+        // Act
+        tarefasService.exportarTarefas(usuarioId, exportadas::add);
+
+        // Assert
+        assertThat(exportadas).containsExactly(
+                new TarefaResumoDto(tarefaId, "Tarefa Teste", "Descrição Teste", Status.PENDENTE, usuarioId, 0L));
+        verify(tarefasRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve limpar o contexto de persistência a cada lote exportado")
+    void deveLimparContextoACadaLote() {
+        // Arrange
+        Stream<Tarefas> stream = Stream.generate(() -> tarefa).limit(2500);
+        when(tarefasRepository.streamByUsuarioId(usuarioId)).thenReturn(stream);
+
+        // Act
+        tarefasService.exportarTarefas(usuarioId, resumo -> { });
+
+        // Assert
+        verify(entityManager, times(2)).clear();
     }
 
     @Test
@@ -248,7 +452,7 @@ class TarefasServiceTest {
         when(tarefasRepository.saveAndFlush(any(Tarefas.class))).thenReturn(tarefa);
 
         // Act
-        Tarefas resultado = tarefasService.atualizarTarefaPeloId(tarefaId, dto);
+        Tarefas resultado = tarefasService.atualizarTarefaPeloId(usuarioId, tarefaId, dto);
 
         // Assert
         verify(tarefasRepository, times(1)).findById(tarefaId);
@@ -272,7 +476,7 @@ class TarefasServiceTest {
         when(tarefasRepository.saveAndFlush(any(Tarefas.class))).thenReturn(tarefa);
 
         // Act
-        Tarefas resultado = tarefasService.atualizarTarefaPeloId(tarefaId, dto);
+        Tarefas resultado = tarefasService.atualizarTarefaPeloId(usuarioId, tarefaId, dto);
 
         // Assert
         assertThat(tarefa.getTitulo()).isEqualTo("Novo Título");
@@ -294,12 +498,13 @@ class TarefasServiceTest {
         when(tarefasRepository.saveAndFlush(any(Tarefas.class))).thenReturn(tarefa);
 
         // Act
-        Tarefas resultado = tarefasService.atualizarTarefaPeloId(tarefaId, dto);
+        Tarefas resultado = tarefasService.atualizarTarefaPeloId(usuarioId, tarefaId, dto);
 
         // Assert
         assertThat(tarefa.getTitulo()).isEqualTo("Tarefa Teste"); // Não mudou
         assertThat(tarefa.getDescricao()).isEqualTo("Descrição Teste"); // Não mudou
         assertThat(tarefa.getStatus()).isEqualTo(Status.EM_ANDAMENTO);
+        verify(contadorTarefasService, times(1)).registrarTransicao(usuarioId, Status.PENDENTE, Status.EM_ANDAMENTO);
     }
 
     @Test
@@ -316,29 +521,134 @@ class TarefasServiceTest {
         when(tarefasRepository.findById(idInexistente)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> tarefasService.atualizarTarefaPeloId(idInexistente, dto))
-                .isInstanceOf(RuntimeException.class)
+        assertThatThrownBy(() -> tarefasService.atualizarTarefaPeloId(usuarioId, idInexistente, dto))
+                .isInstanceOf(TarefaNaoEncontradaException.class)
                 .hasMessage("Tarefa não encontrada");
 
         verify(tarefasRepository, times(1)).findById(idInexistente);
         verify(tarefasRepository, never()).saveAndFlush(any(Tarefas.class));
     }
 
+    @Test
+    @DisplayName("Deve tratar tarefa de outro usuário como inexistente ao atualizar")
+    void deveTratarTarefaDeOutroUsuarioComoInexistenteAoAtualizar() {
+        // Arrange
+        when(tarefasRepository.findById(tarefaId)).thenReturn(Optional.of(tarefa));
+
+        // Act & Assert
+        assertThatThrownBy(() -> tarefasService.atualizarTarefaPeloId(UUID.randomUUID(), tarefaId,
+                new AtualizarTarefaDto("Título", null, null)))
+                .isInstanceOf(TarefaNaoEncontradaException.class)
+                .hasMessage("Tarefa não encontrada");
+
+        assertThat(tarefa.getTitulo()).isEqualTo("Tarefa Teste");
+        verify(tarefasRepository, never()).saveAndFlush(any(Tarefas.class));
+        verifyNoInteractions(contadorTarefasService);
+    }
+
+    @Test
+    @DisplayName("Deve atualizar status em lote pelos IDs sem carregar entidades")
+    void deveAtualizarStatusEmLotePorIds() {
+        // Arrange
+        List<UUID> ids = List.of(tarefaId, UUID.randomUUID());
+        when(tarefasRepository.atualizarStatusPorIds(usuarioId, ids, Status.CONCLUIDA)).thenReturn(2);
+
+        // Act
+        ResultadoAtualizacaoEmLoteDto resultado = tarefasService.atualizarStatusEmLote(usuarioId,
+                new AtualizarStatusEmLoteDto(Status.CONCLUIDA, ids, null, null));
+
+        // Assert
+        assertThat(resultado.atualizadas()).isEqualTo(2);
+        verify(tarefasRepository, never()).findById(any(UUID.class));
+        verify(tarefasRepository, never()).saveAndFlush(any(Tarefas.class));
+    }
+
+    @Test
+    @DisplayName("Deve contar por status, inclusive sem status, as tarefas travadas antes do UPDATE em lote")
+    void deveContarPorStatusAsTarefasTravadas() {
+        // Arrange
+        List<UUID> ids = List.of(tarefaId, UUID.randomUUID(), UUID.randomUUID());
+        when(tarefasRepository.travarTransicaoPorIds(usuarioId, ids, Status.CONCLUIDA))
+                .thenReturn(Arrays.asList(Status.PENDENTE, null, Status.PENDENTE));
+        when(tarefasRepository.atualizarStatusPorIds(usuarioId, ids, Status.CONCLUIDA)).thenReturn(3);
+
+        // Act
+        tarefasService.atualizarStatusEmLote(usuarioId, new AtualizarStatusEmLoteDto(Status.CONCLUIDA, ids, null, null));
+
+        // Assert
+        ArgumentCaptor<List<ContagemStatusDto>> captor = ArgumentCaptor.forClass(List.class);
+        InOrder ordem = inOrder(tarefasRepository, contadorTarefasService);
+        ordem.verify(tarefasRepository).travarTransicaoPorIds(usuarioId, ids, Status.CONCLUIDA);
+        ordem.verify(tarefasRepository).atualizarStatusPorIds(usuarioId, ids, Status.CONCLUIDA);
+        ordem.verify(contadorTarefasService).registrarTransicoes(captor.capture(), eq(Status.CONCLUIDA));
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(
+                new ContagemStatusDto(usuarioId, Status.PENDENTE, 2L),
+                new ContagemStatusDto(usuarioId, null, 1L));
+    }
+
+    @Test
+    @DisplayName("Deve atualizar status em lote pelo filtro de usuário e status atual")
+    void deveAtualizarStatusEmLotePorFiltro() {
+        // Arrange
+        when(tarefasRepository.travarTransicaoDoUsuario(usuarioId, Status.EM_ANDAMENTO, Status.CONCLUIDA))
+                .thenReturn(Collections.nCopies(7, Status.EM_ANDAMENTO));
+        when(tarefasRepository.atualizarStatusDoUsuario(usuarioId, Status.EM_ANDAMENTO, Status.CONCLUIDA)).thenReturn(7);
+
+        // Act
+        ResultadoAtualizacaoEmLoteDto resultado = tarefasService.atualizarStatusEmLote(usuarioId,
+                new AtualizarStatusEmLoteDto(Status.CONCLUIDA, null, usuarioId, Status.EM_ANDAMENTO));
+
+        // Assert
+        assertThat(resultado.atualizadas()).isEqualTo(7);
+        verify(tarefasRepository, never()).atualizarStatusPorIds(any(), any(), any());
+        verify(contadorTarefasService, times(1)).registrarTransicoes(
+                List.of(new ContagemStatusDto(usuarioId, Status.EM_ANDAMENTO, 7L)), Status.CONCLUIDA);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar atualização em lote sem alvo ou sem novo status")
+    void deveRejeitarAtualizacaoEmLoteInvalida() {
+        // Act & Assert
+        assertThatThrownBy(() -> tarefasService.atualizarStatusEmLote(usuarioId,
+                new AtualizarStatusEmLoteDto(Status.CONCLUIDA, List.of(), null, null)))
+                .isInstanceOf(LoteInvalidoException.class)
+                .hasMessage("Informe ids ou usuarioId");
+        assertThatThrownBy(() -> tarefasService.atualizarStatusEmLote(usuarioId,
+                new AtualizarStatusEmLoteDto(Status.CONCLUIDA, List.of(tarefaId), usuarioId, null)))
+                .isInstanceOf(LoteInvalidoException.class)
+                .hasMessage("Informe ids ou usuarioId, não ambos");
+        assertThatThrownBy(() -> tarefasService.atualizarStatusEmLote(usuarioId,
+                new AtualizarStatusEmLoteDto(null, List.of(tarefaId), null, null)))
+                .isInstanceOf(LoteInvalidoException.class);
+
+        verifyNoInteractions(tarefasRepository);
+    }
+
+    @Test
+    @DisplayName("Deve negar atualização em lote pelo filtro de outro usuário")
+    void deveNegarAtualizacaoEmLoteDeOutroUsuario() {
+        // Act & Assert
+        assertThatThrownBy(() -> tarefasService.atualizarStatusEmLote(UUID.randomUUID(),
+                new AtualizarStatusEmLoteDto(Status.CONCLUIDA, null, usuarioId, null)))
+                .isInstanceOf(AcessoNegadoException.class);
+
+        verifyNoInteractions(tarefasRepository, contadorTarefasService);
+    }
 
     @Test
     @DisplayName("Deve deletar tarefa quando existe")
     void deveDeletarTarefaQuandoExiste() {
         // Arrange
         String tarefaIdString = tarefaId.toString();
-        when(tarefasRepository.existsById(tarefaId)).thenReturn(true);
-        doNothing().when(tarefasRepository).deleteById(tarefaId);
+        when(tarefasRepository.findById(tarefaId)).thenReturn(Optional.of(tarefa));
 
         // Act
-        tarefasService.deletarPeloId(tarefaIdString);
+        tarefasService.deletarPeloId(usuarioId, tarefaIdString);
 
         // Assert
-        verify(tarefasRepository, times(1)).existsById(tarefaId);
-        verify(tarefasRepository, times(1)).deleteById(tarefaId);
+        verify(tarefasRepository, times(1)).findById(tarefaId);
+        verify(tarefasRepository, times(1)).delete(tarefa);
+        verify(contadorTarefasService, times(1)).registrarTransicao(usuarioId, Status.PENDENTE, null);
     }
 
     @Test
@@ -346,14 +656,29 @@ class TarefasServiceTest {
     void naoDeveDeletarQuandoTarefaNaoExiste() {
         // Arrange
         String tarefaIdString = tarefaId.toString();
-        when(tarefasRepository.existsById(tarefaId)).thenReturn(false);
+        when(tarefasRepository.findById(tarefaId)).thenReturn(Optional.empty());
+
+        // Act
+        tarefasService.deletarPeloId(usuarioId, tarefaIdString);
+
+        // Assert
+        verify(tarefasRepository, times(1)).findById(tarefaId);
+        verify(tarefasRepository, never()).delete(any(Tarefas.class));
+        verifyNoInteractions(contadorTarefasService);
+    }
+
+    @Test
+    @DisplayName("Não deve deletar tarefa de outro usuário")
+    void naoDeveDeletarTarefaDeOutroUsuario() {
+        // Arrange
+        when(tarefasRepository.findById(tarefaId)).thenReturn(Optional.of(tarefa));
 
         // Act
-        tarefasService.deletarPeloId(tarefaIdString);
+        tarefasService.deletarPeloId(UUID.randomUUID(), tarefaId.toString());
 
         // Assert
-        verify(tarefasRepository, times(1)).existsById(tarefaId);
-        verify(tarefasRepository, never()).deleteById(any(UUID.class));
+        verify(tarefasRepository, never()).delete(any(Tarefas.class));
+        verifyNoInteractions(contadorTarefasService);
     }
 
     @Test
@@ -363,14 +688,13 @@ class TarefasServiceTest {
         String uuidValido = "550e8400-e29b-41d4-a716-446655440000";
         UUID uuidEsperado = UUID.fromString(uuidValido);
 
-        when(tarefasRepository.existsById(uuidEsperado)).thenReturn(true);
-        doNothing().when(tarefasRepository).deleteById(uuidEsperado);
+        when(tarefasRepository.findById(uuidEsperado)).thenReturn(Optional.of(tarefa));
 
         // Act
-        tarefasService.deletarPeloId(uuidValido);
+        tarefasService.deletarPeloId(usuarioId, uuidValido);
 
         // Assert
-        verify(tarefasRepository, times(1)).existsById(uuidEsperado);
-        verify(tarefasRepository, times(1)).deleteById(uuidEsperado);
+        verify(tarefasRepository, times(1)).findById(uuidEsperado);
+        verify(tarefasRepository, times(1)).delete(tarefa);
     }
 }
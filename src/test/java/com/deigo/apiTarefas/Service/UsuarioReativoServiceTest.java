@@ -0,0 +1,263 @@
+package com.deigo.apiTarefas.Service;
+
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.AtualizarUsuariosDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.CriarUsuariosDto;
+import com.deigo.apiTarefas.controller.dtoUsuarios.UsuarioResumoDto;
+import com.deigo.apiTarefas.infrastructure.entitys.UsuarioR2dbc;
+import com.deigo.apiTarefas.infrastructure.enumTarefas.Status;
+import com.deigo.apiTarefas.infrastructure.exceptions.EmailJaCadastradoException;
+import com.deigo.apiTarefas.infrastructure.repository.TarefasReativoRepository;
+import com.deigo.apiTarefas.infrastructure.repository.UsuarioReativoRepository;
+import com.deigo.apiTarefas.service.ContadorTarefasReativoService;
+import com.deigo.apiTarefas.service.SenhaService;
+import com.deigo.apiTarefas.service.UsuarioReativoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do UsuarioReativoService")
+class UsuarioReativoServiceTest {
+
+    @Mock
+    private UsuarioReativoRepository usuarioRepository;
+
+    @Mock
+    private TarefasReativoRepository tarefasRepository;
+
+    @Mock
+    private ContadorTarefasReativoService contadorTarefasService;
+
+    @Mock
+    private SenhaService senhaService;
+
+    @Mock
+    private TransactionalOperator transacao;
+
+    @InjectMocks
+    private UsuarioReativoService usuarioService;
+
+    private CriarUsuariosDto criarUsuarioDto;
+    private UsuarioR2dbc usuario;
+    private UUID usuarioId;
+
+    @BeforeEach
+    void setUp() {
+        usuarioId = UUID.randomUUID();
+
+        criarUsuarioDto = new CriarUsuariosDto(
+                "Usuario Teste",
+                "teste@exemplo.com",
+                "senha123"
+        );
+
+        usuario = UsuarioR2dbc.builder()
+                .id(usuarioId)
+                .nome("Usuario Teste")
+                .email("teste@exemplo.com")
+                .senha("$2a$12$hash")
+                .versao(0L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve criar usuário com a senha em hash e inicializar os contadores na mesma transação")
+    void deveCriarUsuarioComSucesso() {
+        // Arrange
+        semTransacaoReal();
+        when(senhaService.codificar("senha123")).thenReturn("$2a$12$hash");
+        when(usuarioRepository.save(any(UsuarioR2dbc.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(contadorTarefasService.inicializar(any())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(usuarioService.criarUsuario(criarUsuarioDto))
+                .verifyComplete();
+
+        ArgumentCaptor<UsuarioR2dbc> captor = ArgumentCaptor.forClass(UsuarioR2dbc.class);
+        verify(usuarioRepository, never()).findByEmail(any());
+        verify(usuarioRepository, times(1)).save(captor.capture());
+
+        UsuarioR2dbc salvo = captor.getValue();
+        assertThat(salvo.getId()).isNotNull();
+        assertThat(salvo.getNome()).isEqualTo("Usuario Teste");
+        assertThat(salvo.getEmail()).isEqualTo("teste@exemplo.com");
+        assertThat(salvo.getSenha()).isEqualTo("$2a$12$hash");
+        verify(contadorTarefasService, times(1)).inicializar(salvo.getId());
+        verify(transacao, times(1)).transactional(any(Mono.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando email já existe")
+    void deveLancarExcecaoQuandoEmailJaExiste() {
+        // Arrange
+        semTransacaoReal();
+        when(senhaService.codificar("senha123")).thenReturn("$2a$12$hash");
+        when(usuarioRepository.save(any(UsuarioR2dbc.class)))
+                .thenReturn(Mono.error(new DataIntegrityViolationException("Duplicate entry for key 'usuario.uk_usuario_email'")));
+
+        // Act & Assert
+        StepVerifier.create(usuarioService.criarUsuario(criarUsuarioDto))
+                .expectErrorSatisfies(erro -> assertThat(erro)
+                        .isInstanceOf(EmailJaCadastradoException.class)
+                        .hasMessage("Email já existe"))
+                .verify();
+
+        verify(contadorTarefasService, never()).inicializar(any());
+    }
+
+    @Test
+    @DisplayName("Não deve tratar como email duplicado uma violação de outra restrição")
+    void naoDeveTratarOutraViolacaoComoEmailDuplicado() {
+        // Arrange
+        DataIntegrityViolationException nomeLongo =
+                new DataIntegrityViolationException("Data too long for column 'nome' at row 1");
+        semTransacaoReal();
+        when(senhaService.codificar("senha123")).thenReturn("$2a$12$hash");
+        when(usuarioRepository.save(any(UsuarioR2dbc.class))).thenReturn(Mono.error(nomeLongo));
+
+        // Act & Assert
+        StepVerifier.create(usuarioService.criarUsuario(criarUsuarioDto))
+                .expectErrorSatisfies(erro -> assertThat(erro).isSameAs(nomeLongo))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Deve listar resumo paginado dos usuários")
+    void deveListarResumoPaginado() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 20);
+        UsuarioResumoDto resumo = new UsuarioResumoDto(usuarioId, "Usuario Teste", "teste@exemplo.com", 1L, 0L, 2L);
+        when(usuarioRepository.findResumos(pageable)).thenReturn(Mono.just(new PageImpl<>(List.of(resumo), pageable, 1)));
+
+        // Act & Assert
+        StepVerifier.create(usuarioService.listarUsuarios(pageable))
+                .assertNext(pagina -> {
+                    assertThat(pagina.getContent()).containsExactly(resumo);
+                    assertThat(pagina.getTotalElements()).isEqualTo(1);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Deve atualizar apenas os campos informados, com a nova senha em hash")
+    void deveAtualizarUsuario() {
+        // Arrange
+        semTransacaoReal();
+        when(senhaService.codificar("novaSenha")).thenReturn("$2a$12$novo");
+        when(usuarioRepository.findById(usuarioId)).thenReturn(Mono.just(usuario));
+        when(usuarioRepository.save(any(UsuarioR2dbc.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(usuarioService.atualizarUsuario(usuarioId, new AtualizarUsuariosDto(null, "novo@exemplo.com", "novaSenha")))
+                .assertNext(atualizado -> {
+                    assertThat(atualizado.getNome()).isEqualTo("Usuario Teste");
+                    assertThat(atualizado.getEmail()).isEqualTo("novo@exemplo.com");
+                    assertThat(atualizado.getSenha()).isEqualTo("$2a$12$novo");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Não deve calcular hash quando a senha não é informada na atualização")
+    void naoDeveCodificarSemNovaSenha() {
+        // Arrange
+        semTransacaoReal();
+        when(usuarioRepository.findById(usuarioId)).thenReturn(Mono.just(usuario));
+        when(usuarioRepository.save(any(UsuarioR2dbc.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(usuarioService.atualizarUsuario(usuarioId, new AtualizarUsuariosDto("Novo Nome", null, null)))
+                .assertNext(atualizado -> assertThat(atualizado.getSenha()).isEqualTo("$2a$12$hash"))
+                .verifyComplete();
+
+        verifyNoInteractions(senhaService);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao atualizar usuário inexistente")
+    void deveLancarExcecaoAoAtualizarUsuarioInexistente() {
+        // Arrange
+        semTransacaoReal();
+        when(usuarioRepository.findById(usuarioId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(usuarioService.atualizarUsuario(usuarioId, new AtualizarUsuariosDto("Nome", null, null)))
+                .expectErrorMessage("Usuário não encontrado")
+                .verify();
+
+        verify(usuarioRepository, never()).save(any(UsuarioR2dbc.class));
+    }
+
+    @Test
+    @DisplayName("Deve deletar as tarefas antes do usuário")
+    void deveDeletarUsuarioQuandoExistir() {
+        // Arrange
+        when(usuarioRepository.existsById(usuarioId)).thenReturn(Mono.just(true));
+        when(tarefasRepository.deleteByUsuarioId(usuarioId)).thenReturn(Mono.just(2));
+        when(usuarioRepository.deleteById(usuarioId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(usuarioService.deletarUsuario(usuarioId))
+                .verifyComplete();
+
+        InOrder ordem = inOrder(tarefasRepository, usuarioRepository);
+        ordem.verify(tarefasRepository).deleteByUsuarioId(usuarioId);
+        ordem.verify(usuarioRepository).deleteById(usuarioId);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao deletar usuário inexistente")
+    void deveLancarExcecaoAoDeletarUsuarioInexistente() {
+        // Arrange
+        when(usuarioRepository.existsById(usuarioId)).thenReturn(Mono.just(false));
+
+        // Act & Assert
+        StepVerifier.create(usuarioService.deletarUsuario(usuarioId))
+                .expectErrorMessage("Usuário não encontrado")
+                .verify();
+
+        verifyNoInteractions(tarefasRepository);
+        verify(usuarioRepository, never()).deleteById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Deve listar tarefas do usuário")
+    void deveListarTarefasDoUsuario() {
+        // Arrange
+        TarefaResumoDto tarefa = new TarefaResumoDto(UUID.randomUUID(), "Tarefa 1", null, Status.PENDENTE, usuarioId, 0L);
+        when(tarefasRepository.findResumosByUsuarioId(usuarioId)).thenReturn(Flux.just(tarefa));
+
+        // Act & Assert
+        StepVerifier.create(usuarioService.listarTarefasDoUsuario(usuarioId))
+                .expectNext(tarefa)
+                .verifyComplete();
+    }
+
+    // O operador mockado só repassa o publisher; a transação de verdade fica para o R2dbcTransactionManager
+    @SuppressWarnings("unchecked")
+    private void semTransacaoReal() {
+        when(transacao.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+}
@@ -1,12 +1,18 @@
 package com.deigo.apiTarefas.Service;
 
+import com.deigo.apiTarefas.controller.dtoTarefas.TarefaResumoDto;
 import com.deigo.apiTarefas.controller.dtoUsuarios.AtualizarUsuariosDto;
 import com.deigo.apiTarefas.controller.dtoUsuarios.CriarUsuariosDto;
-import com.deigo.apiTarefas.infrastructure.entitys.Tarefas;
+import com.deigo.apiTarefas.controller.dtoUsuarios.UsuarioResumoDto;
 import com.deigo.apiTarefas.infrastructure.entitys.Usuario;
+import com.deigo.apiTarefas.infrastructure.exceptions.EmailJaCadastradoException;
 import com.deigo.apiTarefas.infrastructure.repository.TarefasRepository;
 import com.deigo.apiTarefas.infrastructure.repository.UsuarioRepository;
+import com.deigo.apiTarefas.service.ContadorTarefasService;
+import com.deigo.apiTarefas.service.SenhaService;
 import com.deigo.apiTarefas.service.UsuarioService;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.DataException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,7 +21,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -36,6 +49,15 @@ class UsuarioServiceTest {
     @Mock
     private TarefasRepository tarefasRepository;
 
+    @Mock
+    private ContadorTarefasService contadorTarefasService;
+
+    @Mock
+    private SenhaService senhaService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private UsuarioService usuarioService;
 
@@ -64,8 +86,7 @@ class UsuarioServiceTest {
     @DisplayName("Deve criar usuário com sucesso quando email não existe")
     void deveCriarUsuarioComSucesso() {
         // Arrange
-        when(usuarioRepository.findByEmail(criarUsuarioDto.email()))
-                .thenReturn(Optional.empty());
+        when(senhaService.codificar("senha123")).thenReturn("$2a$12$hash");
         when(usuarioRepository.saveAndFlush(any(Usuario.class)))
                 .thenReturn(usuario);
 
@@ -74,64 +95,109 @@ class UsuarioServiceTest {
 
         // Assert
         ArgumentCaptor<Usuario> usuarioCaptor = ArgumentCaptor.forClass(Usuario.class);
-        verify(usuarioRepository, times(1)).findByEmail(criarUsuarioDto.email());
+        verify(usuarioRepository, never()).findByEmail(any());
         verify(usuarioRepository, times(1)).saveAndFlush(usuarioCaptor.capture());
 
         Usuario usuarioSalvo = usuarioCaptor.getValue();
         assertThat(usuarioSalvo.getNome()).isEqualTo("Usuario Teste");
         assertThat(usuarioSalvo.getEmail()).isEqualTo("teste@exemplo.com");
-        assertThat(usuarioSalvo.getSenha()).isEqualTo("senha123");
+        assertThat(usuarioSalvo.getSenha()).isEqualTo("$2a$12$hash");
+        verify(contadorTarefasService, times(1)).inicializar(usuarioId);
+        verify(transactionManager, times(1)).commit(any());
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando email já existe")
     void deveLancarExcecaoQuandoEmailJaExiste() {
         // Arrange
-        when(usuarioRepository.findByEmail(criarUsuarioDto.email()))
-                .thenReturn(Optional.of(usuario));
+        when(usuarioRepository.saveAndFlush(any(Usuario.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_usuario_email"));
 
         // Act & Assert
         assertThatThrownBy(() -> usuarioService.criarUsuario(criarUsuarioDto))
-                .isInstanceOf(RuntimeException.class)
+                .isInstanceOf(EmailJaCadastradoException.class)
                 .hasMessage("Email já existe");
 
-        verify(usuarioRepository, times(1)).findByEmail(criarUsuarioDto.email());
-        verify(usuarioRepository, never()).saveAndFlush(any(Usuario.class));
+        verify(usuarioRepository, never()).findByEmail(any());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(contadorTarefasService, never()).inicializar(any());
     }
 
     @Test
-    @DisplayName("Deve listar todos os usuários")
-    void deveListarTodosUsuarios() {
+    @DisplayName("Deve reconhecer o índice único de email pelo nome extraído pelo dialeto")
+    void deveReconhecerEmailDuplicadoPeloNomeDaConstraint() {
         // Arrange
-        Usuario usuario2 = new Usuario();
-        usuario2.setId(UUID.randomUUID());
-        usuario2.setNome("Usuario 2");
-        usuario2.setEmail("usuario2@exemplo.com");
+        when(usuarioRepository.saveAndFlush(any(Usuario.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement",
+                        new ConstraintViolationException("Duplicate entry", new SQLException(), "usuario.uk_usuario_email")));
 
-        List<Usuario> usuarios = Arrays.asList(usuario, usuario2);
-        when(usuarioRepository.findAll()).thenReturn(usuarios);
+        // Act & Assert
+        assertThatThrownBy(() -> usuarioService.criarUsuario(criarUsuarioDto))
+                .isInstanceOf(EmailJaCadastradoException.class);
+    }
+
+    @Test
+    @DisplayName("Não deve tratar como email duplicado uma violação de outra restrição")
+    void naoDeveTratarOutraViolacaoComoEmailDuplicado() {
+        // Arrange
+        DataIntegrityViolationException nomeLongo = new DataIntegrityViolationException("could not execute statement",
+                new DataException("Data too long for column 'nome' at row 1", new SQLException()));
+        when(usuarioRepository.saveAndFlush(any(Usuario.class))).thenThrow(nomeLongo);
+
+        // Act & Assert
+        assertThatThrownBy(() -> usuarioService.criarUsuario(criarUsuarioDto))
+                .isSameAs(nomeLongo);
+
+        verify(transactionManager, times(1)).rollback(any());
+        verify(contadorTarefasService, never()).inicializar(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando novo email já pertence a outro usuário")
+    void deveLancarExcecaoQuandoNovoEmailJaExiste() {
+        // Arrange
+        AtualizarUsuariosDto dto = new AtualizarUsuariosDto(null, "outro@exemplo.com", null);
+        when(usuarioRepository.findById(usuarioId)).thenReturn(Optional.of(usuario));
+        when(usuarioRepository.saveAndFlush(any(Usuario.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_usuario_email"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> usuarioService.atualizarUsuario(usuarioId, dto))
+                .isInstanceOf(EmailJaCadastradoException.class);
+    }
+
+    @Test
+    @DisplayName("Deve listar resumo paginado dos usuários")
+    void deveListarResumoPaginadoDosUsuarios() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 20);
+        UsuarioResumoDto resumo1 = new UsuarioResumoDto(usuarioId, "Usuario Teste", "teste@exemplo.com", 2L, 1L, 0L);
+        UsuarioResumoDto resumo2 = new UsuarioResumoDto(UUID.randomUUID(), "Usuario 2", "usuario2@exemplo.com", 0L, 0L, 0L);
+        when(usuarioRepository.findResumos(pageable)).thenReturn(new PageImpl<>(List.of(resumo1, resumo2), pageable, 2));
 
         // Act
-        List<Usuario> resultado = usuarioService.listarUsuarios();
+        Page<UsuarioResumoDto> resultado = usuarioService.listarUsuarios(pageable);
 
         // Assert
-        assertThat(resultado).hasSize(2);
-        assertThat(resultado).containsExactly(usuario, usuario2);
-        verify(usuarioRepository, times(1)).findAll();
+        assertThat(resultado.getContent()).containsExactly(resumo1, resumo2);
+        assertThat(resultado.getTotalElements()).isEqualTo(2);
+        verify(usuarioRepository, times(1)).findResumos(pageable);
+        verify(usuarioRepository, never()).findAll();
     }
 
     @Test
-    @DisplayName("Deve retornar lista vazia quando não há usuários")
+    @DisplayName("Deve retornar página vazia quando não há usuários")
     void deveRetornarListaVaziaQuandoNaoHaUsuarios() {
         // Arrange
-        when(usuarioRepository.findAll()).thenReturn(List.of());
+        Pageable pageable = PageRequest.of(0, 20);
+        when(usuarioRepository.findResumos(pageable)).thenReturn(Page.empty(pageable));
 
         // Act
-        List<Usuario> resultado = usuarioService.listarUsuarios();
+        Page<UsuarioResumoDto> resultado = usuarioService.listarUsuarios(pageable);
 
         // Assert
         assertThat(resultado).isEmpty();
-        verify(usuarioRepository, times(1)).findAll();
+        verify(usuarioRepository, times(1)).findResumos(pageable);
     }
 
     @Test
@@ -144,6 +210,7 @@ class UsuarioServiceTest {
                 "novaSenha123"
         );
 
+        when(senhaService.codificar("novaSenha123")).thenReturn("$2a$12$novoHash");
         when(usuarioRepository.findById(usuarioId)).thenReturn(Optional.of(usuario));
         when(usuarioRepository.saveAndFlush(any(Usuario.class))).thenReturn(usuario);
 
@@ -155,7 +222,7 @@ class UsuarioServiceTest {
         verify(usuarioRepository, times(1)).saveAndFlush(usuario);
         assertThat(usuario.getNome()).isEqualTo("Nome Atualizado");
         assertThat(usuario.getEmail()).isEqualTo("novoemail@exemplo.com");
-        assertThat(usuario.getSenha()).isEqualTo("novaSenha123");
+        assertThat(usuario.getSenha()).isEqualTo("$2a$12$novoHash");
     }
 
     @Test
@@ -178,6 +245,7 @@ class UsuarioServiceTest {
         assertThat(usuario.getNome()).isEqualTo("Apenas Nome Novo");
         assertThat(usuario.getEmail()).isEqualTo("teste@exemplo.com"); // Não mudou
         assertThat(usuario.getSenha()).isEqualTo("senha123"); // Não mudou
+        verifyNoInteractions(senhaService);
     }
 
     @Test
@@ -190,6 +258,7 @@ class UsuarioServiceTest {
                 "senhaAtualizada"
         );
 
+        when(senhaService.codificar("senhaAtualizada")).thenReturn("$2a$12$hashAtualizado");
         when(usuarioRepository.findById(usuarioId)).thenReturn(Optional.of(usuario));
         when(usuarioRepository.saveAndFlush(any(Usuario.class))).thenReturn(usuario);
 
@@ -199,7 +268,7 @@ class UsuarioServiceTest {
         // Assert
         assertThat(usuario.getNome()).isEqualTo("Usuario Teste"); // Não mudou
         assertThat(usuario.getEmail()).isEqualTo("email@atualizado.com");
-        assertThat(usuario.getSenha()).isEqualTo("senhaAtualizada");
+        assertThat(usuario.getSenha()).isEqualTo("$2a$12$hashAtualizado");
     }
 
     @Test
@@ -259,35 +328,32 @@ class UsuarioServiceTest {
     @DisplayName("Deve listar tarefas do usuário")
     void deveListarTarefasDoUsuario() {
         // Arrange
-        Tarefas tarefa1 = new Tarefas();
-        tarefa1.setTitulo("Tarefa 1");
-
-        Tarefas tarefa2 = new Tarefas();
-        tarefa2.setTitulo("Tarefa 2");
+        TarefaResumoDto tarefa1 = new TarefaResumoDto(UUID.randomUUID(), "Tarefa 1", null, null, usuarioId, 0L);
+        TarefaResumoDto tarefa2 = new TarefaResumoDto(UUID.randomUUID(), "Tarefa 2", null, null, usuarioId, 0L);
 
-        List<Tarefas> tarefas = Arrays.asList(tarefa1, tarefa2);
-        when(tarefasRepository.findByUsuarioId(usuarioId)).thenReturn(tarefas);
+        List<TarefaResumoDto> tarefas = Arrays.asList(tarefa1, tarefa2);
+        when(tarefasRepository.findResumosByUsuarioId(usuarioId)).thenReturn(tarefas);
 
         // Act
-        List<Tarefas> resultado = usuarioService.listarTarefasDoUsuario(usuarioId);
+        List<TarefaResumoDto> resultado = usuarioService.listarTarefasDoUsuario(usuarioId);
 
         // Assert
         assertThat(resultado).hasSize(2);
         assertThat(resultado).containsExactly(tarefa1, tarefa2);
-        verify(tarefasRepository, times(1)).findByUsuarioId(usuarioId);
+        verify(tarefasRepository, times(1)).findResumosByUsuarioId(usuarioId);
     }
 
     @Test
     @DisplayName("Deve retornar lista vazia quando usuário não tem tarefas")
     void deveRetornarListaVaziaQuandoUsuarioNaoTemTarefas() {
         // Arrange
-        when(tarefasRepository.findByUsuarioId(usuarioId)).thenReturn(List.of());
+        when(tarefasRepository.findResumosByUsuarioId(usuarioId)).thenReturn(List.of());
 
         // Act
-        List<Tarefas> resultado = usuarioService.listarTarefasDoUsuario(usuarioId);
+        List<TarefaResumoDto> resultado = usuarioService.listarTarefasDoUsuario(usuarioId);
 
         // Assert
         assertThat(resultado).isEmpty();
-        verify(tarefasRepository, times(1)).findByUsuarioId(usuarioId);
+        verify(tarefasRepository, times(1)).findResumosByUsuarioId(usuarioId);
     }
 }